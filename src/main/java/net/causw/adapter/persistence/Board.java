@@ -9,6 +9,7 @@ import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -19,7 +20,9 @@ import java.util.Set;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "TB_BOARD")
+@Table(name = "TB_BOARD", indexes = {
+        @Index(name = "idx_board_category", columnList = "category")
+})
 public class Board extends BaseEntity {
     @Column(name = "name", nullable = false)
     private String name;
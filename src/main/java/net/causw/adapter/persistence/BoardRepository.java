@@ -17,4 +17,9 @@ public interface BoardRepository extends JpaRepository<Board, String> {
 
     @Query(value = "SELECT * FROM TB_BOARD where TB_BOARD.category = 'APP_NOTICE'", nativeQuery = true)
     Optional<Board> findAppNotice();
+
+    @Query(value = "SELECT CONCAT(COUNT(*), ',', MAX(b.updated_at)) " +
+            "FROM TB_BOARD AS b " +
+            "WHERE b.circle_id IS NULL AND b.is_deleted = false", nativeQuery = true)
+    String findVersion();
 }
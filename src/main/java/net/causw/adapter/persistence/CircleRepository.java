@@ -2,6 +2,7 @@ package net.causw.adapter.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +16,11 @@ public interface CircleRepository extends JpaRepository<Circle, String> {
     Optional<Circle> findByName(String name);
 
     List<Circle> findAllByIsDeletedIsFalse();
+
+    @Query(value = "SELECT CONCAT(c.updated_at, ',', u.updated_at, ',', " +
+            "(SELECT COUNT(*) FROM TB_CIRCLE_MEMBER AS m WHERE m.circle_id = c.id AND m.status = 'MEMBER')) " +
+            "FROM TB_CIRCLE AS c " +
+            "LEFT JOIN TB_USER AS u ON c.leader_id = u.id " +
+            "WHERE c.id = :id", nativeQuery = true)
+    Optional<String> findVersion(@Param("id") String id);
 }
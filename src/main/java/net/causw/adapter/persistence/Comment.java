@@ -10,6 +10,7 @@ import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -20,7 +21,9 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "TB_COMMENT")
+@Table(name = "TB_COMMENT", indexes = {
+        @Index(name = "idx_comment_parent_created_at", columnList = "parent_comment_id, created_at, id")
+})
 public class Comment extends BaseEntity {
     @Column(name = "content", nullable = false)
     private String content;
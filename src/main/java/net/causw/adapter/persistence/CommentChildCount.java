@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence;
+
+/**
+ * Projection of the number of child comments per parent comment, selected by {@link CommentRepository}.
+ */
+public interface CommentChildCount {
+    String getParentCommentId();
+
+    Long getNumChildComment();
+}
@@ -1,13 +1,89 @@
 package net.causw.adapter.persistence;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, String> {
-    Page<Comment> findByPost_IdAndParentCommentIsNullOrderByCreatedAtAsc(String postId, Pageable pageable);
+    // Writer and its locker are fetched in the same query, as the mapper reads every writer
+    @Query(value = "SELECT c FROM Comment c " +
+            "JOIN FETCH c.writer w " +
+            "LEFT JOIN FETCH w.locker l " +
+            "LEFT JOIN FETCH l.location " +
+            "WHERE c.post.id = :post_id AND c.parentComment IS NULL " +
+            "ORDER BY c.createdAt ASC")
+    Slice<Comment> findRootByPostId(@Param("post_id") String postId, Pageable pageable);
+
+    @Query(value = "SELECT c FROM Comment c " +
+            "JOIN FETCH c.writer w " +
+            "LEFT JOIN FETCH w.locker l " +
+            "LEFT JOIN FETCH l.location " +
+            "WHERE c.parentComment.id IN :parent_comment_ids " +
+            "ORDER BY c.createdAt ASC")
+    List<Comment> findByParentCommentIds(@Param("parent_comment_ids") Collection<String> parentCommentIds);
+
+    // First N child comments of each parent comment, ordered the same as the child comment page
+    @Query(value = "SELECT ranked.id FROM (" +
+            "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at ASC, c.id ASC) AS row_num " +
+            "FROM tb_comment AS c " +
+            "WHERE c.parent_comment_id IN :parent_comment_ids) AS ranked " +
+            "WHERE ranked.row_num <= :limit", nativeQuery = true)
+    List<String> findTopNIdsByParentCommentIds(
+            @Param("parent_comment_ids") Collection<String> parentCommentIds,
+            @Param("limit") Integer limit
+    );
+
+    @Query(value = "SELECT c FROM Comment c " +
+            "JOIN FETCH c.writer w " +
+            "LEFT JOIN FETCH w.locker l " +
+            "LEFT JOIN FETCH l.location " +
+            "WHERE c.id IN :ids " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByIds(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT c.parentComment.id AS parentCommentId, COUNT(c) AS numChildComment " +
+            "FROM Comment c " +
+            "WHERE c.parentComment.id IN :parent_comment_ids " +
+            "GROUP BY c.parentComment.id")
+    List<CommentChildCount> countByParentCommentIds(@Param("parent_comment_ids") Collection<String> parentCommentIds);
+
+    @Query(value = "SELECT c FROM Comment c " +
+            "JOIN FETCH c.writer w " +
+            "LEFT JOIN FETCH w.locker l " +
+            "LEFT JOIN FETCH l.location " +
+            "WHERE c.parentComment.id = :parent_comment_id " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findByParentCommentId(@Param("parent_comment_id") String parentCommentId, Pageable pageable);
+
+    @Query(value = "SELECT c FROM Comment c " +
+            "JOIN FETCH c.writer w " +
+            "LEFT JOIN FETCH w.locker l " +
+            "LEFT JOIN FETCH l.location " +
+            "WHERE c.parentComment.id = :parent_comment_id " +
+            "AND (c.createdAt > :created_at OR (c.createdAt = :created_at AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findByParentCommentIdAfterCursor(
+            @Param("parent_comment_id") String parentCommentId,
+            @Param("created_at") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
+    Long countByPost_IdAndParentCommentIsNull(String postId);
 
     Long countByPost_IdAndIsDeletedIsFalse(String postId);
+
+    @Query(value = "SELECT c.post.id AS postId, COUNT(c) AS numComment " +
+            "FROM Comment c " +
+            "WHERE c.post.id IN :post_ids AND c.isDeleted = false " +
+            "GROUP BY c.post.id")
+    List<PostCommentCount> countByPostIds(@Param("post_ids") Collection<String> postIds);
 }
@@ -0,0 +1,61 @@
+package net.causw.adapter.persistence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Approximate row counts keyed by the id of their parent (board, post, ...).
+ * Entries expire after a short time and are evicted by the owning port when it writes,
+ * so a page total no longer costs a COUNT query on every request.
+ */
+public class CountCache {
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, Entry> entryMap;
+
+    public CountCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.entryMap = new ConcurrentHashMap<>();
+    }
+
+    public Long get(String key, Supplier<Long> loader) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = this.entryMap.get(key);
+        if (entry != null && entry.expiredAt > now) {
+            return entry.count;
+        }
+
+        Long count = loader.get();
+
+        if (this.entryMap.size() >= this.maxSize) {
+            this.entryMap.values().removeIf(expiredEntry -> expiredEntry.expiredAt <= now);
+            if (this.entryMap.size() >= this.maxSize) {
+                this.entryMap.clear();
+            }
+        }
+        this.entryMap.put(key, new Entry(count, now + this.ttlMillis));
+
+        return count;
+    }
+
+    public void evict(String key) {
+        this.entryMap.remove(key);
+    }
+
+    public void clear() {
+        this.entryMap.clear();
+    }
+
+    private static class Entry {
+        private final Long count;
+        private final long expiredAt;
+
+        private Entry(Long count, long expiredAt) {
+            this.count = count;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
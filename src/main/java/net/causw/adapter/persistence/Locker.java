@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.causw.domain.model.LockerDomainModel;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -14,9 +15,11 @@ import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import java.util.Optional;
 
+// Only the changed columns are written, so enabling or disabling does not overwrite a concurrent claim of the user
 @Getter
 @Setter
 @Entity
+@DynamicUpdate
 @NoArgsConstructor
 @Table(name = "TB_LOCKER")
 public class Locker extends BaseEntity {
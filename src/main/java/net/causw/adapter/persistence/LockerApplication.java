@@ -0,0 +1,70 @@
+package net.causw.adapter.persistence;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.causw.domain.model.LockerApplicationDomainModel;
+import net.causw.domain.model.LockerPreference;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(name = "TB_LOCKER_APPLICATION")
+public class LockerApplication extends BaseEntity {
+    private static final String DELIMITER = ",";
+    private static final String LOCKER_NUMBER_PREFIX = "N:";
+    private static final String LOCATION_PREFIX = "L:";
+
+    @OneToOne
+    @JoinColumn(name = "user_id", unique = true, nullable = false)
+    private User user;
+
+    // Ranked preferences in order, e.g. "N:12,L:{location id}"
+    @Column(name = "preferences", nullable = false, length = 1000)
+    private String preferences;
+
+    private LockerApplication(
+            String id,
+            User user,
+            String preferences
+    ) {
+        super(id);
+        this.user = user;
+        this.preferences = preferences;
+    }
+
+    public static LockerApplication from(LockerApplicationDomainModel lockerApplicationDomainModel) {
+        return new LockerApplication(
+                lockerApplicationDomainModel.getId(),
+                User.from(lockerApplicationDomainModel.getUser()),
+                encode(lockerApplicationDomainModel.getPreferenceList())
+        );
+    }
+
+    public static String encode(List<LockerPreference> preferenceList) {
+        return preferenceList
+                .stream()
+                .map(preference -> preference.isLockerNumber()
+                        ? LOCKER_NUMBER_PREFIX + preference.getLockerNumber()
+                        : LOCATION_PREFIX + preference.getLocationId())
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    public List<LockerPreference> getPreferenceList() {
+        return Arrays.stream(this.preferences.split(DELIMITER))
+                .map(preference -> preference.startsWith(LOCKER_NUMBER_PREFIX)
+                        ? LockerPreference.ofLockerNumber(Long.parseLong(preference.substring(LOCKER_NUMBER_PREFIX.length())))
+                        : LockerPreference.ofLocation(preference.substring(LOCATION_PREFIX.length())))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,29 @@
+package net.causw.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LockerApplicationRepository extends JpaRepository<LockerApplication, String> {
+    Optional<LockerApplication> findByUser_Id(String userId);
+
+    @Query(value = "SELECT a FROM LockerApplication a JOIN FETCH a.user")
+    List<LockerApplication> findAllWithUser();
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM TB_LOCKER_APPLICATION)", nativeQuery = true)
+    boolean existsAny();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM TB_LOCKER_APPLICATION " +
+            "WHERE TB_LOCKER_APPLICATION.id IN :ids", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,142 @@
+package net.causw.adapter.persistence;
+
+import net.causw.domain.model.LockerLocationCountDomainModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Total and available locker counts per location, kept in memory and adjusted as the lockers change.
+ * Changes made by this instance are applied after their commit; the whole snapshot is reloaded from one grouped query
+ * when it is invalidated or older than the refresh period, which bounds the drift from other instances.
+ * A change whose commit may overlap a reload may already be counted by it, so it is not applied but reloaded again.
+ * Reads take the current counts without locking, as every change replaces them together with their version.
+ */
+@Component
+public class LockerCountSnapshot {
+    private static final long REFRESH_MILLIS = 60 * 1000L;
+    private static final LockerLocationCountDomainModel EMPTY_COUNT = LockerLocationCountDomainModel.of(null, 0L, 0L);
+
+    private final LockerRepository lockerRepository;
+    private volatile Counts counts;
+    private volatile long loadedAt;
+    private long loadStartedAt;
+    private long loadFinishedAt;
+    private long version;
+
+    public LockerCountSnapshot(LockerRepository lockerRepository) {
+        this.lockerRepository = lockerRepository;
+        this.counts = new Counts(Collections.emptyMap(), "0-0");
+        this.loadedAt = 0L;
+        this.loadStartedAt = 0L;
+        this.loadFinishedAt = 0L;
+        this.version = 0L;
+    }
+
+    public Map<String, LockerLocationCountDomainModel> get() {
+        return this.current().countMap;
+    }
+
+    // Changes whenever the counts change, so it can be the entity tag of a response built from them
+    public String getVersion() {
+        return this.current().version;
+    }
+
+    public void adjust(String locationId, long enableDelta, long totalDelta) {
+        if (enableDelta == 0 && totalDelta == 0) {
+            return;
+        }
+
+        // The change commits between the time it is made and the time its callback runs
+        long adjustedAt = System.currentTimeMillis();
+        this.afterCommit(() -> this.apply(locationId, enableDelta, totalDelta, adjustedAt, System.currentTimeMillis()));
+    }
+
+    public void invalidate() {
+        this.loadedAt = 0L;
+        this.afterCommit(() -> this.loadedAt = 0L);
+    }
+
+    private Counts current() {
+        if (System.currentTimeMillis() - this.loadedAt >= REFRESH_MILLIS) {
+            this.reload();
+        }
+
+        return this.counts;
+    }
+
+    private synchronized void reload() {
+        if (System.currentTimeMillis() - this.loadedAt < REFRESH_MILLIS) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, LockerLocationCountDomainModel> countMap = Collections.unmodifiableMap(
+                this.lockerRepository.findCountGroupByLocation()
+                        .stream()
+                        .collect(Collectors.toMap(
+                                LockerLocationCount::getLocationId,
+                                lockerLocationCount -> LockerLocationCountDomainModel.of(
+                                        lockerLocationCount.getLocationId(),
+                                        lockerLocationCount.getEnableLockerCount(),
+                                        lockerLocationCount.getTotalLockerCount()
+                                )
+                        ))
+        );
+        this.counts = new Counts(countMap, now + "-" + ++this.version);
+        this.loadStartedAt = now;
+        this.loadFinishedAt = System.currentTimeMillis();
+        this.loadedAt = now;
+    }
+
+    private synchronized void apply(String locationId, long enableDelta, long totalDelta, long adjustedAt, long committedAt) {
+        // Committed before the last reload started, so already counted by it
+        if (committedAt < this.loadStartedAt) {
+            return;
+        }
+
+        // Committed while the last reload was reading, so it may be counted or not
+        if (adjustedAt <= this.loadFinishedAt) {
+            this.loadedAt = 0L;
+            return;
+        }
+
+        Map<String, LockerLocationCountDomainModel> nextCountMap = new HashMap<>(this.counts.countMap);
+        LockerLocationCountDomainModel count = nextCountMap.getOrDefault(locationId, EMPTY_COUNT);
+        nextCountMap.put(locationId, LockerLocationCountDomainModel.of(
+                locationId,
+                Math.max(0L, count.getEnableLockerCount() + enableDelta),
+                Math.max(0L, count.getTotalLockerCount() + totalDelta)
+        ));
+        this.counts = new Counts(Collections.unmodifiableMap(nextCountMap), this.loadedAt + "-" + ++this.version);
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+            return;
+        }
+
+        runnable.run();
+    }
+
+    private static class Counts {
+        private final Map<String, LockerLocationCountDomainModel> countMap;
+        private final String version;
+
+        private Counts(Map<String, LockerLocationCountDomainModel> countMap, String version) {
+            this.countMap = countMap;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package net.causw.adapter.persistence;
+
+public interface LockerLocationCount {
+    String getLocationId();
+
+    Long getEnableLockerCount();
+
+    Long getTotalLockerCount();
+}
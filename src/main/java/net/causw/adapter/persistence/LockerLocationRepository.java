@@ -1,6 +1,7 @@
 package net.causw.adapter.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -8,4 +9,9 @@ import java.util.Optional;
 @Repository
 public interface LockerLocationRepository extends JpaRepository<LockerLocation, String> {
     Optional<LockerLocation> findByName(String name);
+
+    // Locker counts are versioned by their in-memory snapshot, so only the locations themselves are read here
+    @Query(value = "SELECT CONCAT(COUNT(*), ',', MAX(updated_at)) " +
+            "FROM TB_LOCKER_LOCATION", nativeQuery = true)
+    String findVersion();
 }
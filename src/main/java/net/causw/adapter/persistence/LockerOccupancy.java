@@ -0,0 +1,11 @@
+package net.causw.adapter.persistence;
+
+public interface LockerOccupancy {
+    Long getLockerNumber();
+
+    String getLocationId();
+
+    Boolean getIsActive();
+
+    Boolean getIsOccupied();
+}
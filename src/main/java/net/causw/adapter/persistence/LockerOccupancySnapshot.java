@@ -0,0 +1,126 @@
+package net.causw.adapter.persistence;
+
+import net.causw.domain.model.LockerOccupancyDomainModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Existence, active state and occupancy of the lockers of every location, as bitsets indexed by locker number.
+ * Each locker change made by this instance is applied after its commit and bumps the version of its location;
+ * the whole snapshot is reloaded from a join-free query when it is older than the refresh period,
+ * which bounds the drift from other instances. Every change replaces the grid of its location, so reads take no lock.
+ */
+@Component
+public class LockerOccupancySnapshot {
+    private static final long REFRESH_MILLIS = 60 * 1000L;
+    private static final Grid EMPTY_GRID = new Grid(new BitSet(), new BitSet(), new BitSet(), 0L);
+
+    private final LockerRepository lockerRepository;
+    private volatile Map<String, Grid> gridMap;
+    private volatile long loadedAt;
+    private long version;
+
+    public LockerOccupancySnapshot(LockerRepository lockerRepository) {
+        this.lockerRepository = lockerRepository;
+        this.gridMap = Collections.emptyMap();
+        this.loadedAt = 0L;
+        this.version = 0L;
+    }
+
+    public LockerOccupancyDomainModel get(String locationId) {
+        if (System.currentTimeMillis() - this.loadedAt >= REFRESH_MILLIS) {
+            this.reload();
+        }
+
+        Grid grid = this.gridMap.getOrDefault(locationId, EMPTY_GRID);
+
+        return LockerOccupancyDomainModel.of(
+                locationId,
+                grid.exist.toByteArray(),
+                grid.active.toByteArray(),
+                grid.occupied.toByteArray(),
+                this.loadedAt + "-" + grid.version
+        );
+    }
+
+    public void put(String locationId, Long lockerNumber, boolean isActive, boolean isOccupied) {
+        this.afterCommit(() -> this.apply(locationId, lockerNumber, true, isActive, isOccupied));
+    }
+
+    public void remove(String locationId, Long lockerNumber) {
+        this.afterCommit(() -> this.apply(locationId, lockerNumber, false, false, false));
+    }
+
+    private synchronized void reload() {
+        if (System.currentTimeMillis() - this.loadedAt < REFRESH_MILLIS) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, Grid> nextGridMap = new HashMap<>();
+        this.lockerRepository.findOccupancy().forEach(lockerOccupancy -> {
+            Grid grid = nextGridMap.computeIfAbsent(
+                    lockerOccupancy.getLocationId(),
+                    locationId -> new Grid(new BitSet(), new BitSet(), new BitSet(), 0L)
+            );
+            int index = Math.toIntExact(lockerOccupancy.getLockerNumber());
+            grid.exist.set(index);
+            grid.active.set(index, Boolean.TRUE.equals(lockerOccupancy.getIsActive()));
+            grid.occupied.set(index, Boolean.TRUE.equals(lockerOccupancy.getIsOccupied()));
+        });
+
+        this.gridMap = Collections.unmodifiableMap(nextGridMap);
+        this.loadedAt = now;
+    }
+
+    private synchronized void apply(String locationId, Long lockerNumber, boolean isExist, boolean isActive, boolean isOccupied) {
+        Grid grid = this.gridMap.getOrDefault(locationId, EMPTY_GRID);
+        BitSet exist = (BitSet) grid.exist.clone();
+        BitSet active = (BitSet) grid.active.clone();
+        BitSet occupied = (BitSet) grid.occupied.clone();
+
+        int index = Math.toIntExact(lockerNumber);
+        exist.set(index, isExist);
+        active.set(index, isActive);
+        occupied.set(index, isOccupied);
+
+        Map<String, Grid> nextGridMap = new HashMap<>(this.gridMap);
+        nextGridMap.put(locationId, new Grid(exist, active, occupied, ++this.version));
+        this.gridMap = Collections.unmodifiableMap(nextGridMap);
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+            return;
+        }
+
+        runnable.run();
+    }
+
+    // Never modified once in the map
+    private static class Grid {
+        private final BitSet exist;
+        private final BitSet active;
+        private final BitSet occupied;
+        private final long version;
+
+        private Grid(BitSet exist, BitSet active, BitSet occupied, long version) {
+            this.exist = exist;
+            this.active = active;
+            this.occupied = occupied;
+            this.version = version;
+        }
+    }
+}
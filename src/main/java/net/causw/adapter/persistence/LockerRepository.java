@@ -1,9 +1,11 @@
 package net.causw.adapter.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,13 +16,39 @@ public interface LockerRepository extends JpaRepository<Locker, String> {
 
     List<Locker> findByLocation_Id(String locationId);
 
-    @Query(value = "SELECT COUNT(*) " +
-            "FROM TB_LOCKER  " +
-            "WHERE location_id = :location_id AND is_active = true AND user_id IS NULL", nativeQuery = true)
-    long getEnableLockerCountByLocation(@Param("location_id") String locationId);
+    @Query(value = "SELECT l FROM Locker l JOIN FETCH l.location LEFT JOIN FETCH l.user")
+    List<Locker> findAllWithUser();
+
+    @Query(value = "SELECT l.location_id AS \"locationId\", " +
+            "SUM(CASE WHEN l.is_active = true AND l.user_id IS NULL THEN 1 ELSE 0 END) AS \"enableLockerCount\", " +
+            "COUNT(*) AS \"totalLockerCount\" " +
+            "FROM TB_LOCKER AS l " +
+            "GROUP BY l.location_id", nativeQuery = true)
+    List<LockerLocationCount> findCountGroupByLocation();
+
+    @Query(value = "SELECT l.locker_number AS \"lockerNumber\", l.location_id AS \"locationId\", " +
+            "l.is_active AS \"isActive\", (l.user_id IS NOT NULL) AS \"isOccupied\" " +
+            "FROM TB_LOCKER AS l", nativeQuery = true)
+    List<LockerOccupancy> findOccupancy();
 
     @Query(value = "SELECT COUNT(*) " +
             "FROM TB_LOCKER " +
             "WHERE TB_LOCKER.location_id = :location_id", nativeQuery = true)
     long getLockerCountByLocation(@Param("location_id") String locationId);
+
+    // Claims for the same user wait here for each other until the first one commits, so the claim that follows
+    // sees the locker the first one took; the rows are locked in id order, so chunks of users can not deadlock
+    @Transactional
+    @Query(value = "SELECT u.id FROM TB_USER AS u WHERE u.id IN :user_ids ORDER BY u.id FOR UPDATE", nativeQuery = true)
+    List<String> lockUsers(@Param("user_ids") List<String> userIds);
+
+    // The condition is checked by the row update itself, so only one of concurrent claims can succeed,
+    // and a user who already holds a locker can not claim another one, once the user is locked by lockUsers
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE TB_LOCKER " +
+            "SET user_id = :user_id, updated_at = NOW() " +
+            "WHERE TB_LOCKER.id = :id AND TB_LOCKER.user_id IS NULL AND TB_LOCKER.is_active = true " +
+            "AND NOT EXISTS (SELECT 1 FROM TB_LOCKER AS o WHERE o.user_id = :user_id)", nativeQuery = true)
+    int claim(@Param("id") String id, @Param("user_id") String userId);
 }
@@ -8,6 +8,7 @@ import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -16,7 +17,9 @@ import javax.persistence.Table;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "TB_POST")
+@Table(name = "TB_POST", indexes = {
+        @Index(name = "idx_post_board_created_at", columnList = "board_id, created_at, id")
+})
 public class Post extends BaseEntity {
     @Column(name = "title", nullable = false)
     private String title;
@@ -36,6 +39,15 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
 
+    // Counters are only changed by native UPDATE statements, so saving a loaded post never overwrites them
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long commentCount = 0L;
+
+    @Column(name = "view_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewCount = 0L;
+
     private Post(
             String title,
             String content,
@@ -66,6 +78,26 @@ public class Post extends BaseEntity {
         this.board = board;
     }
 
+    private Post(
+            String id,
+            String title,
+            String content,
+            User writer,
+            Boolean isDeleted,
+            Board board,
+            Long commentCount,
+            Long viewCount
+    ) {
+        super(id);
+        this.title = title;
+        this.content = content;
+        this.writer = writer;
+        this.isDeleted = isDeleted;
+        this.board = board;
+        this.commentCount = commentCount;
+        this.viewCount = viewCount;
+    }
+
     public static Post of(
             String title,
             String content,
@@ -107,7 +139,9 @@ public class Post extends BaseEntity {
                 postDomainModel.getContent(),
                 User.from(postDomainModel.getWriter()),
                 postDomainModel.getIsDeleted(),
-                Board.from(postDomainModel.getBoard())
+                Board.from(postDomainModel.getBoard()),
+                postDomainModel.getCommentCount(),
+                postDomainModel.getViewCount()
         );
     }
 }
@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence;
+
+/**
+ * Projection of the number of comments not deleted per post, selected by {@link CommentRepository}.
+ */
+public interface PostCommentCount {
+    String getPostId();
+
+    Long getNumComment();
+}
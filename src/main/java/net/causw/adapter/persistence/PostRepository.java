@@ -1,15 +1,127 @@
 package net.causw.adapter.persistence;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, String> {
-    Page<Post> findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId, Pageable pageable);
+    Long countByBoard_IdAndIsDeletedIsFalse(String boardId);
+
     Optional<Post> findTop1ByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(String boardId);
+
+    @Query(value = "SELECT p.id AS \"id\", p.title AS \"title\", u.name AS \"writerName\", " +
+            "u.admission_year AS \"writerAdmissionYear\", p.board_id AS \"boardId\", " +
+            "p.comment_count AS \"commentCount\", p.view_count AS \"viewCount\", p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\" " +
+            "FROM TB_POST AS p " +
+            "JOIN TB_USER AS u ON p.user_id = u.id " +
+            "WHERE p.board_id = :board_id AND p.is_deleted = false " +
+            "ORDER BY p.created_at DESC, p.id DESC", nativeQuery = true)
+    Slice<PostSummary> findSummaryByBoardId(@Param("board_id") String boardId, Pageable pageable);
+
+    @Query(value = "SELECT p.id AS \"id\", p.title AS \"title\", u.name AS \"writerName\", " +
+            "u.admission_year AS \"writerAdmissionYear\", p.board_id AS \"boardId\", " +
+            "p.comment_count AS \"commentCount\", p.view_count AS \"viewCount\", p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\" " +
+            "FROM TB_POST AS p " +
+            "JOIN TB_USER AS u ON p.user_id = u.id " +
+            "WHERE p.board_id = :board_id AND p.is_deleted = false " +
+            "AND (p.created_at, p.id) < (:created_at, :id) " +
+            "ORDER BY p.created_at DESC, p.id DESC", nativeQuery = true)
+    Slice<PostSummary> findSummaryByBoardIdBeforeCursor(
+            @Param("board_id") String boardId,
+            @Param("created_at") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT ranked.id AS \"id\", ranked.title AS \"title\", u.name AS \"writerName\", " +
+            "u.admission_year AS \"writerAdmissionYear\", ranked.board_id AS \"boardId\", " +
+            "ranked.comment_count AS \"commentCount\", ranked.view_count AS \"viewCount\", ranked.created_at AS \"createdAt\", ranked.updated_at AS \"updatedAt\", " +
+            "ranked.total_count AS \"totalCount\" " +
+            "FROM (" +
+            "SELECT p.id, p.title, p.user_id, p.board_id, p.comment_count, p.view_count, p.created_at, p.updated_at, " +
+            "ROW_NUMBER() OVER (PARTITION BY p.board_id ORDER BY p.created_at DESC, p.id DESC) AS row_num, " +
+            "COUNT(*) OVER (PARTITION BY p.board_id) AS total_count " +
+            "FROM TB_POST AS p " +
+            "WHERE p.board_id IN :board_ids AND p.is_deleted = false" +
+            ") AS ranked " +
+            "JOIN TB_USER AS u ON ranked.user_id = u.id " +
+            "WHERE ranked.row_num <= :size " +
+            "ORDER BY ranked.board_id, ranked.created_at DESC, ranked.id DESC", nativeQuery = true)
+    List<PostTopSummary> findTopNSummaryByBoardIds(@Param("board_ids") Collection<String> boardIds, @Param("size") Integer size);
+
+    @Query(value = "SELECT p.id AS \"id\", p.title AS \"title\", u.name AS \"writerName\", " +
+            "u.admission_year AS \"writerAdmissionYear\", p.board_id AS \"boardId\", " +
+            "p.comment_count AS \"commentCount\", p.view_count AS \"viewCount\", p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\", " +
+            "SUBSTRING(p.content FROM GREATEST(STRPOS(LOWER(p.content), LOWER(:keyword)) - 40, 1) FOR 120) AS \"snippet\" " +
+            "FROM TB_POST AS p " +
+            "JOIN TB_USER AS u ON p.user_id = u.id " +
+            "WHERE p.board_id IN :board_ids AND p.is_deleted = false " +
+            "AND (p.title ILIKE :pattern OR p.content ILIKE :pattern) " +
+            "ORDER BY p.created_at DESC, p.id DESC", nativeQuery = true)
+    Slice<PostSearchResult> search(
+            @Param("board_ids") Collection<String> boardIds,
+            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT p.id AS \"id\", p.title AS \"title\", u.name AS \"writerName\", " +
+            "u.admission_year AS \"writerAdmissionYear\", p.board_id AS \"boardId\", " +
+            "p.comment_count AS \"commentCount\", p.view_count AS \"viewCount\", p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\", " +
+            "SUBSTRING(p.content FROM GREATEST(STRPOS(LOWER(p.content), LOWER(:keyword)) - 40, 1) FOR 120) AS \"snippet\" " +
+            "FROM TB_POST AS p " +
+            "JOIN TB_USER AS u ON p.user_id = u.id " +
+            "WHERE p.board_id IN :board_ids AND p.is_deleted = false " +
+            "AND (p.title ILIKE :pattern OR p.content ILIKE :pattern) " +
+            "AND (p.created_at, p.id) < (:created_at, :id) " +
+            "ORDER BY p.created_at DESC, p.id DESC", nativeQuery = true)
+    Slice<PostSearchResult> searchBeforeCursor(
+            @Param("board_ids") Collection<String> boardIds,
+            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
+            @Param("created_at") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
+    // The view count is left out, as it is flushed every few seconds on exactly the posts being read
+    @Query(value = "SELECT CONCAT(p.updated_at, ',', p.comment_count, ',', b.updated_at, ',', u.updated_at, ',', " +
+            "(SELECT MAX(c.updated_at) FROM TB_COMMENT AS c WHERE c.post_id = p.id)) AS \"version\", " +
+            "p.is_deleted AS \"isDeleted\", b.is_deleted AS \"boardIsDeleted\", b.circle_id AS \"circleId\" " +
+            "FROM TB_POST AS p " +
+            "JOIN TB_BOARD AS b ON p.board_id = b.id " +
+            "JOIN TB_USER AS u ON p.user_id = u.id " +
+            "WHERE p.id = :id", nativeQuery = true)
+    Optional<PostVersion> findVersion(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE TB_POST " +
+            "SET comment_count = comment_count + 1 " +
+            "WHERE TB_POST.id = :id", nativeQuery = true)
+    int increaseCommentCount(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE TB_POST " +
+            "SET comment_count = GREATEST(comment_count - 1, 0) " +
+            "WHERE TB_POST.id = :id", nativeQuery = true)
+    int decreaseCommentCount(@Param("id") String id);
+
+    @Query(value = "SELECT p.id " +
+            "FROM TB_POST AS p " +
+            "WHERE p.id > :last_id " +
+            "ORDER BY p.id LIMIT :size", nativeQuery = true)
+    List<String> findIdsAfter(@Param("last_id") String lastId, @Param("size") Integer size);
 }
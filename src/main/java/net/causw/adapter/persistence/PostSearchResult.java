@@ -0,0 +1,8 @@
+package net.causw.adapter.persistence;
+
+/**
+ * {@link PostSummary} with the part of the content around the first keyword match.
+ */
+public interface PostSearchResult extends PostSummary {
+    String getSnippet();
+}
@@ -0,0 +1,26 @@
+package net.causw.adapter.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of TB_POST joined with the writer name, selected by the list queries of {@link PostRepository}.
+ */
+public interface PostSummary {
+    String getId();
+
+    String getTitle();
+
+    String getWriterName();
+
+    Integer getWriterAdmissionYear();
+
+    String getBoardId();
+
+    Long getCommentCount();
+
+    Long getViewCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
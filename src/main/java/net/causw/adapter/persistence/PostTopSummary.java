@@ -0,0 +1,8 @@
+package net.causw.adapter.persistence;
+
+/**
+ * {@link PostSummary} of the newest posts of a board, with the number of posts of the board.
+ */
+public interface PostTopSummary extends PostSummary {
+    Long getTotalCount();
+}
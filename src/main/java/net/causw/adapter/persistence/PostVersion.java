@@ -0,0 +1,14 @@
+package net.causw.adapter.persistence;
+
+/**
+ * Projection of the version of a post with the fields its access check needs, selected by {@link PostRepository}.
+ */
+public interface PostVersion {
+    String getVersion();
+
+    Boolean getIsDeleted();
+
+    Boolean getBoardIsDeleted();
+
+    String getCircleId();
+}
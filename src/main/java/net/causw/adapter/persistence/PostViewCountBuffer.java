@@ -0,0 +1,81 @@
+package net.causw.adapter.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Post views counted in memory and added to TB_POST.view_count in batches, so reading a post does not write a row.
+ * A counter is drained with {@link LongAdder#sumThenReset()}, so views counted during a flush are kept for the next one,
+ * and the drained amount is added back when its UPDATE fails.
+ */
+@Slf4j
+@Component
+public class PostViewCountBuffer {
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, LongAdder> viewCountMap;
+
+    public PostViewCountBuffer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.viewCountMap = new ConcurrentHashMap<>();
+    }
+
+    public void increase(String postId) {
+        this.viewCountMap.computeIfAbsent(postId, key -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelay = 10 * 1000L)
+    public void flush() {
+        List<Object[]> pendingList = new ArrayList<>();
+        this.viewCountMap.forEach((postId, viewCount) -> {
+            long delta = viewCount.sumThenReset();
+            if (delta > 0) {
+                pendingList.add(new Object[]{postId, delta});
+            }
+        });
+
+        for (int from = 0; from < pendingList.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Object[]> chunk = pendingList.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, pendingList.size()));
+            try {
+                this.update(chunk);
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush {} post view counts, retrying on next flush: {}", chunk.size(), e.getMessage());
+                chunk.forEach(pending -> this.viewCountMap.computeIfAbsent((String) pending[0], key -> new LongAdder()).add((Long) pending[1]));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        this.flush();
+    }
+
+    // One statement per chunk, so a chunk is either fully applied or not at all
+    private void update(List<Object[]> chunk) {
+        Object[] args = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            args[i * 2] = chunk.get(i)[0];
+            args[i * 2 + 1] = chunk.get(i)[1];
+        }
+
+        this.jdbcTemplate.update(
+                "UPDATE TB_POST AS p " +
+                        "SET view_count = p.view_count + v.delta " +
+                        "FROM (VALUES " + String.join(", ", Collections.nCopies(chunk.size(), "(?, CAST(? AS BIGINT))")) + ") AS v(id, delta) " +
+                        "WHERE p.id = v.id",
+                args
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package net.causw.adapter.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Trigram GIN indexes for the ILIKE searches. JPA cannot declare them, so they are created once the schema is ready.
+ * pg_trgm splits text by character, which works for Korean where the default tsvector parsers do not.
+ * Keywords shorter than three characters can not be narrowed by trigrams, so they scan the whole index.
+ * The indexes are built concurrently, so the tables stay writable, by one instance at a time.
+ */
+@Slf4j
+@Component
+public class SearchIndexInitializer {
+    // Key of the session advisory lock held by the instance building the indexes
+    private static final long INDEX_LOCK_KEY = 7461021L;
+
+    private static final Map<String, String> INDEX_DEFINITION_MAP = Map.of(
+            // Post search by title and content
+            "idx_post_title_trgm", "ON TB_POST USING gin (title gin_trgm_ops)",
+            "idx_post_content_trgm", "ON TB_POST USING gin (content gin_trgm_ops)",
+            // User search by name, email and student id
+            "idx_user_name_trgm", "ON TB_USER USING gin (name gin_trgm_ops)",
+            "idx_user_email_trgm", "ON TB_USER USING gin (email gin_trgm_ops)",
+            "idx_user_student_id_trgm", "ON TB_USER USING gin (student_id gin_trgm_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // A missing index only slows its search down, so each one is created on its own and a failure is logged
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (DataAccessException e) {
+            log.warn("pg_trgm is not available, searches fall back to sequential scan: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            this.jdbcTemplate.execute((ConnectionCallback<Void>) this::createIndexes);
+        } catch (DataAccessException e) {
+            log.warn("Search indexes are not created, searches fall back to sequential scan: {}", e.getMessage());
+        }
+    }
+
+    // CONCURRENTLY can not run in a transaction block, and the advisory lock belongs to the session, so both stay on one connection
+    private Void createIndexes(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            if (!this.tryLock(statement)) {
+                log.info("Search indexes are being created by another instance");
+                return null;
+            }
+
+            try {
+                for (Map.Entry<String, String> indexDefinition : INDEX_DEFINITION_MAP.entrySet()) {
+                    this.createIndex(connection, statement, indexDefinition.getKey(), indexDefinition.getValue());
+                }
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(" + INDEX_LOCK_KEY + ")");
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        return null;
+    }
+
+    private void createIndex(Connection connection, Statement statement, String indexName, String definition) {
+        try {
+            Optional<Boolean> isValid = this.findIndexValid(connection, indexName);
+            if (isValid.orElse(false)) {
+                return;
+            }
+
+            // An index left invalid by an interrupted build is never used by the planner, so it is built again
+            if (isValid.isPresent()) {
+                statement.execute("DROP INDEX CONCURRENTLY " + indexName);
+            }
+
+            statement.execute("CREATE INDEX CONCURRENTLY " + indexName + " " + definition);
+            log.info("Search index is created: {}", indexName);
+        } catch (SQLException e) {
+            log.warn("Search index is not created, its search falls back to sequential scan: {} ({})", indexName, e.getMessage());
+        }
+    }
+
+    // Looked up in the catalog, as IF NOT EXISTS is not available for indexes before PostgreSQL 9.5
+    private Optional<Boolean> findIndexValid(Connection connection, String indexName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT i.indisvalid FROM pg_index AS i JOIN pg_class AS c ON c.oid = i.indexrelid " +
+                        "WHERE c.relname = ? AND pg_table_is_visible(c.oid)"
+        )) {
+            preparedStatement.setString(1, indexName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getBoolean(1)) : Optional.empty();
+            }
+        }
+    }
+
+    private boolean tryLock(Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT pg_try_advisory_lock(" + INDEX_LOCK_KEY + ")")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+}
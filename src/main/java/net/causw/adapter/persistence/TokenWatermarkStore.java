@@ -0,0 +1,78 @@
+package net.causw.adapter.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per user watermark (epoch milliseconds) before which the issued tokens are revoked.
+ * Only the users with a watermark are kept, so checking a token never touches the database.
+ * A watermark written here is applied after its commit; the watermarks written by the other instances are
+ * polled every few seconds, so a revocation reaches every replica within the poll period.
+ */
+@Slf4j
+@Component
+public class TokenWatermarkStore {
+    // Watermarks are taken before their transaction commits, on the clock of the instance that wrote them,
+    // so each poll looks back this far behind the latest watermark it has seen
+    private static final long POLL_OVERLAP_MILLIS = 60 * 1000L;
+
+    private final UserRepository userRepository;
+    private final Map<String, Long> watermarkMap;
+    private volatile long latestWatermark;
+
+    public TokenWatermarkStore(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.watermarkMap = new ConcurrentHashMap<>();
+        this.latestWatermark = 0L;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelay = 5 * 1000L)
+    public void load() {
+        try {
+            this.userRepository.findTokenWatermarksAfter(Math.max(0L, this.latestWatermark - POLL_OVERLAP_MILLIS)).forEach(
+                    userTokenWatermark -> this.put(userTokenWatermark.getId(), userTokenWatermark.getTokensIssuedAfter())
+            );
+        } catch (DataAccessException e) {
+            log.warn("Failed to load token watermarks, retrying on next poll: {}", e.getMessage());
+        }
+    }
+
+    public Optional<Long> get(String userId) {
+        return Optional.ofNullable(this.watermarkMap.get(userId));
+    }
+
+    // Tokens carry their issued time in milliseconds, so only a token issued in the same millisecond is kept
+    public void revoke(String userId) {
+        long watermark = System.currentTimeMillis();
+        this.userRepository.updateTokensIssuedAfter(userId, watermark);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(userId, watermark);
+                }
+            });
+            return;
+        }
+
+        this.put(userId, watermark);
+    }
+
+    private void put(String userId, long watermark) {
+        this.watermarkMap.merge(userId, watermark, Math::max);
+        synchronized (this) {
+            this.latestWatermark = Math.max(this.latestWatermark, watermark);
+        }
+    }
+}
@@ -49,6 +49,10 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private UserState state;
 
+    // Epoch milliseconds before which the tokens of the user are revoked, only written by a native UPDATE
+    @Column(name = "tokens_issued_after", nullable = true, updatable = false)
+    private Long tokensIssuedAfter;
+
     @OneToOne
     @JoinColumn(name = "locker_id", nullable = true)
     private Locker locker;
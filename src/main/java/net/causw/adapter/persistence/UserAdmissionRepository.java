@@ -1,7 +1,7 @@
 package net.causw.adapter.persistence;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,5 +17,11 @@ public interface UserAdmissionRepository extends JpaRepository<UserAdmission, St
             "FROM TB_USER_ADMISSION AS ua " +
             "LEFT JOIN TB_USER AS u ON ua.user_id = u.id " +
             "WHERE u.state = :user_state ORDER BY ua.created_at DESC", nativeQuery = true)
-    Page<UserAdmission> findAll(@Param("user_state") String userState, Pageable pageable);
+    Slice<UserAdmission> findAll(@Param("user_state") String userState, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) " +
+            "FROM TB_USER_ADMISSION AS ua " +
+            "LEFT JOIN TB_USER AS u ON ua.user_id = u.id " +
+            "WHERE u.state = :user_state", nativeQuery = true)
+    long countByUserState(@Param("user_state") String userState);
 }
@@ -0,0 +1,97 @@
+package net.causw.adapter.persistence;
+
+import net.causw.domain.model.UserDomainModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Snapshots of users by id, so the lookup of the request user at the start of every service call skips the database.
+ * A user is evicted when it is written (again once the transaction completes), and a load that overlaps an eviction
+ * is not cached, so a snapshot older than the last write can only be served until its entry expires.
+ * Every read returns a copy, as the domain model is mutable.
+ */
+@Component
+public class UserCache {
+    private static final long TTL_MILLIS = 30 * 1000L;
+    private static final int MAX_SIZE = 10000;
+
+    private final Map<String, Entry> entryMap = new ConcurrentHashMap<>();
+    private final AtomicLong evictionVersion = new AtomicLong();
+
+    public Optional<UserDomainModel> get(String id, Supplier<Optional<UserDomainModel>> loader) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = this.entryMap.get(id);
+        if (entry != null && entry.expiredAt > now) {
+            return Optional.of(copy(entry.user));
+        }
+
+        long version = this.evictionVersion.get();
+        Optional<UserDomainModel> user = loader.get();
+
+        user.ifPresent(userDomainModel -> {
+            if (this.entryMap.size() >= MAX_SIZE) {
+                this.entryMap.values().removeIf(expiredEntry -> expiredEntry.expiredAt <= now);
+                if (this.entryMap.size() >= MAX_SIZE) {
+                    this.entryMap.clear();
+                }
+            }
+
+            this.entryMap.put(id, new Entry(copy(userDomainModel), now + TTL_MILLIS));
+            if (this.evictionVersion.get() != version) {
+                this.entryMap.remove(id);
+            }
+        });
+
+        return user;
+    }
+
+    public void evict(String id) {
+        this.remove(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(id);
+                }
+            });
+        }
+    }
+
+    private void remove(String id) {
+        this.evictionVersion.incrementAndGet();
+        this.entryMap.remove(id);
+    }
+
+    private static UserDomainModel copy(UserDomainModel user) {
+        return UserDomainModel.of(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getPassword(),
+                user.getStudentId(),
+                user.getAdmissionYear(),
+                user.getRole(),
+                user.getProfileImage(),
+                user.getState()
+        );
+    }
+
+    private static class Entry {
+        private final UserDomainModel user;
+        private final long expiredAt;
+
+        private Entry(UserDomainModel user, long expiredAt) {
+            this.user = user;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
@@ -2,9 +2,16 @@ package net.causw.adapter.persistence;
 
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +21,49 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     List<User> findByName(String name);
 
+    @Query(value = "SELECT * " +
+            "FROM TB_USER AS u " +
+            "WHERE u.name ILIKE :pattern OR u.email ILIKE :pattern OR u.student_id ILIKE :pattern " +
+            "ORDER BY u.created_at DESC, u.id DESC", nativeQuery = true)
+    Slice<User> search(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "SELECT * " +
+            "FROM TB_USER AS u " +
+            "WHERE (u.name ILIKE :pattern OR u.email ILIKE :pattern OR u.student_id ILIKE :pattern) " +
+            "AND (u.created_at, u.id) < (:created_at, :id) " +
+            "ORDER BY u.created_at DESC, u.id DESC", nativeQuery = true)
+    Slice<User> searchBeforeCursor(
+            @Param("pattern") String pattern,
+            @Param("created_at") LocalDateTime createdAt,
+            @Param("id") String id,
+            Pageable pageable
+    );
+
     List<User> findByRole(Role role);
 
     List<User> findByState(UserState state);
+
+    @Query(value = "SELECT u.id AS \"id\", u.tokens_issued_after AS \"tokensIssuedAfter\" " +
+            "FROM TB_USER AS u " +
+            "WHERE u.tokens_issued_after > :tokens_issued_after", nativeQuery = true)
+    List<UserTokenWatermark> findTokenWatermarksAfter(@Param("tokens_issued_after") Long tokensIssuedAfter);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE TB_USER " +
+            "SET tokens_issued_after = GREATEST(COALESCE(tokens_issued_after, 0), :tokens_issued_after) " +
+            "WHERE TB_USER.id = :id", nativeQuery = true)
+    int updateTokensIssuedAfter(@Param("id") String id, @Param("tokens_issued_after") Long tokensIssuedAfter);
+
+    // Only replaces the password it was computed from, so a password changed in the meantime is kept
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE TB_USER " +
+            "SET password = :encoded_password " +
+            "WHERE TB_USER.id = :id AND TB_USER.password = :password", nativeQuery = true)
+    int updatePasswordIfUnchanged(
+            @Param("id") String id,
+            @Param("password") String password,
+            @Param("encoded_password") String encodedPassword
+    );
 }
@@ -0,0 +1,10 @@
+package net.causw.adapter.persistence;
+
+/**
+ * Projection of the users whose tokens have been revoked, selected by {@link UserRepository}.
+ */
+public interface UserTokenWatermark {
+    String getId();
+
+    Long getTokensIssuedAfter();
+}
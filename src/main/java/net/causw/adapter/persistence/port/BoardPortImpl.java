@@ -23,6 +23,11 @@ public class BoardPortImpl extends DomainModelMapper implements BoardPort {
         return this.boardRepository.findById(id).map(this::entityToDomainModel);
     }
 
+    @Override
+    public String findVersion() {
+        return this.boardRepository.findVersion();
+    }
+
     @Override
     public List<BoardDomainModel> findAll() {
         return this.boardRepository.findByCircle_IdIsNullAndIsDeletedIsFalse()
@@ -25,6 +25,11 @@ public class CirclePortImpl extends DomainModelMapper implements CirclePort {
         return this.circleRepository.findById(id).map(this::entityToDomainModel);
     }
 
+    @Override
+    public Optional<String> findVersion(String id) {
+        return this.circleRepository.findVersion(id);
+    }
+
     @Override
     public Optional<CircleDomainModel> findByLeaderId(String leaderId) {
         return this.circleRepository.findByLeaderId(leaderId).map(this::entityToDomainModel);
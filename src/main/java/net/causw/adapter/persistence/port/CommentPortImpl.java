@@ -1,20 +1,36 @@
 package net.causw.adapter.persistence.port;
 
 import net.causw.adapter.persistence.Comment;
+import net.causw.adapter.persistence.CommentChildCount;
 import net.causw.adapter.persistence.CommentRepository;
+import net.causw.adapter.persistence.CountCache;
 import net.causw.adapter.persistence.PageableFactory;
+import net.causw.adapter.persistence.PostCommentCount;
 import net.causw.application.spi.CommentPort;
 import net.causw.domain.model.CommentDomainModel;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.PostDomainModel;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class CommentPortImpl extends DomainModelMapper implements CommentPort {
+    private static final long COUNT_CACHE_TTL_MILLIS = 30 * 1000L;
+    private static final int COUNT_CACHE_MAX_SIZE = 10000;
+
     private final CommentRepository commentRepository;
     private final PageableFactory pageableFactory;
+    private final CountCache postCommentCountCache;
 
     public CommentPortImpl(
             CommentRepository commentRepository,
@@ -22,6 +38,7 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
     ) {
         this.commentRepository = commentRepository;
         this.pageableFactory = pageableFactory;
+        this.postCommentCountCache = new CountCache(COUNT_CACHE_TTL_MILLIS, COUNT_CACHE_MAX_SIZE);
     }
 
     @Override
@@ -29,10 +46,47 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
         return this.commentRepository.findById(id).map(this::entityToDomainModelWithChild);
     }
 
+    // Page total is served from the count cache, so only the slice query hits the table
     @Override
     public Page<CommentDomainModel> findByPostId(String postId, Integer pageNum) {
-        return this.commentRepository.findByPost_IdAndParentCommentIsNullOrderByCreatedAtAsc(postId, this.pageableFactory.create(pageNum))
-                .map(this::entityToDomainModelWithChild);
+        Pageable pageable = this.pageableFactory.create(pageNum);
+
+        return new PageImpl<>(
+                this.findCommentTree(postId, pageable).getContent(),
+                pageable,
+                this.postCommentCountCache.get(postId, () -> this.commentRepository.countByPost_IdAndParentCommentIsNull(postId))
+        );
+    }
+
+    @Override
+    public Page<CommentDomainModel> findByPostId(String postId, Integer pageNum, Integer childLimit) {
+        Pageable pageable = this.pageableFactory.create(pageNum);
+
+        return new PageImpl<>(
+                this.findLimitedCommentTree(postId, pageable, childLimit).getContent(),
+                pageable,
+                this.postCommentCountCache.get(postId, () -> this.commentRepository.countByPost_IdAndParentCommentIsNull(postId))
+        );
+    }
+
+    @Override
+    public Slice<CommentDomainModel> findSliceByPostId(String postId, Integer pageNum) {
+        return this.findCommentTree(postId, this.pageableFactory.create(pageNum));
+    }
+
+    @Override
+    public Slice<CommentDomainModel> findChildByParentCommentId(String parentCommentId, Cursor cursor) {
+        if (cursor == null) {
+            return this.commentRepository.findByParentCommentId(parentCommentId, this.pageableFactory.create(0))
+                    .map(this::entityToDomainModel);
+        }
+
+        return this.commentRepository.findByParentCommentIdAfterCursor(
+                parentCommentId,
+                cursor.getCreatedAt(),
+                cursor.getId(),
+                this.pageableFactory.create(0)
+        ).map(this::entityToDomainModel);
     }
 
     @Override
@@ -40,9 +94,28 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
         return this.commentRepository.countByPost_IdAndIsDeletedIsFalse(postId);
     }
 
+    // One grouped query for all the posts; a post without a comment is counted as 0
+    @Override
+    public Map<String, Long> countByPostIds(List<String> postIds) {
+        Map<String, Long> numCommentMap = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return numCommentMap;
+        }
+
+        postIds.forEach(postId -> numCommentMap.put(postId, 0L));
+        this.commentRepository.countByPostIds(postIds).forEach(
+                postCommentCount -> numCommentMap.put(postCommentCount.getPostId(), postCommentCount.getNumComment())
+        );
+
+        return numCommentMap;
+    }
+
     @Override
     public CommentDomainModel create(CommentDomainModel commentDomainModel, PostDomainModel postDomainModel) {
-        return this.entityToDomainModelWithParent(this.commentRepository.save(Comment.from(commentDomainModel, postDomainModel)));
+        Comment comment = this.commentRepository.save(Comment.from(commentDomainModel, postDomainModel));
+        this.postCommentCountCache.evict(postDomainModel.getId());
+
+        return this.entityToDomainModelWithParent(comment);
     }
 
     @Override
@@ -51,7 +124,7 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
                 srcComment -> {
                     srcComment.setContent(commentDomainModel.getContent());
 
-                    return this.entityToDomainModel(this.commentRepository.save(srcComment));
+                    return this.entityToDomainModelWithChild(this.commentRepository.save(srcComment));
                 }
         );
     }
@@ -62,8 +135,59 @@ public class CommentPortImpl extends DomainModelMapper implements CommentPort {
                 comment -> {
                     comment.setIsDeleted(true);
 
-                    return this.entityToDomainModel(this.commentRepository.save(comment));
+                    return this.entityToDomainModelWithChild(this.commentRepository.save(comment));
                 }
         );
     }
+
+    // Loads a page of root comments and all of their child comments in two queries, then builds the tree in memory
+    private Slice<CommentDomainModel> findCommentTree(String postId, Pageable pageable) {
+        Slice<Comment> rootCommentSlice = this.commentRepository.findRootByPostId(postId, pageable);
+        if (!rootCommentSlice.hasContent()) {
+            return rootCommentSlice.map(this::entityToDomainModel);
+        }
+
+        Map<String, List<Comment>> childCommentMap = this.commentRepository.findByParentCommentIds(
+                rootCommentSlice.map(Comment::getId).getContent()
+        )
+                .stream()
+                .collect(Collectors.groupingBy(childComment -> childComment.getParentComment().getId()));
+
+        return rootCommentSlice.map(
+                rootComment -> this.entityToDomainModelWithChild(
+                        rootComment,
+                        childCommentMap.getOrDefault(rootComment.getId(), new ArrayList<>())
+                )
+        );
+    }
+
+    // Loads a page of root comments with only the first child comments of each and the number of all child comments
+    private Slice<CommentDomainModel> findLimitedCommentTree(String postId, Pageable pageable, Integer childLimit) {
+        Slice<Comment> rootCommentSlice = this.commentRepository.findRootByPostId(postId, pageable);
+        if (!rootCommentSlice.hasContent()) {
+            return rootCommentSlice.map(this::entityToDomainModel);
+        }
+
+        List<String> rootCommentIds = rootCommentSlice.map(Comment::getId).getContent();
+
+        Map<String, Long> numChildCommentMap = this.commentRepository.countByParentCommentIds(rootCommentIds)
+                .stream()
+                .collect(Collectors.toMap(CommentChildCount::getParentCommentId, CommentChildCount::getNumChildComment));
+
+        Map<String, List<Comment>> childCommentMap = (childLimit == 0 || numChildCommentMap.isEmpty())
+                ? new HashMap<>()
+                : this.commentRepository.findByIds(
+                        this.commentRepository.findTopNIdsByParentCommentIds(numChildCommentMap.keySet(), childLimit)
+                )
+                        .stream()
+                        .collect(Collectors.groupingBy(childComment -> childComment.getParentComment().getId()));
+
+        return rootCommentSlice.map(
+                rootComment -> this.entityToDomainModelWithChild(
+                        rootComment,
+                        childCommentMap.getOrDefault(rootComment.getId(), new ArrayList<>()),
+                        numChildCommentMap.getOrDefault(rootComment.getId(), 0L)
+                )
+        );
+    }
 }
@@ -6,8 +6,12 @@ import net.causw.adapter.persistence.CircleMember;
 import net.causw.adapter.persistence.Comment;
 import net.causw.adapter.persistence.FavoriteBoard;
 import net.causw.adapter.persistence.Locker;
+import net.causw.adapter.persistence.LockerApplication;
 import net.causw.adapter.persistence.LockerLocation;
 import net.causw.adapter.persistence.Post;
+import net.causw.adapter.persistence.PostSearchResult;
+import net.causw.adapter.persistence.PostSummary;
+import net.causw.adapter.persistence.PostVersion;
 import net.causw.adapter.persistence.User;
 import net.causw.adapter.persistence.UserAdmission;
 import net.causw.domain.model.BoardDomainModel;
@@ -15,14 +19,19 @@ import net.causw.domain.model.CircleDomainModel;
 import net.causw.domain.model.CircleMemberDomainModel;
 import net.causw.domain.model.CommentDomainModel;
 import net.causw.domain.model.FavoriteBoardDomainModel;
+import net.causw.domain.model.LockerApplicationDomainModel;
 import net.causw.domain.model.LockerDomainModel;
 import net.causw.domain.model.LockerLocationDomainModel;
 import net.causw.domain.model.PostDomainModel;
+import net.causw.domain.model.PostSearchDomainModel;
+import net.causw.domain.model.PostSummaryDomainModel;
+import net.causw.domain.model.PostVersionDomainModel;
 import net.causw.domain.model.UserAdmissionDomainModel;
 import net.causw.domain.model.UserDomainModel;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 // TODO: Refactoring
@@ -60,11 +69,43 @@ public abstract class DomainModelMapper {
                 this.entityToDomainModel(post.getWriter()),
                 post.getIsDeleted(),
                 this.entityToDomainModel(post.getBoard()),
+                post.getCommentCount(),
+                post.getViewCount(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
     }
 
+    protected PostSummaryDomainModel entityToDomainModel(PostSummary postSummary) {
+        return PostSummaryDomainModel.of(
+                postSummary.getId(),
+                postSummary.getTitle(),
+                postSummary.getWriterName(),
+                postSummary.getWriterAdmissionYear(),
+                postSummary.getBoardId(),
+                postSummary.getCommentCount(),
+                postSummary.getViewCount(),
+                postSummary.getCreatedAt(),
+                postSummary.getUpdatedAt()
+        );
+    }
+
+    protected PostSearchDomainModel searchResultToDomainModel(PostSearchResult postSearchResult) {
+        return PostSearchDomainModel.of(
+                this.entityToDomainModel(postSearchResult),
+                postSearchResult.getSnippet()
+        );
+    }
+
+    protected PostVersionDomainModel projectionToDomainModel(PostVersion postVersion) {
+        return PostVersionDomainModel.of(
+                postVersion.getVersion(),
+                postVersion.getIsDeleted(),
+                postVersion.getBoardIsDeleted(),
+                postVersion.getCircleId()
+        );
+    }
+
     protected BoardDomainModel entityToDomainModel(Board board) {
         CircleDomainModel circleDomainModel = null;
         if (board.getCircle() != null) {
@@ -106,6 +147,15 @@ public abstract class DomainModelMapper {
         );
     }
 
+    protected LockerApplicationDomainModel entityToDomainModel(LockerApplication lockerApplication) {
+        return LockerApplicationDomainModel.of(
+                lockerApplication.getId(),
+                this.entityToDomainModel(lockerApplication.getUser()),
+                lockerApplication.getPreferenceList(),
+                lockerApplication.getCreatedAt()
+        );
+    }
+
     protected LockerLocationDomainModel entityToDomainModel(LockerLocation lockerLocation) {
         return LockerLocationDomainModel.of(
                 lockerLocation.getId(),
@@ -122,7 +172,15 @@ public abstract class DomainModelMapper {
         );
     }
 
+    // Child comments are loaded through the lazy collection of the comment, for single comment lookups only
     protected CommentDomainModel entityToDomainModelWithChild(Comment comment) {
+        return this.entityToDomainModelWithChild(
+                comment,
+                comment.getChildCommentList() == null ? new ArrayList<>() : comment.getChildCommentList()
+        );
+    }
+
+    protected CommentDomainModel entityToDomainModelWithChild(Comment comment, List<Comment> childCommentList) {
         return CommentDomainModel.of(
                 comment.getId(),
                 comment.getContent(),
@@ -131,13 +189,34 @@ public abstract class DomainModelMapper {
                 comment.getUpdatedAt(),
                 this.entityToDomainModel(comment.getWriter()),
                 comment.getPost().getId(),
-                comment.getChildCommentList()
+                childCommentList
                         .stream()
                         .map(this::entityToDomainModel)
                         .collect(Collectors.toList())
         );
     }
 
+    protected CommentDomainModel entityToDomainModelWithChild(
+            Comment comment,
+            List<Comment> childCommentList,
+            Long numChildComment
+    ) {
+        return CommentDomainModel.of(
+                comment.getId(),
+                comment.getContent(),
+                comment.getIsDeleted(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                this.entityToDomainModel(comment.getWriter()),
+                comment.getPost().getId(),
+                childCommentList
+                        .stream()
+                        .map(this::entityToDomainModel)
+                        .collect(Collectors.toList()),
+                numChildComment
+        );
+    }
+
     protected CommentDomainModel entityToDomainModelWithParent(Comment comment) {
         CommentDomainModel parentCommentDomainModel = null;
         if (comment.getParentComment() != null) {
@@ -0,0 +1,68 @@
+package net.causw.adapter.persistence.port;
+
+import net.causw.adapter.persistence.LockerApplication;
+import net.causw.adapter.persistence.LockerApplicationRepository;
+import net.causw.application.spi.LockerApplicationPort;
+import net.causw.domain.model.LockerApplicationDomainModel;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class LockerApplicationPortImpl extends DomainModelMapper implements LockerApplicationPort {
+    private final LockerApplicationRepository lockerApplicationRepository;
+
+    public LockerApplicationPortImpl(LockerApplicationRepository lockerApplicationRepository) {
+        this.lockerApplicationRepository = lockerApplicationRepository;
+    }
+
+    @Override
+    public Optional<LockerApplicationDomainModel> findByUserId(String userId) {
+        return this.lockerApplicationRepository.findByUser_Id(userId).map(this::entityToDomainModel);
+    }
+
+    @Override
+    public List<LockerApplicationDomainModel> findAll() {
+        return this.lockerApplicationRepository.findAllWithUser()
+                .stream()
+                .map(this::entityToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsAny() {
+        return this.lockerApplicationRepository.existsAny();
+    }
+
+    @Override
+    public LockerApplicationDomainModel create(LockerApplicationDomainModel lockerApplicationDomainModel) {
+        return this.entityToDomainModel(this.lockerApplicationRepository.save(LockerApplication.from(lockerApplicationDomainModel)));
+    }
+
+    @Override
+    public Optional<LockerApplicationDomainModel> update(String id, LockerApplicationDomainModel lockerApplicationDomainModel) {
+        return this.lockerApplicationRepository.findById(id).map(
+                srcLockerApplication -> {
+                    srcLockerApplication.setPreferences(LockerApplication.encode(lockerApplicationDomainModel.getPreferenceList()));
+
+                    return this.entityToDomainModel(this.lockerApplicationRepository.save(srcLockerApplication));
+                }
+        );
+    }
+
+    @Override
+    public void delete(LockerApplicationDomainModel lockerApplicationDomainModel) {
+        this.lockerApplicationRepository.delete(LockerApplication.from(lockerApplicationDomainModel));
+    }
+
+    @Override
+    public void deleteByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        this.lockerApplicationRepository.deleteByIds(ids);
+    }
+}
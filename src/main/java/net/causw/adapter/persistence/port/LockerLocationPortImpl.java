@@ -36,6 +36,11 @@ public class LockerLocationPortImpl extends DomainModelMapper implements LockerL
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public String findVersion() {
+        return this.lockerLocationRepository.findVersion();
+    }
+
     @Override
     public LockerLocationDomainModel create(LockerLocationDomainModel lockerLocationDomainModel) {
         return this.entityToDomainModel(
@@ -4,19 +4,28 @@ import net.causw.adapter.persistence.LockerLog;
 import net.causw.adapter.persistence.LockerLogRepository;
 import net.causw.application.dto.LockerLogDetailDto;
 import net.causw.application.spi.LockerLogPort;
+import net.causw.domain.model.LockerAllocationDomainModel;
 import net.causw.domain.model.LockerLogAction;
 import net.causw.domain.model.UserDomainModel;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class LockerLogPortImpl extends DomainModelMapper implements LockerLogPort {
     private final LockerLogRepository lockerLogRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public LockerLogPortImpl(LockerLogRepository lockerLogRepository) {
+    public LockerLogPortImpl(
+            LockerLogRepository lockerLogRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
         this.lockerLogRepository = lockerLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -42,4 +51,33 @@ public class LockerLogPortImpl extends DomainModelMapper implements LockerLogPor
                 message
         ));
     }
+
+    // One statement for all, as saveAll would insert the logs one by one, with ids in the format of the uuid generator
+    @Override
+    public void createAll(
+            List<LockerAllocationDomainModel> lockerAllocationDomainModelList,
+            LockerLogAction action,
+            String message
+    ) {
+        if (lockerAllocationDomainModelList.isEmpty()) {
+            return;
+        }
+
+        Object[] args = new Object[lockerAllocationDomainModelList.size() * 6];
+        for (int i = 0; i < lockerAllocationDomainModelList.size(); i++) {
+            LockerAllocationDomainModel lockerAllocationDomainModel = lockerAllocationDomainModelList.get(i);
+            args[i * 6] = UUID.randomUUID().toString().replace("-", "");
+            args[i * 6 + 1] = lockerAllocationDomainModel.getLocker().getLockerNumber();
+            args[i * 6 + 2] = lockerAllocationDomainModel.getApplication().getUser().getEmail();
+            args[i * 6 + 3] = lockerAllocationDomainModel.getApplication().getUser().getName();
+            args[i * 6 + 4] = action.name();
+            args[i * 6 + 5] = message;
+        }
+
+        this.jdbcTemplate.update(
+                "INSERT INTO TB_LOCKER_LOG (id, locker_number, user_email, user_name, action, message, created_at, updated_at) " +
+                        "VALUES " + String.join(", ", Collections.nCopies(lockerAllocationDomainModelList.size(), "(?, ?, ?, ?, ?, ?, NOW(), NOW())")),
+                args
+        );
+    }
 }
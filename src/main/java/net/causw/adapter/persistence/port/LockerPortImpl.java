@@ -1,23 +1,45 @@
 package net.causw.adapter.persistence.port;
 
 import net.causw.adapter.persistence.Locker;
+import net.causw.adapter.persistence.LockerCountSnapshot;
 import net.causw.adapter.persistence.LockerLocation;
+import net.causw.adapter.persistence.LockerOccupancySnapshot;
 import net.causw.adapter.persistence.LockerRepository;
 import net.causw.adapter.persistence.User;
 import net.causw.application.spi.LockerPort;
+import net.causw.domain.model.LockerAllocationDomainModel;
 import net.causw.domain.model.LockerDomainModel;
+import net.causw.domain.model.LockerLocationCountDomainModel;
+import net.causw.domain.model.LockerOccupancyDomainModel;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class LockerPortImpl extends DomainModelMapper implements LockerPort {
     private final LockerRepository lockerRepository;
+    private final LockerCountSnapshot lockerCountSnapshot;
+    private final LockerOccupancySnapshot lockerOccupancySnapshot;
+    private final JdbcTemplate jdbcTemplate;
 
-    public LockerPortImpl(LockerRepository lockerRepository) {
+    public LockerPortImpl(
+            LockerRepository lockerRepository,
+            LockerCountSnapshot lockerCountSnapshot,
+            LockerOccupancySnapshot lockerOccupancySnapshot,
+            JdbcTemplate jdbcTemplate
+    ) {
         this.lockerRepository = lockerRepository;
+        this.lockerCountSnapshot = lockerCountSnapshot;
+        this.lockerOccupancySnapshot = lockerOccupancySnapshot;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -32,26 +54,134 @@ public class LockerPortImpl extends DomainModelMapper implements LockerPort {
 
     @Override
     public LockerDomainModel create(LockerDomainModel lockerDomainModel) {
-        return this.entityToDomainModel(this.lockerRepository.save(Locker.from(lockerDomainModel)));
+        this.lockerCountSnapshot.invalidate();
+
+        Locker locker = this.lockerRepository.save(Locker.from(lockerDomainModel));
+        this.lockerOccupancySnapshot.put(locker.getLocation().getId(), locker.getLockerNumber(), isActive(locker), false);
+
+        return this.entityToDomainModel(locker);
     }
 
     @Override
     public Optional<LockerDomainModel> update(String id, LockerDomainModel lockerDomainModel) {
         return this.lockerRepository.findById(id).map(
                 locker -> {
+                    boolean wasEnable = isEnable(locker);
+
                     locker.setIsActive(lockerDomainModel.getIsActive());
                     locker.setUser(lockerDomainModel.getUser().map(User::from).orElse(null));
 
-                    return this.entityToDomainModel(this.lockerRepository.save(locker));
+                    LockerDomainModel updatedLockerDomainModel = this.entityToDomainModel(this.lockerRepository.save(locker));
+                    this.lockerCountSnapshot.adjust(
+                            locker.getLocation().getId(),
+                            (isEnable(locker) ? 1L : 0L) - (wasEnable ? 1L : 0L),
+                            0L
+                    );
+                    this.lockerOccupancySnapshot.put(
+                            locker.getLocation().getId(),
+                            locker.getLockerNumber(),
+                            isActive(locker),
+                            locker.getUser().isPresent()
+                    );
+
+                    return updatedLockerDomainModel;
                 }
         );
     }
 
+    @Override
+    public Optional<LockerDomainModel> claim(String id, String userId) {
+        // The NOT EXISTS of a claim only sees the lockers committed before it started, so the user is locked first
+        this.lockerRepository.lockUsers(List.of(userId));
+        if (this.lockerRepository.claim(id, userId) == 0) {
+            return Optional.empty();
+        }
+
+        return this.lockerRepository.findById(id).map(
+                locker -> {
+                    this.lockerCountSnapshot.adjust(locker.getLocation().getId(), -1L, 0L);
+                    this.lockerOccupancySnapshot.put(locker.getLocation().getId(), locker.getLockerNumber(), true, true);
+
+                    return this.entityToDomainModel(locker);
+                }
+        );
+    }
+
+    @Override
+    public List<LockerDomainModel> findAll() {
+        return this.lockerRepository.findAllWithUser()
+                .stream()
+                .map(this::entityToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    // One statement for all, with the same condition as a single claim and a user holding no other locker
+    @Override
+    public List<String> claimAll(List<LockerAllocationDomainModel> lockerAllocationDomainModelList) {
+        if (lockerAllocationDomainModelList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        this.lockerRepository.lockUsers(
+                lockerAllocationDomainModelList
+                        .stream()
+                        .map(lockerAllocationDomainModel -> lockerAllocationDomainModel.getApplication().getUser().getId())
+                        .distinct()
+                        .collect(Collectors.toList())
+        );
+
+        Object[] args = new Object[lockerAllocationDomainModelList.size() * 2];
+        for (int i = 0; i < lockerAllocationDomainModelList.size(); i++) {
+            args[i * 2] = lockerAllocationDomainModelList.get(i).getLocker().getId();
+            args[i * 2 + 1] = lockerAllocationDomainModelList.get(i).getApplication().getUser().getId();
+        }
+
+        List<String> claimedLockerIdList = this.jdbcTemplate.queryForList(
+                "UPDATE TB_LOCKER AS l " +
+                        "SET user_id = v.user_id, updated_at = NOW() " +
+                        "FROM (VALUES " + String.join(", ", Collections.nCopies(lockerAllocationDomainModelList.size(), "(?, ?)")) + ") AS v(id, user_id) " +
+                        "WHERE l.id = v.id AND l.user_id IS NULL AND l.is_active = true " +
+                        "AND NOT EXISTS (SELECT 1 FROM TB_LOCKER AS o WHERE o.user_id = v.user_id) " +
+                        "RETURNING l.id",
+                String.class,
+                args
+        );
+
+        Set<String> claimedLockerIdSet = new HashSet<>(claimedLockerIdList);
+        List<LockerDomainModel> claimedLockerDomainModelList = lockerAllocationDomainModelList
+                .stream()
+                .map(LockerAllocationDomainModel::getLocker)
+                .filter(lockerDomainModel -> claimedLockerIdSet.contains(lockerDomainModel.getId()))
+                .collect(Collectors.toList());
+
+        claimedLockerDomainModelList
+                .stream()
+                .collect(Collectors.groupingBy(lockerDomainModel -> lockerDomainModel.getLockerLocation().getId(), Collectors.counting()))
+                .forEach((locationId, claimedCount) -> this.lockerCountSnapshot.adjust(locationId, -claimedCount, 0L));
+        claimedLockerDomainModelList.forEach(lockerDomainModel -> this.lockerOccupancySnapshot.put(
+                lockerDomainModel.getLockerLocation().getId(),
+                lockerDomainModel.getLockerNumber(),
+                true,
+                true
+        ));
+
+        return claimedLockerIdList;
+    }
+
     @Override
     public Optional<LockerDomainModel> updateLocation(String id, LockerDomainModel lockerDomainModel) {
         return this.lockerRepository.findById(id).map(
                 locker -> {
+                    this.lockerOccupancySnapshot.remove(locker.getLocation().getId(), locker.getLockerNumber());
+
                     locker.setLocation(LockerLocation.from(lockerDomainModel.getLockerLocation()));
+                    this.lockerCountSnapshot.invalidate();
+                    this.lockerOccupancySnapshot.put(
+                            locker.getLocation().getId(),
+                            locker.getLockerNumber(),
+                            isActive(locker),
+                            locker.getUser().isPresent()
+                    );
 
                     return this.entityToDomainModel(this.lockerRepository.save(locker));
                 }
@@ -61,6 +191,8 @@ public class LockerPortImpl extends DomainModelMapper implements LockerPort {
     @Override
     public void delete(LockerDomainModel lockerDomainModel) {
         this.lockerRepository.delete(Locker.from(lockerDomainModel));
+        this.lockerCountSnapshot.invalidate();
+        this.lockerOccupancySnapshot.remove(lockerDomainModel.getLockerLocation().getId(), lockerDomainModel.getLockerNumber());
     }
 
     @Override
@@ -72,12 +204,30 @@ public class LockerPortImpl extends DomainModelMapper implements LockerPort {
     }
 
     @Override
-    public Long getEnableLockerCountByLocation(String locationId) {
-        return this.lockerRepository.getEnableLockerCountByLocation(locationId);
+    public Map<String, LockerLocationCountDomainModel> findCountByLocation() {
+        return this.lockerCountSnapshot.get();
+    }
+
+    @Override
+    public String findCountVersion() {
+        return this.lockerCountSnapshot.getVersion();
+    }
+
+    @Override
+    public LockerOccupancyDomainModel findOccupancyByLocation(String locationId) {
+        return this.lockerOccupancySnapshot.get(locationId);
     }
 
     @Override
     public Long getLockerCountByLocation(String locationId) {
         return this.lockerRepository.getLockerCountByLocation(locationId);
     }
+
+    private static boolean isEnable(Locker locker) {
+        return isActive(locker) && locker.getUser().isEmpty();
+    }
+
+    private static boolean isActive(Locker locker) {
+        return Boolean.TRUE.equals(locker.getIsActive());
+    }
 }
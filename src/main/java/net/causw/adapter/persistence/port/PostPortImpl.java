@@ -1,25 +1,55 @@
 package net.causw.adapter.persistence.port;
 
+import net.causw.adapter.persistence.CountCache;
 import net.causw.adapter.persistence.PageableFactory;
 import net.causw.adapter.persistence.Post;
 import net.causw.adapter.persistence.PostRepository;
+import net.causw.adapter.persistence.PostTopSummary;
+import net.causw.adapter.persistence.PostViewCountBuffer;
 import net.causw.application.spi.PostPort;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.PostDomainModel;
+import net.causw.domain.model.PostSearchDomainModel;
+import net.causw.domain.model.PostSummaryDomainModel;
+import net.causw.domain.model.PostVersionDomainModel;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class PostPortImpl extends DomainModelMapper implements PostPort {
+    private static final long COUNT_CACHE_TTL_MILLIS = 30 * 1000L;
+    private static final int COUNT_CACHE_MAX_SIZE = 10000;
+
     private final PostRepository postRepository;
     private final PageableFactory pageableFactory;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final CountCache boardPostCountCache;
+    private final JdbcTemplate jdbcTemplate;
 
     public PostPortImpl(
             PostRepository postRepository,
-            PageableFactory pageableFactory
+            PageableFactory pageableFactory,
+            PostViewCountBuffer postViewCountBuffer,
+            JdbcTemplate jdbcTemplate
     ) {
         this.postRepository = postRepository;
         this.pageableFactory = pageableFactory;
+        this.postViewCountBuffer = postViewCountBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardPostCountCache = new CountCache(COUNT_CACHE_TTL_MILLIS, COUNT_CACHE_MAX_SIZE);
     }
 
     @Override
@@ -29,7 +59,10 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
 
     @Override
     public PostDomainModel create(PostDomainModel postDomainModel) {
-        return this.entityToDomainModel(this.postRepository.save(Post.from(postDomainModel)));
+        Post post = this.postRepository.save(Post.from(postDomainModel));
+        this.boardPostCountCache.evict(post.getBoard().getId());
+
+        return this.entityToDomainModel(post);
     }
 
     @Override
@@ -37,6 +70,7 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
         return this.postRepository.findById(id).map(
                 srcPost -> {
                     srcPost.setIsDeleted(true);
+                    this.boardPostCountCache.evict(srcPost.getBoard().getId());
 
                     return this.entityToDomainModel(this.postRepository.save(srcPost));
                 }
@@ -56,14 +90,29 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
     }
 
     @Override
-    public Page<PostDomainModel> findAll(String boardId, Integer pageNum) {
-        return this.postRepository.findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(boardId, this.pageableFactory.create(pageNum))
+    public Page<PostSummaryDomainModel> findAll(String boardId, Integer pageNum) {
+        return this.findAll(boardId, this.pageableFactory.create(pageNum));
+    }
+
+    @Override
+    public Page<PostSummaryDomainModel> findAll(String boardId, Integer pageNum, Integer pageSize) {
+        return this.findAll(boardId, this.pageableFactory.create(pageNum, pageSize));
+    }
+
+    @Override
+    public Slice<PostSummaryDomainModel> findAllSlice(String boardId, Integer pageNum) {
+        return this.postRepository.findSummaryByBoardId(boardId, this.pageableFactory.create(pageNum))
                 .map(this::entityToDomainModel);
     }
 
     @Override
-    public Page<PostDomainModel> findAll(String boardId, Integer pageNum, Integer pageSize) {
-        return this.postRepository.findAllByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(boardId, this.pageableFactory.create(pageNum, pageSize))
+    public Slice<PostSummaryDomainModel> findAllByCursor(String boardId, Cursor cursor) {
+        if (cursor == null) {
+            return this.postRepository.findSummaryByBoardId(boardId, this.pageableFactory.create(0))
+                    .map(this::entityToDomainModel);
+        }
+
+        return this.postRepository.findSummaryByBoardIdBeforeCursor(boardId, cursor.getCreatedAt(), cursor.getId(), this.pageableFactory.create(0))
                 .map(this::entityToDomainModel);
     }
 
@@ -72,4 +121,112 @@ public class PostPortImpl extends DomainModelMapper implements PostPort {
         return this.postRepository.findTop1ByBoard_IdAndIsDeletedIsFalseOrderByCreatedAtDesc(boardId)
                 .map(this::entityToDomainModel);
     }
+
+    @Override
+    public Optional<PostVersionDomainModel> findVersion(String id) {
+        return this.postRepository.findVersion(id).map(this::projectionToDomainModel);
+    }
+
+    @Override
+    public Slice<PostSearchDomainModel> search(List<String> boardIds, String keyword, Cursor cursor) {
+        if (boardIds.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>());
+        }
+
+        // Match the keyword literally, LIKE wildcards in the user input are escaped
+        String pattern = "%" + keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+
+        if (cursor == null) {
+            return this.postRepository.search(boardIds, keyword, pattern, this.pageableFactory.create(0))
+                    .map(this::searchResultToDomainModel);
+        }
+
+        return this.postRepository.searchBeforeCursor(boardIds, keyword, pattern, cursor.getCreatedAt(), cursor.getId(), this.pageableFactory.create(0))
+                .map(this::searchResultToDomainModel);
+    }
+
+    @Override
+    public Map<String, Page<PostSummaryDomainModel>> findTopNByBoardIds(List<String> boardIds, Integer size) {
+        Map<String, Page<PostSummaryDomainModel>> postPageMap = new HashMap<>();
+        if (boardIds.isEmpty()) {
+            return postPageMap;
+        }
+
+        // The first page of every board, with the total taken from the same query instead of a count per board
+        Pageable pageable = this.pageableFactory.create(0, size);
+        Map<String, List<PostTopSummary>> postTopSummaryMap = this.postRepository.findTopNSummaryByBoardIds(boardIds, size)
+                .stream()
+                .collect(Collectors.groupingBy(PostTopSummary::getBoardId));
+
+        boardIds.forEach(boardId -> {
+            List<PostTopSummary> postTopSummaryList = postTopSummaryMap.getOrDefault(boardId, new ArrayList<>());
+
+            postPageMap.put(boardId, new PageImpl<>(
+                    postTopSummaryList
+                            .stream()
+                            .map(this::entityToDomainModel)
+                            .collect(Collectors.toList()),
+                    pageable,
+                    postTopSummaryList.isEmpty() ? 0L : postTopSummaryList.get(0).getTotalCount()
+            ));
+        });
+
+        return postPageMap;
+    }
+
+    @Override
+    public void increaseCommentCount(String id) {
+        this.postRepository.increaseCommentCount(id);
+    }
+
+    @Override
+    public void increaseViewCount(String id) {
+        this.postViewCountBuffer.increase(id);
+    }
+
+    @Override
+    public void decreaseCommentCount(String id) {
+        this.postRepository.decreaseCommentCount(id);
+    }
+
+    @Override
+    public List<String> findIdsAfter(String lastId, Integer size) {
+        return this.postRepository.findIdsAfter(lastId, size);
+    }
+
+    // One statement for all, only writing the posts whose count differs
+    @Override
+    public Integer updateCommentCount(Map<String, Long> commentCountMap) {
+        if (commentCountMap.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>();
+        commentCountMap.forEach((id, commentCount) -> {
+            args.add(id);
+            args.add(commentCount);
+        });
+
+        return this.jdbcTemplate.update(
+                "UPDATE TB_POST AS p " +
+                        "SET comment_count = v.comment_count " +
+                        "FROM (VALUES " + String.join(", ", Collections.nCopies(commentCountMap.size(), "(?, ?)")) + ") AS v(id, comment_count) " +
+                        "WHERE p.id = v.id AND p.comment_count <> v.comment_count",
+                args.toArray()
+        );
+    }
+
+    // Page total is served from the count cache, so only the slice query hits the table
+    private Page<PostSummaryDomainModel> findAll(String boardId, Pageable pageable) {
+        return new PageImpl<>(
+                this.postRepository.findSummaryByBoardId(boardId, pageable)
+                        .map(this::entityToDomainModel)
+                        .getContent(),
+                pageable,
+                this.boardPostCountCache.get(boardId, () -> this.postRepository.countByBoard_IdAndIsDeletedIsFalse(boardId))
+        );
+    }
 }
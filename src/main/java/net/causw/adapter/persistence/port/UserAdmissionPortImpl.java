@@ -1,5 +1,6 @@
 package net.causw.adapter.persistence.port;
 
+import net.causw.adapter.persistence.CountCache;
 import net.causw.adapter.persistence.PageableFactory;
 import net.causw.adapter.persistence.UserAdmission;
 import net.causw.adapter.persistence.UserAdmissionRepository;
@@ -7,14 +8,21 @@ import net.causw.application.spi.UserAdmissionPort;
 import net.causw.domain.model.UserAdmissionDomainModel;
 import net.causw.domain.model.UserState;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
 @Component
 public class UserAdmissionPortImpl extends DomainModelMapper implements UserAdmissionPort {
+    private static final long COUNT_CACHE_TTL_MILLIS = 30 * 1000L;
+    private static final int COUNT_CACHE_MAX_SIZE = 100;
+
     private final UserAdmissionRepository userAdmissionRepository;
     private final PageableFactory pageableFactory;
+    private final CountCache userStateAdmissionCountCache;
 
     public UserAdmissionPortImpl(
             UserAdmissionRepository userAdmissionRepository,
@@ -22,6 +30,7 @@ public class UserAdmissionPortImpl extends DomainModelMapper implements UserAdmi
     ) {
         this.userAdmissionRepository = userAdmissionRepository;
         this.pageableFactory = pageableFactory;
+        this.userStateAdmissionCountCache = new CountCache(COUNT_CACHE_TTL_MILLIS, COUNT_CACHE_MAX_SIZE);
     }
 
     @Override
@@ -39,21 +48,40 @@ public class UserAdmissionPortImpl extends DomainModelMapper implements UserAdmi
         return this.userAdmissionRepository.findByUser_Id(id).map(this::entityToDomainModel);
     }
 
+    // Page total is served from the count cache, so only the slice query hits the table
     @Override
     public Page<UserAdmissionDomainModel> findAll(UserState userState, Integer pageNum) {
+        Pageable pageable = this.pageableFactory.create(pageNum);
+
+        return new PageImpl<>(
+                this.userAdmissionRepository.findAll(userState.toString(), pageable)
+                        .map(this::entityToDomainModel)
+                        .getContent(),
+                pageable,
+                this.userStateAdmissionCountCache.get(
+                        userState.toString(),
+                        () -> this.userAdmissionRepository.countByUserState(userState.toString())
+                )
+        );
+    }
+
+    @Override
+    public Slice<UserAdmissionDomainModel> findAllSlice(UserState userState, Integer pageNum) {
         return this.userAdmissionRepository.findAll(userState.toString(), this.pageableFactory.create(pageNum))
                 .map(this::entityToDomainModel);
     }
 
     @Override
     public UserAdmissionDomainModel create(UserAdmissionDomainModel userAdmissionDomainModel) {
-        return this.entityToDomainModel(
-                this.userAdmissionRepository.save(UserAdmission.from(userAdmissionDomainModel))
-        );
+        UserAdmission userAdmission = this.userAdmissionRepository.save(UserAdmission.from(userAdmissionDomainModel));
+        this.userStateAdmissionCountCache.clear();
+
+        return this.entityToDomainModel(userAdmission);
     }
 
     @Override
     public void delete(UserAdmissionDomainModel userAdmissionDomainModel) {
         this.userAdmissionRepository.delete(UserAdmission.from(userAdmissionDomainModel));
+        this.userStateAdmissionCountCache.clear();
     }
 }
@@ -1,11 +1,19 @@
 package net.causw.adapter.persistence.port;
 
+import net.causw.adapter.persistence.PageableFactory;
+import net.causw.adapter.persistence.TokenWatermarkStore;
 import net.causw.adapter.persistence.User;
+import net.causw.adapter.persistence.UserCache;
 import net.causw.adapter.persistence.UserRepository;
 import net.causw.application.spi.UserPort;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserDomainModel;
+import net.causw.domain.model.UserSearchDomainModel;
 import net.causw.domain.model.UserState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,14 +23,31 @@ import java.util.stream.Collectors;
 @Component
 public class UserPortImpl extends DomainModelMapper implements UserPort {
     private final UserRepository userRepository;
-
-    public UserPortImpl(UserRepository userRepository) {
+    private final UserCache userCache;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenWatermarkStore tokenWatermarkStore;
+    private final PageableFactory pageableFactory;
+    private final Integer searchPageSize;
+
+    public UserPortImpl(
+            UserRepository userRepository,
+            UserCache userCache,
+            TokenWatermarkStore tokenWatermarkStore,
+            PasswordEncoder passwordEncoder,
+            PageableFactory pageableFactory,
+            @Value("${user.search.page-size:20}") Integer searchPageSize
+    ) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenWatermarkStore = tokenWatermarkStore;
+        this.pageableFactory = pageableFactory;
+        this.searchPageSize = searchPageSize;
     }
 
     @Override
     public Optional<UserDomainModel> findById(String id) {
-        return this.userRepository.findById(id).map(this::entityToDomainModel);
+        return this.userCache.get(id, () -> this.userRepository.findById(id).map(this::entityToDomainModel));
     }
 
     @Override
@@ -33,6 +58,23 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Slice<UserSearchDomainModel> search(String keyword, Cursor cursor) {
+        // Match the keyword literally, LIKE wildcards in the user input are escaped
+        String pattern = "%" + keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+
+        if (cursor == null) {
+            return this.userRepository.search(pattern, this.pageableFactory.create(0, this.searchPageSize))
+                    .map(user -> UserSearchDomainModel.of(this.entityToDomainModel(user), user.getCreatedAt()));
+        }
+
+        return this.userRepository.searchBeforeCursor(pattern, cursor.getCreatedAt(), cursor.getId(), this.pageableFactory.create(0, this.searchPageSize))
+                .map(user -> UserSearchDomainModel.of(this.entityToDomainModel(user), user.getCreatedAt()));
+    }
+
     @Override
     public Optional<UserDomainModel> findByEmail(String email) {
         return this.userRepository.findByEmail(email).map(this::entityToDomainModel);
@@ -40,11 +82,16 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
 
     @Override
     public UserDomainModel create(UserDomainModel userDomainModel) {
-        return this.entityToDomainModel(this.userRepository.save(User.from(userDomainModel)));
+        User user = User.from(userDomainModel);
+        user.setPassword(this.passwordEncoder.encode(userDomainModel.getPassword()));
+
+        return this.entityToDomainModel(this.userRepository.save(user));
     }
 
     @Override
     public Optional<UserDomainModel> update(String id, UserDomainModel userDomainModel) {
+        this.userCache.evict(id);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setEmail(userDomainModel.getEmail());
@@ -59,11 +106,15 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
 
     @Override
     public Optional<UserDomainModel> updateRole(String id, Role role) {
+        this.userCache.evict(id);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setRole(role);
+                    UserDomainModel userDomainModel = this.entityToDomainModel(this.userRepository.save(srcUser));
+                    this.tokenWatermarkStore.revoke(id);
 
-                    return this.entityToDomainModel(this.userRepository.save(srcUser));
+                    return userDomainModel;
                 }
         );
     }
@@ -85,24 +136,29 @@ public class UserPortImpl extends DomainModelMapper implements UserPort {
     }
 
     @Override
-    public Optional<UserDomainModel> updatePassword(String id, String password) {
-        return this.userRepository.findById(id).map(
-                srcUser -> {
-                    srcUser.setPassword(password);
+    public boolean updatePasswordIfUnchanged(String id, String password, String encodedPassword) {
+        this.userCache.evict(id);
 
-                    return this.entityToDomainModel(this.userRepository.save(srcUser));
-                }
-        );
+        return this.userRepository.updatePasswordIfUnchanged(id, password, encodedPassword) > 0;
     }
 
     @Override
     public Optional<UserDomainModel> updateState(String id, UserState state) {
+        this.userCache.evict(id);
+
         return this.userRepository.findById(id).map(
                 srcUser -> {
                     srcUser.setState(state);
+                    UserDomainModel userDomainModel = this.entityToDomainModel(this.userRepository.save(srcUser));
+                    this.tokenWatermarkStore.revoke(id);
 
-                    return this.entityToDomainModel(this.userRepository.save(srcUser));
+                    return userDomainModel;
                 }
         );
     }
+
+    @Override
+    public Optional<Long> findTokensIssuedAfter(String id) {
+        return this.tokenWatermarkStore.get(id);
+    }
 }
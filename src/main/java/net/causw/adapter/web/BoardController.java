@@ -6,6 +6,7 @@ import net.causw.application.dto.BoardOfCircleResponseDto;
 import net.causw.application.dto.BoardResponseDto;
 import net.causw.application.dto.BoardUpdateRequestDto;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,15 +32,21 @@ public class BoardController {
     }
 
     @GetMapping
-    @ResponseStatus(value = HttpStatus.OK)
-    public List<BoardResponseDto> findAll(@AuthenticationPrincipal String userId) {
-        return this.boardService.findAll(userId);
+    public ResponseEntity<List<BoardResponseDto>> findAll(
+            @AuthenticationPrincipal(expression = "id") String userId,
+            WebRequest webRequest
+    ) {
+        return ConditionalResponse.of(
+                webRequest,
+                this.boardService.findVersion(userId),
+                () -> this.boardService.findAll(userId)
+        );
     }
 
     @GetMapping(params = "circleId")
     @ResponseStatus(value = HttpStatus.OK)
     public List<BoardOfCircleResponseDto> findAllByCircleId(
-            @AuthenticationPrincipal String currentUserId,
+            @AuthenticationPrincipal(expression = "id") String currentUserId,
             @RequestParam String circleId
     ) {
         return this.boardService.findAllByCircleId(currentUserId, circleId);
@@ -47,7 +55,7 @@ public class BoardController {
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public BoardResponseDto create(
-            @AuthenticationPrincipal String creatorId,
+            @AuthenticationPrincipal(expression = "id") String creatorId,
             @RequestBody BoardCreateRequestDto boardCreateRequestDto
     ) {
         return this.boardService.create(creatorId, boardCreateRequestDto);
@@ -56,7 +64,7 @@ public class BoardController {
     @PutMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public BoardResponseDto update(
-            @AuthenticationPrincipal String updaterId,
+            @AuthenticationPrincipal(expression = "id") String updaterId,
             @PathVariable String id,
             @RequestBody BoardUpdateRequestDto boardUpdateRequestDto
     ) {
@@ -66,7 +74,7 @@ public class BoardController {
     @DeleteMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public BoardResponseDto delete(
-            @AuthenticationPrincipal String deleterId,
+            @AuthenticationPrincipal(expression = "id") String deleterId,
             @PathVariable String id
     ) {
         return this.boardService.delete(deleterId, id);
@@ -9,6 +9,7 @@ import net.causw.application.dto.CircleUpdateRequestDto;
 import net.causw.application.dto.DuplicatedCheckDto;
 import net.causw.domain.model.CircleMemberStatus;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -34,14 +36,20 @@ public class CircleController {
     }
 
     @GetMapping(value = "/{id}")
-    @ResponseStatus(value = HttpStatus.OK)
-    public CircleResponseDto findById(@PathVariable String id) {
-        return this.circleService.findById(id);
+    public ResponseEntity<CircleResponseDto> findById(
+            @PathVariable String id,
+            WebRequest webRequest
+    ) {
+        return ConditionalResponse.of(
+                webRequest,
+                this.circleService.findVersionById(id),
+                () -> this.circleService.findById(id)
+        );
     }
 
     @GetMapping
     @ResponseStatus(value = HttpStatus.OK)
-    public List<CircleAllResponseDto> findAll(@AuthenticationPrincipal String userId) {
+    public List<CircleAllResponseDto> findAll(@AuthenticationPrincipal(expression = "id") String userId) {
         return this.circleService.findAll(userId);
     }
 
@@ -54,7 +62,7 @@ public class CircleController {
     @GetMapping(value = "/{id}/users")
     @ResponseStatus(value = HttpStatus.OK)
     public List<CircleMemberResponseDto> getUserList(
-            @AuthenticationPrincipal String currentUserId,
+            @AuthenticationPrincipal(expression = "id") String currentUserId,
             @PathVariable String id,
             @RequestParam CircleMemberStatus status
     ) {
@@ -68,7 +76,7 @@ public class CircleController {
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public CircleResponseDto create(
-            @AuthenticationPrincipal String userId,
+            @AuthenticationPrincipal(expression = "id") String userId,
             @RequestBody CircleCreateRequestDto circleCreateRequestDto
     ) {
         return this.circleService.create(userId, circleCreateRequestDto);
@@ -77,7 +85,7 @@ public class CircleController {
     @PutMapping(value = "/{circleId}")
     @ResponseStatus(value = HttpStatus.OK)
     public CircleResponseDto update(
-            @AuthenticationPrincipal String userId,
+            @AuthenticationPrincipal(expression = "id") String userId,
             @PathVariable String circleId,
             @RequestBody CircleUpdateRequestDto circleUpdateRequestDto
     ) {
@@ -87,7 +95,7 @@ public class CircleController {
     @GetMapping(value = "/{circleId}/applications")
     @ResponseStatus(value = HttpStatus.CREATED)
     public CircleMemberResponseDto userApply(
-            @AuthenticationPrincipal String userId,
+            @AuthenticationPrincipal(expression = "id") String userId,
             @PathVariable String circleId
     ) {
         return this.circleService.userApply(userId, circleId);
@@ -102,7 +110,7 @@ public class CircleController {
     @PutMapping(value = "/{circleId}/users/leave")
     @ResponseStatus(value = HttpStatus.OK)
     public CircleMemberResponseDto leaveUser(
-            @AuthenticationPrincipal String userId,
+            @AuthenticationPrincipal(expression = "id") String userId,
             @PathVariable String circleId
     ) {
         return this.circleService.leaveUser(userId, circleId);
@@ -111,7 +119,7 @@ public class CircleController {
     @PutMapping(value = "/{circleId}/users/{userId}/drop")
     @ResponseStatus(value = HttpStatus.OK)
     public CircleMemberResponseDto dropUser(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String userId,
             @PathVariable String circleId
     ) {
@@ -125,7 +133,7 @@ public class CircleController {
     @PutMapping(value = "/applications/{applicationId}/accept")
     @ResponseStatus(value = HttpStatus.OK)
     public CircleMemberResponseDto acceptUser(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String applicationId
     ) {
         return this.circleService.acceptUser(requestUserId, applicationId);
@@ -134,7 +142,7 @@ public class CircleController {
     @PutMapping(value = "/applications/{applicationId}/reject")
     @ResponseStatus(value = HttpStatus.OK)
     public CircleMemberResponseDto rejectUser(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String applicationId
     ) {
         return this.circleService.rejectUser(requestUserId, applicationId);
@@ -143,7 +151,7 @@ public class CircleController {
     @DeleteMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public CircleResponseDto delete(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.circleService.delete(requestUserId, id);
@@ -1,10 +1,12 @@
 package net.causw.adapter.web;
 
 import net.causw.application.CommentService;
+import net.causw.application.dto.CommentChildAllResponseDto;
 import net.causw.application.dto.CommentCreateRequestDto;
 import net.causw.application.dto.CommentResponseDto;
 import net.causw.application.dto.CommentUpdateRequestDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,7 +32,7 @@ public class CommentController {
     @PostMapping
     @ResponseStatus(HttpStatus.OK)
     public CommentResponseDto create(
-            @AuthenticationPrincipal String creatorId,
+            @AuthenticationPrincipal(expression = "id") String creatorId,
             @RequestBody CommentCreateRequestDto commentCreateRequestDto
     ) {
         return this.commentService.create(creatorId, commentCreateRequestDto);
@@ -39,17 +41,38 @@ public class CommentController {
     @GetMapping(params = "postId")
     @ResponseStatus(value = HttpStatus.OK)
     public Page<CommentResponseDto> findAll(
-            @AuthenticationPrincipal String userId,
+            @AuthenticationPrincipal(expression = "id") String userId,
+            @RequestParam String postId,
+            @RequestParam(defaultValue = "0") Integer pageNum,
+            @RequestParam(required = false) Integer childLimit
+    ) {
+        return this.commentService.findAll(userId, postId, pageNum, childLimit);
+    }
+
+    @GetMapping(value = "/{id}/child")
+    @ResponseStatus(value = HttpStatus.OK)
+    public CommentChildAllResponseDto findAllChild(
+            @AuthenticationPrincipal(expression = "id") String userId,
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor
+    ) {
+        return this.commentService.findAllChild(userId, id, cursor);
+    }
+
+    @GetMapping(value = "/slice", params = "postId")
+    @ResponseStatus(value = HttpStatus.OK)
+    public Slice<CommentResponseDto> findAllSlice(
+            @AuthenticationPrincipal(expression = "id") String userId,
             @RequestParam String postId,
             @RequestParam(defaultValue = "0") Integer pageNum
     ) {
-        return this.commentService.findAll(userId, postId, pageNum);
+        return this.commentService.findAllSlice(userId, postId, pageNum);
     }
 
     @PutMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public CommentResponseDto update(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id,
             @RequestBody CommentUpdateRequestDto commentUpdateRequestDto
     ) {
@@ -63,7 +86,7 @@ public class CommentController {
     @DeleteMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public CommentResponseDto delete(
-            @AuthenticationPrincipal String userId,
+            @AuthenticationPrincipal(expression = "id") String userId,
             @PathVariable String id
     ) {
         return this.commentService.delete(userId, id);
@@ -0,0 +1,36 @@
+package net.causw.adapter.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET with a strong ETag built from a cheap version string,
+ * so a matching If-None-Match is answered with 304 before the response body is loaded.
+ * The version supplier is expected to run the access checks of the endpoint, as the body is not loaded on a 304.
+ */
+public final class ConditionalResponse {
+    private ConditionalResponse() {
+    }
+
+    public static <T> ResponseEntity<T> of(WebRequest webRequest, String version, Supplier<T> body) {
+        return of(webRequest, version, body, () -> {
+        });
+    }
+
+    // notModified runs only when the response is 304, for side effects the body supplier would have had
+    public static <T> ResponseEntity<T> of(WebRequest webRequest, String version, Supplier<T> body, Runnable notModified) {
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        if (webRequest.checkNotModified(eTag)) {
+            notModified.run();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+}
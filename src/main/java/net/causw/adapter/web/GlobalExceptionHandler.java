@@ -5,6 +5,7 @@ import net.causw.application.dto.ConstraintExceptionDto;
 import net.causw.application.dto.ExceptionDto;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.ServiceUnavailableException;
 import net.causw.domain.exceptions.UnauthorizedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -62,6 +63,13 @@ public class GlobalExceptionHandler {
         return new ExceptionDto(ErrorCode.API_NOT_ACCESSIBLE, exception.getMessage());
     }
 
+    @ExceptionHandler(value = {ServiceUnavailableException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionDto handleServiceUnavailableException(ServiceUnavailableException exception) {
+        GlobalExceptionHandler.log.error("error message", exception);
+        return new ExceptionDto(exception.getErrorCode(), exception.getMessage());
+    }
+
     @ExceptionHandler(value = {Exception.class})
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ExceptionDto unknownException(Exception exception) {
@@ -1,7 +1,9 @@
 package net.causw.adapter.web;
 
 import net.causw.application.HomePageService;
+import net.causw.application.dto.HomePageCacheStatsResponseDto;
 import net.causw.application.dto.HomePageResponseDto;
+import net.causw.domain.model.UserPrincipal;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,7 +24,13 @@ public class HomePageController {
 
     @GetMapping
     @ResponseStatus(value = HttpStatus.OK)
-    public List<HomePageResponseDto> getHomePage(@AuthenticationPrincipal String userId) {
-        return this.homePageService.getHomePage(userId);
+    public List<HomePageResponseDto> getHomePage(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return this.homePageService.getHomePage(userPrincipal);
+    }
+
+    @GetMapping(value = "/cache-stats")
+    @ResponseStatus(value = HttpStatus.OK)
+    public HomePageCacheStatsResponseDto getCacheStats(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return this.homePageService.getCacheStats(userPrincipal);
     }
 }
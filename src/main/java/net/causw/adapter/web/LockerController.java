@@ -1,15 +1,22 @@
 package net.causw.adapter.web;
 
 import net.causw.application.LockerService;
+import net.causw.application.dto.LockerAllocationResponseDto;
+import net.causw.application.dto.LockerApplicationRequestDto;
+import net.causw.application.dto.LockerApplicationResponseDto;
 import net.causw.application.dto.LockerCreateRequestDto;
+import net.causw.application.dto.LockerEventStatsResponseDto;
 import net.causw.application.dto.LockerLocationCreateRequestDto;
 import net.causw.application.dto.LockerLocationResponseDto;
 import net.causw.application.dto.LockerLocationUpdateRequestDto;
 import net.causw.application.dto.LockerLogDetailDto;
 import net.causw.application.dto.LockerMoveRequestDto;
+import net.causw.application.dto.LockerOccupancyResponseDto;
 import net.causw.application.dto.LockerResponseDto;
 import net.causw.application.dto.LockerUpdateRequestDto;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +27,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -41,7 +50,7 @@ public class LockerController {
     @PostMapping(value = "/")
     @ResponseStatus(value = HttpStatus.CREATED)
     public LockerResponseDto create(
-            @AuthenticationPrincipal String creatorId,
+            @AuthenticationPrincipal(expression = "id") String creatorId,
             @RequestBody LockerCreateRequestDto locker
     ) {
         return this.lockerService.create(creatorId, locker);
@@ -50,17 +59,32 @@ public class LockerController {
     @PutMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public LockerResponseDto update(
-            @AuthenticationPrincipal String updaterId,
+            @AuthenticationPrincipal(expression = "id") String updaterId,
             @PathVariable String id,
             @RequestBody LockerUpdateRequestDto lockerUpdateRequestDto
     ) {
         return this.lockerService.update(updaterId, id, lockerUpdateRequestDto);
     }
 
+    @PutMapping(value = "/applications")
+    @ResponseStatus(value = HttpStatus.OK)
+    public LockerApplicationResponseDto apply(
+            @AuthenticationPrincipal(expression = "id") String applicantId,
+            @RequestBody LockerApplicationRequestDto lockerApplicationRequestDto
+    ) {
+        return this.lockerService.apply(applicantId, lockerApplicationRequestDto);
+    }
+
+    @PostMapping(value = "/applications/allocate")
+    @ResponseStatus(value = HttpStatus.OK)
+    public LockerAllocationResponseDto allocate(@AuthenticationPrincipal(expression = "id") String allocatorId) {
+        return this.lockerService.allocate(allocatorId);
+    }
+
     @PutMapping(value = "/{id}/move")
     @ResponseStatus(value = HttpStatus.OK)
     public LockerResponseDto move(
-            @AuthenticationPrincipal String updaterId,
+            @AuthenticationPrincipal(expression = "id") String updaterId,
             @PathVariable String id,
             @RequestBody LockerMoveRequestDto lockerMoveRequestDto
     ) {
@@ -70,16 +94,19 @@ public class LockerController {
     @DeleteMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public LockerResponseDto delete(
-            @AuthenticationPrincipal String deleterId,
+            @AuthenticationPrincipal(expression = "id") String deleterId,
             @PathVariable String id
     ) {
         return this.lockerService.delete(deleterId, id);
     }
     
     @GetMapping(value = "/locations")
-    @ResponseStatus(value = HttpStatus.OK)
-    public List<LockerLocationResponseDto> findAllLocation() {
-        return this.lockerService.findAllLocation();
+    public ResponseEntity<List<LockerLocationResponseDto>> findAllLocation(WebRequest webRequest) {
+        return ConditionalResponse.of(
+                webRequest,
+                this.lockerService.findAllLocationVersion(),
+                this.lockerService::findAllLocation
+        );
     }
 
     @GetMapping(value = "/locations/{locationId}")
@@ -88,10 +115,33 @@ public class LockerController {
         return this.lockerService.findByLocation(locationId);
     }
 
+    @GetMapping(value = "/locations/{locationId}/occupancy")
+    public ResponseEntity<LockerOccupancyResponseDto> findOccupancy(
+            @PathVariable String locationId,
+            WebRequest webRequest
+    ) {
+        return ConditionalResponse.of(
+                webRequest,
+                this.lockerService.findOccupancyVersion(locationId),
+                () -> this.lockerService.findOccupancy(locationId)
+        );
+    }
+
+    @GetMapping(value = "/locations/{locationId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLocation(@PathVariable String locationId) {
+        return this.lockerService.subscribeLocation(locationId);
+    }
+
+    @GetMapping(value = "/events/stats")
+    @ResponseStatus(value = HttpStatus.OK)
+    public LockerEventStatsResponseDto getEventStats(@AuthenticationPrincipal(expression = "id") String requestUserId) {
+        return this.lockerService.getEventStats(requestUserId);
+    }
+
     @PostMapping(value = "/locations")
     @ResponseStatus(value = HttpStatus.CREATED)
     public LockerLocationResponseDto createLocation(
-            @AuthenticationPrincipal String creatorId,
+            @AuthenticationPrincipal(expression = "id") String creatorId,
             @RequestBody LockerLocationCreateRequestDto lockerLocation
     ) {
         return this.lockerService.createLocation(creatorId, lockerLocation);
@@ -100,7 +150,7 @@ public class LockerController {
     @PutMapping(value = "/locations/{locationId}")
     @ResponseStatus(value = HttpStatus.OK)
     public LockerLocationResponseDto updateLocation(
-            @AuthenticationPrincipal String updaterId,
+            @AuthenticationPrincipal(expression = "id") String updaterId,
             @PathVariable String locationId,
             @RequestBody LockerLocationUpdateRequestDto lockerLocation
     ) {
@@ -110,7 +160,7 @@ public class LockerController {
     @DeleteMapping(value = "/locations/{locationId}")
     @ResponseStatus(value = HttpStatus.OK)
     public LockerLocationResponseDto deleteLocation(
-            @AuthenticationPrincipal String deleterId,
+            @AuthenticationPrincipal(expression = "id") String deleterId,
             @PathVariable String locationId
     ) {
         return this.lockerService.deleteLocation(deleterId, locationId);
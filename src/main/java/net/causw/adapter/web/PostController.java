@@ -1,13 +1,24 @@
 package net.causw.adapter.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import net.causw.application.PostService;
+import net.causw.application.ResponseCache;
+import net.causw.application.dto.CommentCountReconcileResponseDto;
 import net.causw.application.dto.PostAllResponseDto;
+import net.causw.application.dto.PostAllWithBoardCursorResponseDto;
 import net.causw.application.dto.PostAllWithBoardResponseDto;
 import net.causw.application.dto.PostCreateRequestDto;
 import net.causw.application.dto.PostResponseDto;
+import net.causw.application.dto.PostSearchAllResponseDto;
 import net.causw.application.dto.PostUpdateRequestDto;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.model.PostAccessDomainModel;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,47 +30,111 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/posts")
 public class PostController {
     private final PostService postService;
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
 
-    public PostController(PostService postService) {
+    public PostController(
+            PostService postService,
+            ResponseCache responseCache,
+            ObjectMapper objectMapper
+    ) {
         this.postService = postService;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(value = "/{id}")
-    @ResponseStatus(value = HttpStatus.OK)
-    public PostResponseDto findById(
-            @AuthenticationPrincipal String requestUserId,
-            @PathVariable String id
+    public ResponseEntity<PostResponseDto> findById(
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
+            @PathVariable String id,
+            WebRequest webRequest
     ) {
-        return this.postService.findById(requestUserId, id);
+        PostAccessDomainModel postAccessDomainModel = this.postService.findAccessById(requestUserId, id);
+
+        return ConditionalResponse.of(
+                webRequest,
+                postAccessDomainModel.getVersion(),
+                () -> this.postService.findById(postAccessDomainModel),
+                () -> this.postService.increaseViewCount(id)
+        );
     }
 
     @GetMapping
     @ResponseStatus(value = HttpStatus.OK)
     public PostAllWithBoardResponseDto findAll(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @RequestParam String boardId,
             @RequestParam(defaultValue = "0") Integer pageNum
     ) {
         return this.postService.findAll(requestUserId, boardId, pageNum);
     }
 
-    @GetMapping("/app/notice")
+    @GetMapping(value = "/slice")
+    @ResponseStatus(value = HttpStatus.OK)
+    public PostAllWithBoardResponseDto findAllSlice(
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
+            @RequestParam String boardId,
+            @RequestParam(defaultValue = "0") Integer pageNum
+    ) {
+        return this.postService.findAllSlice(requestUserId, boardId, pageNum);
+    }
+
+    @GetMapping(value = "/search")
+    @ResponseStatus(value = HttpStatus.OK)
+    public PostSearchAllResponseDto search(
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
+            @RequestParam String keyword,
+            @RequestParam(required = false) String boardId,
+            @RequestParam(required = false) String circleId,
+            @RequestParam(required = false) String cursor
+    ) {
+        return this.postService.search(requestUserId, keyword, boardId, circleId, cursor);
+    }
+
+    @GetMapping(params = "cursor")
     @ResponseStatus(value = HttpStatus.OK)
-    public PostAllWithBoardResponseDto findAllAppNotice(
+    public PostAllWithBoardCursorResponseDto findAllByCursor(
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
+            @RequestParam String boardId,
+            @RequestParam String cursor
+    ) {
+        return this.postService.findAllByCursor(requestUserId, boardId, cursor);
+    }
+
+    @GetMapping("/app/notice")
+    public ResponseEntity<byte[]> findAllAppNotice(
             @RequestParam(defaultValue = "0") Integer pageNum
     ) {
-        return this.postService.findAllAppNotice(pageNum);
+        byte[] response = this.responseCache.get(
+                PostService.APP_NOTICE_RESPONSE_CACHE,
+                String.valueOf(pageNum),
+                () -> {
+                    try {
+                        return this.objectMapper.writeValueAsBytes(this.postService.findAllAppNotice(pageNum));
+                    } catch (JsonProcessingException e) {
+                        throw new InternalServerException(
+                                ErrorCode.INTERNAL_SERVER,
+                                "App notice response serialization failed"
+                        );
+                    }
+                }
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
     }
 
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
     public PostResponseDto create(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @RequestBody PostCreateRequestDto postCreateRequestDto
     ) {
         return this.postService.create(requestUserId, postCreateRequestDto);
@@ -68,7 +143,7 @@ public class PostController {
     @DeleteMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public PostResponseDto delete(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.postService.delete(requestUserId, id);
@@ -77,7 +152,7 @@ public class PostController {
     @PutMapping(value = "/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public PostResponseDto update(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id,
             @RequestBody PostUpdateRequestDto postUpdateRequestDto
     ) {
@@ -87,4 +162,12 @@ public class PostController {
                 postUpdateRequestDto
         );
     }
+
+    @PutMapping(value = "/comment-count")
+    @ResponseStatus(value = HttpStatus.OK)
+    public CommentCountReconcileResponseDto reconcileCommentCount(
+            @AuthenticationPrincipal(expression = "id") String requestUserId
+    ) {
+        return this.postService.reconcileCommentCount(requestUserId);
+    }
 }
@@ -4,18 +4,21 @@ import net.causw.application.UserService;
 import net.causw.application.dto.BoardResponseDto;
 import net.causw.application.dto.CircleResponseDto;
 import net.causw.application.dto.DuplicatedCheckDto;
+import net.causw.application.dto.PasswordHasherStatsResponseDto;
 import net.causw.application.dto.UserAdmissionAllResponseDto;
 import net.causw.application.dto.UserAdmissionCreateRequestDto;
 import net.causw.application.dto.UserAdmissionResponseDto;
 import net.causw.application.dto.UserCreateRequestDto;
 import net.causw.application.dto.UserPasswordUpdateRequestDto;
 import net.causw.application.dto.UserResponseDto;
+import net.causw.application.dto.UserSearchAllResponseDto;
 import net.causw.application.dto.UserSignInRequestDto;
 import net.causw.application.dto.UserUpdateRequestDto;
 import net.causw.application.dto.UserUpdateRoleRequestDto;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserState;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.parameters.P;
@@ -44,23 +47,33 @@ public class UserController {
 
     @GetMapping(value = "/me")
     @ResponseStatus(value = HttpStatus.OK)
-    public UserResponseDto findCurrentUser(@AuthenticationPrincipal String currentUserId) {
+    public UserResponseDto findCurrentUser(@AuthenticationPrincipal(expression = "id") String currentUserId) {
         return this.userService.findById(currentUserId);
     }
 
     @GetMapping(value = "/name/{name}")
     @ResponseStatus(value = HttpStatus.OK)
     public List<UserResponseDto> findByName(
-            @AuthenticationPrincipal String currentUserId,
+            @AuthenticationPrincipal(expression = "id") String currentUserId,
             @PathVariable String name
     ) {
         return this.userService.findByName(currentUserId, name);
     }
 
+    @GetMapping(value = "/search")
+    @ResponseStatus(value = HttpStatus.OK)
+    public UserSearchAllResponseDto search(
+            @AuthenticationPrincipal(expression = "id") String currentUserId,
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor
+    ) {
+        return this.userService.search(currentUserId, keyword, cursor);
+    }
+
     @GetMapping(value = "/role/{role}")
     @ResponseStatus(value = HttpStatus.OK)
     public List<UserResponseDto> findByRole(
-            @AuthenticationPrincipal String currentUserId,
+            @AuthenticationPrincipal(expression = "id") String currentUserId,
             @PathVariable Role role
     ) {
         return this.userService.findByRole(currentUserId, role);
@@ -69,7 +82,7 @@ public class UserController {
     @GetMapping(value = "/state/{state}")
     @ResponseStatus(value = HttpStatus.OK)
     public List<UserResponseDto> findByState(
-            @AuthenticationPrincipal String currentUserId,
+            @AuthenticationPrincipal(expression = "id") String currentUserId,
             @PathVariable String state
     ) {
         return this.userService.findByState(currentUserId, state);
@@ -96,7 +109,7 @@ public class UserController {
     @PutMapping
     @ResponseStatus(value = HttpStatus.OK)
     public UserResponseDto update(
-            @AuthenticationPrincipal String id,
+            @AuthenticationPrincipal(expression = "id") String id,
             @RequestBody UserUpdateRequestDto userUpdateDto
     ) {
         return this.userService.update(id, userUpdateDto);
@@ -105,7 +118,7 @@ public class UserController {
     @PutMapping(value = "/{granteeId}/role")
     @ResponseStatus(value = HttpStatus.OK)
     public UserResponseDto updateRole(
-            @AuthenticationPrincipal String grantorId,
+            @AuthenticationPrincipal(expression = "id") String grantorId,
             @PathVariable String granteeId,
             @RequestBody UserUpdateRoleRequestDto userUpdateRoleRequestDto
     ) {
@@ -115,7 +128,7 @@ public class UserController {
     @PutMapping(value = "/password")
     @ResponseStatus(value = HttpStatus.OK)
     public UserResponseDto updatePassword(
-            @AuthenticationPrincipal String id,
+            @AuthenticationPrincipal(expression = "id") String id,
             @RequestBody UserPasswordUpdateRequestDto userPasswordUpdateRequestDto
     ) {
         return this.userService.updatePassword(id, userPasswordUpdateRequestDto);
@@ -123,14 +136,14 @@ public class UserController {
 
     @DeleteMapping
     @ResponseStatus(value = HttpStatus.OK)
-    public UserResponseDto leave(@AuthenticationPrincipal String id) {
+    public UserResponseDto leave(@AuthenticationPrincipal(expression = "id") String id) {
         return this.userService.leave(id);
     }
 
     @PutMapping(value = "{id}/drop")
     @ResponseStatus(value = HttpStatus.OK)
     public UserResponseDto drop(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.userService.dropUser(requestUserId, id);
@@ -138,14 +151,14 @@ public class UserController {
 
     @GetMapping(value = "/circles")
     @ResponseStatus(value = HttpStatus.OK)
-    public List<CircleResponseDto> getCircleList(@AuthenticationPrincipal String currentUserId) {
+    public List<CircleResponseDto> getCircleList(@AuthenticationPrincipal(expression = "id") String currentUserId) {
         return this.userService.getCircleList(currentUserId);
     }
 
     @GetMapping(value = "/admissions/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public UserAdmissionResponseDto findAdmissionById(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.userService.findAdmissionById(requestUserId, id);
@@ -154,7 +167,7 @@ public class UserController {
     @GetMapping(value = "/admissions")
     @ResponseStatus(value = HttpStatus.OK)
     public Page<UserAdmissionAllResponseDto> findAllAdmissions(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @RequestParam UserState userState,
             @RequestParam(defaultValue = "0") Integer pageNum
     ) {
@@ -165,6 +178,20 @@ public class UserController {
         );
     }
 
+    @GetMapping(value = "/admissions/slice")
+    @ResponseStatus(value = HttpStatus.OK)
+    public Slice<UserAdmissionAllResponseDto> findAllAdmissionsSlice(
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
+            @RequestParam UserState userState,
+            @RequestParam(defaultValue = "0") Integer pageNum
+    ) {
+        return this.userService.findAllAdmissionsSlice(
+                requestUserId,
+                userState,
+                pageNum
+        );
+    }
+
     @PostMapping(value = "/admissions/apply")
     @ResponseStatus(value = HttpStatus.CREATED)
     public UserAdmissionResponseDto createAdmission(
@@ -175,7 +202,7 @@ public class UserController {
 
     @PutMapping(value = "/admissions/{id}/accept")
     public UserAdmissionResponseDto acceptAdmission(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.userService.accept(
@@ -186,7 +213,7 @@ public class UserController {
 
     @PutMapping(value = "/admissions/{id}/reject")
     public UserAdmissionResponseDto rejectAdmission(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.userService.reject(
@@ -198,7 +225,7 @@ public class UserController {
     @PostMapping(value = "/favorite-boards/{boardId}")
     @ResponseStatus(value = HttpStatus.CREATED)
     public BoardResponseDto createFavoriteBoard(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String boardId
     ) {
         return this.userService.createFavoriteBoard(
@@ -210,7 +237,7 @@ public class UserController {
     @PutMapping(value = "/restore/{id}")
     @ResponseStatus(value = HttpStatus.OK)
     public UserResponseDto restore(
-            @AuthenticationPrincipal String requestUserId,
+            @AuthenticationPrincipal(expression = "id") String requestUserId,
             @PathVariable String id
     ) {
         return this.userService.restore(
@@ -218,4 +245,10 @@ public class UserController {
                 id
         );
     }
+
+    @GetMapping(value = "/password-hasher/stats")
+    @ResponseStatus(value = HttpStatus.OK)
+    public PasswordHasherStatsResponseDto getPasswordHasherStats(@AuthenticationPrincipal(expression = "id") String requestUserId) {
+        return this.userService.getPasswordHasherStats(requestUserId);
+    }
 }
@@ -7,7 +7,6 @@ import net.causw.application.dto.BoardUpdateRequestDto;
 import net.causw.application.spi.BoardPort;
 import net.causw.application.spi.CircleMemberPort;
 import net.causw.application.spi.CirclePort;
-import net.causw.application.spi.CommentPort;
 import net.causw.application.spi.PostPort;
 import net.causw.application.spi.UserPort;
 import net.causw.domain.exceptions.BadRequestException;
@@ -41,7 +40,6 @@ public class BoardService {
     private final PostPort postPort;
     private final CirclePort circlePort;
     private final CircleMemberPort circleMemberPort;
-    private final CommentPort commentPort;
     private final Validator validator;
 
     public BoardService(
@@ -50,7 +48,6 @@ public class BoardService {
             PostPort postPort,
             CirclePort circlePort,
             CircleMemberPort circleMemberPort,
-            CommentPort commentPort,
             Validator validator
     ) {
         this.boardPort = boardPort;
@@ -58,10 +55,27 @@ public class BoardService {
         this.postPort = postPort;
         this.circlePort = circlePort;
         this.circleMemberPort = circleMemberPort;
-        this.commentPort = commentPort;
         this.validator = validator;
     }
 
+    // Changes whenever the response of findAll for this user would change, checked like findAll before a 304
+    @Transactional(readOnly = true)
+    public String findVersion(String userId) {
+        UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()))
+                .validate();
+
+        return String.join(",", this.boardPort.findVersion(), userDomainModel.getRole().getValue(), userDomainModel.getState().getValue());
+    }
+
     @Transactional(readOnly = true)
     public List<BoardResponseDto> findAll(String userId) {
         UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
@@ -124,8 +138,7 @@ public class BoardService {
                         postDomainModel -> BoardOfCircleResponseDto.from(
                                 boardDomainModel,
                                 userDomainModel.getRole(),
-                                postDomainModel,
-                                this.commentPort.countByPostId(postDomainModel.getId())
+                                postDomainModel
                         )
                 ).orElse(
                         BoardOfCircleResponseDto.from(
@@ -56,6 +56,28 @@ public class CircleService {
         this.validator = validator;
     }
 
+    // Checked like findById before a 304, so a deleted circle is not revalidated
+    @Transactional(readOnly = true)
+    public String findVersionById(String id) {
+        CircleDomainModel circle = this.circlePort.findById(id).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "소모임을 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(TargetIsDeletedValidator.of(circle.getIsDeleted(), circle.getDOMAIN()))
+                .validate();
+
+        return this.circlePort.findVersion(id).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "소모임을 찾을 수 없습니다."
+                )
+        );
+    }
+
     @Transactional(readOnly = true)
     public CircleResponseDto findById(String id) {
         CircleDomainModel circle = this.circlePort.findById(id).orElseThrow(
@@ -1,5 +1,6 @@
 package net.causw.application;
 
+import net.causw.application.dto.CommentChildAllResponseDto;
 import net.causw.application.dto.CommentCreateRequestDto;
 import net.causw.application.dto.CommentResponseDto;
 import net.causw.application.dto.CommentUpdateRequestDto;
@@ -14,6 +15,7 @@ import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.CircleMemberDomainModel;
 import net.causw.domain.model.CircleMemberStatus;
 import net.causw.domain.model.CommentDomainModel;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.PostDomainModel;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserDomainModel;
@@ -26,6 +28,7 @@ import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +37,8 @@ import java.util.List;
 
 @Service
 public class CommentService {
+    private static final int MAX_CHILD_LIMIT = 20;
+
     private final CommentPort commentPort;
     private final UserPort userPort;
     private final PostPort postPort;
@@ -117,8 +122,11 @@ public class CommentService {
                 .consistOf(ConstraintValidator.of(commentDomainModel, this.validator))
                 .validate();
 
+        CommentDomainModel createdCommentDomainModel = this.commentPort.create(commentDomainModel, postDomainModel);
+        this.postPort.increaseCommentCount(postDomainModel.getId());
+
         return CommentResponseDto.from(
-                this.commentPort.create(commentDomainModel, postDomainModel),
+                createdCommentDomainModel,
                 creatorDomainModel,
                 postDomainModel.getBoard()
         );
@@ -126,6 +134,146 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public Page<CommentResponseDto> findAll(String userId, String postId, Integer pageNum) {
+        return this.findAll(userId, postId, pageNum, null);
+    }
+
+    // Without child limit, every child comment of the root comments is included
+    @Transactional(readOnly = true)
+    public Page<CommentResponseDto> findAll(String userId, String postId, Integer pageNum, Integer childLimit) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        if (childLimit != null && (childLimit < 0 || childLimit > MAX_CHILD_LIMIT)) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    "답글 개수는 0 이상 " + MAX_CHILD_LIMIT + " 이하여야 합니다."
+            );
+        }
+
+        UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        PostDomainModel postDomainModel = this.postPort.findById(postId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시글을 찾을 수 없습니다."
+                )
+        );
+
+        validatorBucket
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()))
+                .consistOf(TargetIsDeletedValidator.of(postDomainModel.getBoard().getIsDeleted(), postDomainModel.getBoard().getDOMAIN()))
+                .consistOf(TargetIsDeletedValidator.of(postDomainModel.getIsDeleted(), postDomainModel.getDOMAIN()));
+
+        postDomainModel.getBoard().getCircle().ifPresent(
+                circleDomainModel -> {
+                    CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(userId, circleDomainModel.getId()).orElseThrow(
+                            () -> new UnauthorizedException(
+                                    ErrorCode.NOT_MEMBER,
+                                    "로그인된 사용자가 가입 신청한 소모임이 아닙니다."
+                            )
+                    );
+
+                    validatorBucket
+                            .consistOf(CircleMemberStatusValidator.of(
+                                    circleMemberDomainModel.getStatus(),
+                                    List.of(CircleMemberStatus.MEMBER)
+                            ));
+                }
+        );
+
+        validatorBucket
+                .validate();
+
+        Page<CommentDomainModel> commentDomainModelPage = (childLimit == null)
+                ? this.commentPort.findByPostId(postId, pageNum)
+                : this.commentPort.findByPostId(postId, pageNum, childLimit);
+
+        return commentDomainModelPage
+                .map(commentDomainModel ->
+                        CommentResponseDto.from(commentDomainModel, userDomainModel, postDomainModel.getBoard())
+                );
+    }
+
+    @Transactional(readOnly = true)
+    public CommentChildAllResponseDto findAllChild(String userId, String parentCommentId, String cursor) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        CommentDomainModel parentCommentDomainModel = this.commentPort.findById(parentCommentId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "상위 댓글을 찾을 수 없습니다."
+                )
+        );
+
+        PostDomainModel postDomainModel = this.postPort.findById(parentCommentDomainModel.getPostId()).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시글을 찾을 수 없습니다."
+                )
+        );
+
+        validatorBucket
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()))
+                .consistOf(TargetIsDeletedValidator.of(postDomainModel.getBoard().getIsDeleted(), postDomainModel.getBoard().getDOMAIN()))
+                .consistOf(TargetIsDeletedValidator.of(postDomainModel.getIsDeleted(), postDomainModel.getDOMAIN()));
+
+        postDomainModel.getBoard().getCircle().ifPresent(
+                circleDomainModel -> {
+                    CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(userId, circleDomainModel.getId()).orElseThrow(
+                            () -> new UnauthorizedException(
+                                    ErrorCode.NOT_MEMBER,
+                                    "로그인된 사용자가 가입 신청한 소모임이 아닙니다."
+                            )
+                    );
+
+                    validatorBucket
+                            .consistOf(CircleMemberStatusValidator.of(
+                                    circleMemberDomainModel.getStatus(),
+                                    List.of(CircleMemberStatus.MEMBER)
+                            ));
+                }
+        );
+
+        validatorBucket
+                .validate();
+
+        Slice<CommentDomainModel> childCommentDomainModelSlice = this.commentPort.findChildByParentCommentId(
+                parentCommentId,
+                Cursor.decode(cursor).orElse(null)
+        );
+
+        String nextCursor = null;
+        if (childCommentDomainModelSlice.hasNext()) {
+            CommentDomainModel lastChildCommentDomainModel = childCommentDomainModelSlice.getContent().get(childCommentDomainModelSlice.getNumberOfElements() - 1);
+            nextCursor = Cursor.of(lastChildCommentDomainModel.getCreatedAt(), lastChildCommentDomainModel.getId()).encode();
+        }
+
+        return CommentChildAllResponseDto.from(
+                parentCommentId,
+                childCommentDomainModelSlice
+                        .map(commentDomainModel ->
+                                CommentResponseDto.from(commentDomainModel, userDomainModel, postDomainModel.getBoard())
+                        )
+                        .getContent(),
+                nextCursor
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CommentResponseDto> findAllSlice(String userId, String postId, Integer pageNum) {
         ValidatorBucket validatorBucket = ValidatorBucket.of();
 
         UserDomainModel userDomainModel = this.userPort.findById(userId).orElseThrow(
@@ -168,7 +316,7 @@ public class CommentService {
         validatorBucket
                 .validate();
 
-        return this.commentPort.findByPostId(postId, pageNum)
+        return this.commentPort.findSliceByPostId(postId, pageNum)
                 .map(commentDomainModel ->
                         CommentResponseDto.from(commentDomainModel, userDomainModel, postDomainModel.getBoard())
                 );
@@ -339,13 +487,16 @@ public class CommentService {
         validatorBucket
                 .validate();
 
+        CommentDomainModel deletedCommentDomainModel = this.commentPort.delete(commentId).orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        "Comment id checked, but exception occurred"
+                )
+        );
+        this.postPort.decreaseCommentCount(postDomainModel.getId());
+
         return CommentResponseDto.from(
-                this.commentPort.delete(commentId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Comment id checked, but exception occurred"
-                        )
-                ),
+                deletedCommentDomainModel,
                 deleterDomainModel,
                 postDomainModel.getBoard()
         );
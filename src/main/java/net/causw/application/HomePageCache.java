@@ -0,0 +1,129 @@
+package net.causw.application;
+
+import net.causw.application.dto.HomePageCacheStatsResponseDto;
+import net.causw.application.dto.HomePageResponseDto;
+import net.causw.domain.model.Role;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Assembled home page per user, bounded in size (least recently used first out).
+ * Entries are evicted when a post is written on one of the user's favorite boards or a favorite board is added,
+ * and an entry built for another role is treated as a miss because the board responses depend on the role.
+ * Evictions are applied at once and again after the writing transaction commits, and a home page built
+ * across an eviction is not cached, so a rebuild can not cache the data from before the write.
+ */
+@Component
+public class HomePageCache {
+    private static final int MAX_SIZE = 5000;
+    private static final long TTL_MILLIS = 60 * 1000L;
+
+    private final Map<String, Entry> entryMap;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private long version = 0L;
+
+    public HomePageCache() {
+        this.entryMap = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > MAX_SIZE) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Optional<List<HomePageResponseDto>> get(String userId, Role role) {
+        Entry entry = this.entryMap.get(userId);
+        if (entry == null || entry.role != role || entry.expiredAt <= System.currentTimeMillis()) {
+            this.missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        this.hitCount.incrementAndGet();
+        return Optional.of(entry.homePage);
+    }
+
+    // Taken before loading a home page, and passed back to put
+    public synchronized long getVersion() {
+        return this.version;
+    }
+
+    public synchronized void put(String userId, Role role, long version, List<HomePageResponseDto> homePage) {
+        if (this.version != version) {
+            return;
+        }
+
+        this.entryMap.put(userId, new Entry(role, homePage, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    public void evict(String userId) {
+        this.evictAfterCommit((key, entry) -> key.equals(userId));
+    }
+
+    public void evictByBoardId(String boardId) {
+        this.evictAfterCommit((key, entry) -> entry.homePage.stream()
+                .anyMatch(homePageResponseDto -> boardId.equals(homePageResponseDto.getBoard().getId())));
+    }
+
+    public synchronized HomePageCacheStatsResponseDto getStats() {
+        return HomePageCacheStatsResponseDto.of(
+                this.entryMap.size(),
+                MAX_SIZE,
+                this.hitCount.get(),
+                this.missCount.get(),
+                this.evictionCount.get()
+        );
+    }
+
+    private void evictAfterCommit(EntryPredicate predicate) {
+        this.remove(predicate);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(predicate);
+                }
+            });
+        }
+    }
+
+    private synchronized void remove(EntryPredicate predicate) {
+        this.version++;
+        this.entryMap.entrySet().removeIf(mapEntry -> {
+            boolean matched = predicate.test(mapEntry.getKey(), mapEntry.getValue());
+            if (matched) {
+                this.evictionCount.incrementAndGet();
+            }
+            return matched;
+        });
+    }
+
+    private interface EntryPredicate {
+        boolean test(String userId, Entry entry);
+    }
+
+    private static class Entry {
+        private final Role role;
+        private final List<HomePageResponseDto> homePage;
+        private final long expiredAt;
+
+        private Entry(Role role, List<HomePageResponseDto> homePage, long expiredAt) {
+            this.role = role;
+            this.homePage = homePage;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
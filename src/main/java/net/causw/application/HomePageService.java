@@ -1,70 +1,111 @@
 package net.causw.application;
 
 import net.causw.application.dto.BoardResponseDto;
+import net.causw.application.dto.HomePageCacheStatsResponseDto;
 import net.causw.application.dto.HomePageResponseDto;
 import net.causw.application.dto.PostAllResponseDto;
-import net.causw.application.spi.CommentPort;
 import net.causw.application.spi.FavoriteBoardPort;
 import net.causw.application.spi.PostPort;
 import net.causw.application.spi.UserPort;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.model.FavoriteBoardDomainModel;
+import net.causw.domain.model.PostSummaryDomainModel;
 import net.causw.domain.model.UserDomainModel;
+import net.causw.domain.model.UserPrincipal;
 import net.causw.domain.validation.UserRoleIsNoneValidator;
+import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class HomePageService {
+    private static final Integer NUM_POST_PER_BOARD = 3;
+
     private final FavoriteBoardPort favoriteBoardPort;
     private final UserPort userPort;
     private final PostPort postPort;
-    private final CommentPort commentPort;
+    private final HomePageCache homePageCache;
 
     public HomePageService(
             FavoriteBoardPort favoriteBoardPort,
             UserPort userPort,
             PostPort postPort,
-            CommentPort commentPort
+            HomePageCache homePageCache
     ) {
         this.favoriteBoardPort = favoriteBoardPort;
         this.userPort = userPort;
         this.postPort = postPort;
-        this.commentPort = commentPort;
+        this.homePageCache = homePageCache;
     }
 
-    public List<HomePageResponseDto> getHomePage(String userId) {
-        UserDomainModel user = this.userPort.findById(userId).orElseThrow(
-                () -> new BadRequestException(
-                        ErrorCode.ROW_DOES_NOT_EXIST,
-                        "로그인된 사용자를 찾을 수 없습니다."
-                )
-        );
+    // Role and state are those of the cached user, not of the token, so a demoted or blocked user loses access within the user cache period
+    @Transactional(readOnly = true)
+    public List<HomePageResponseDto> getHomePage(UserPrincipal userPrincipal) {
+        UserDomainModel user = this.findUser(userPrincipal);
 
         ValidatorBucket.of()
                 .consistOf(UserStateValidator.of(user.getState()))
                 .consistOf(UserRoleIsNoneValidator.of(user.getRole()))
                 .validate();
 
-        return this.favoriteBoardPort.findByUserId(userId)
+        String userId = user.getId();
+        Optional<List<HomePageResponseDto>> cachedHomePage = this.homePageCache.get(userId, user.getRole());
+        if (cachedHomePage.isPresent()) {
+            return cachedHomePage.get();
+        }
+
+        long cacheVersion = this.homePageCache.getVersion();
+        List<FavoriteBoardDomainModel> favoriteBoardDomainModelList = this.favoriteBoardPort.findByUserId(userId);
+
+        Map<String, Page<PostSummaryDomainModel>> postPageMap = this.postPort.findTopNByBoardIds(
+                favoriteBoardDomainModelList.stream()
+                        .map(favoriteBoardDomainModel -> favoriteBoardDomainModel.getBoardDomainModel().getId())
+                        .collect(Collectors.toList()),
+                NUM_POST_PER_BOARD
+        );
+
+        List<HomePageResponseDto> homePage = favoriteBoardDomainModelList
                 .stream()
                 .map(favoriteBoardDomainModel -> HomePageResponseDto.from(
                         BoardResponseDto.from(favoriteBoardDomainModel.getBoardDomainModel(), user.getRole()),
-                        this.postPort.findAll(
-                                favoriteBoardDomainModel.getBoardDomainModel().getId(),
-                                0,
-                                3
-                        )
-                                .map(postDomainModel -> PostAllResponseDto.from(
-                                        postDomainModel,
-                                        this.commentPort.countByPostId(postDomainModel.getId())
-                                ))
+                        postPageMap.get(favoriteBoardDomainModel.getBoardDomainModel().getId())
+                                .map(PostAllResponseDto::from)
                         )
                 )
                 .collect(Collectors.toList());
+
+        this.homePageCache.put(userId, user.getRole(), cacheVersion, homePage);
+
+        return homePage;
+    }
+
+    public HomePageCacheStatsResponseDto getCacheStats(UserPrincipal userPrincipal) {
+        UserDomainModel user = this.findUser(userPrincipal);
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(user.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(user.getRole()))
+                .consistOf(UserRoleValidator.of(user.getRole(), List.of()))
+                .validate();
+
+        return this.homePageCache.getStats();
+    }
+
+    private UserDomainModel findUser(UserPrincipal userPrincipal) {
+        return this.userPort.findById(userPrincipal.getId()).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
     }
 }
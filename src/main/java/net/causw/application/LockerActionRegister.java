@@ -6,8 +6,6 @@ import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.model.LockerDomainModel;
 import net.causw.domain.model.UserDomainModel;
-import net.causw.domain.validation.ConstraintValidator;
-import net.causw.domain.validation.ValidatorBucket;
 
 import javax.validation.Validator;
 import java.util.Optional;
@@ -36,19 +34,14 @@ public class LockerActionRegister implements LockerAction {
             );
         }
 
-        lockerDomainModel = LockerDomainModel.of(
-                lockerDomainModel.getId(),
-                lockerDomainModel.getLockerNumber(),
-                lockerDomainModel.getIsActive(),
-                null,
-                updaterDomainModel,
-                lockerDomainModel.getLockerLocation()
-        );
-
-        ValidatorBucket.of()
-                .consistOf(ConstraintValidator.of(lockerDomainModel, validator))
-                .validate();
-
-        return lockerPort.update(lockerDomainModel.getId(), lockerDomainModel);
+        /* Another user may have taken or the president may have disabled the locker since it was read,
+         * or the user already holds another locker
+         */
+        return Optional.of(lockerPort.claim(lockerDomainModel.getId(), updaterDomainModel.getId()).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.CANNOT_PERFORMED,
+                        "사물함을 등록할 수 없습니다. 이미 사용 중인 사물함이거나 다른 사물함을 사용 중입니다."
+                )
+        ));
     }
 }
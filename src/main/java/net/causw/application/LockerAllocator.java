@@ -0,0 +1,206 @@
+package net.causw.application;
+
+import net.causw.application.spi.LockerApplicationPort;
+import net.causw.application.spi.LockerLogPort;
+import net.causw.application.spi.LockerPort;
+import net.causw.domain.model.LockerAllocationDomainModel;
+import net.causw.domain.model.LockerApplicationDomainModel;
+import net.causw.domain.model.LockerDomainModel;
+import net.causw.domain.model.LockerEventDomainModel;
+import net.causw.domain.model.LockerEventType;
+import net.causw.domain.model.LockerLogAction;
+import net.causw.domain.model.LockerPreference;
+import net.causw.domain.model.Role;
+import net.causw.domain.model.UserDomainModel;
+import net.causw.domain.model.UserState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lottery allocation of lockers to the applications submitted during the application period.
+ * Applicants are drawn in a random order, and each gets the first of their ranked preferences still free,
+ * so the lockers are assigned in one pass in memory and written in a few bulk statements.
+ * The lottery is only in use with both bounds of the period configured; otherwise lockers are registered directly.
+ */
+@Component
+public class LockerAllocator {
+    private static final String ALLOCATION_MESSAGE = "사물함 추첨 배정";
+
+    private final LockerPort lockerPort;
+    private final LockerLogPort lockerLogPort;
+    private final LockerApplicationPort lockerApplicationPort;
+    private final LockerEventBroadcaster lockerEventBroadcaster;
+    private final Optional<LocalDateTime> openAt;
+    private final Optional<LocalDateTime> closeAt;
+    private final Random random;
+
+    @Autowired
+    public LockerAllocator(
+            LockerPort lockerPort,
+            LockerLogPort lockerLogPort,
+            LockerApplicationPort lockerApplicationPort,
+            LockerEventBroadcaster lockerEventBroadcaster,
+            @Value("${locker.application.open-at:}") String openAt,
+            @Value("${locker.application.close-at:}") String closeAt
+    ) {
+        this(lockerPort, lockerLogPort, lockerApplicationPort, lockerEventBroadcaster, openAt, closeAt, new SecureRandom());
+    }
+
+    // The draw order comes from the given random, so it can be reproduced
+    public LockerAllocator(
+            LockerPort lockerPort,
+            LockerLogPort lockerLogPort,
+            LockerApplicationPort lockerApplicationPort,
+            LockerEventBroadcaster lockerEventBroadcaster,
+            String openAt,
+            String closeAt,
+            Random random
+    ) {
+        this.lockerPort = lockerPort;
+        this.lockerLogPort = lockerLogPort;
+        this.lockerApplicationPort = lockerApplicationPort;
+        this.lockerEventBroadcaster = lockerEventBroadcaster;
+        this.openAt = Optional.ofNullable(openAt).filter(value -> !value.isBlank()).map(LocalDateTime::parse);
+        this.closeAt = Optional.ofNullable(closeAt).filter(value -> !value.isBlank()).map(LocalDateTime::parse);
+        this.random = random;
+    }
+
+    public boolean isApplicationOpen(LocalDateTime now) {
+        return this.isPeriodConfigured() && now.isAfter(this.openAt.get()) && now.isBefore(this.closeAt.get());
+    }
+
+    public boolean isApplicationClosed(LocalDateTime now) {
+        return this.isPeriodConfigured() && now.isAfter(this.closeAt.get());
+    }
+
+    // From the start of the period until the applications are allocated, lockers are only assigned by the lottery
+    public boolean isDirectRegisterAllowed(LocalDateTime now) {
+        if (!this.isPeriodConfigured() || !now.isAfter(this.openAt.get())) {
+            return true;
+        }
+
+        return this.isApplicationClosed(now) && !this.lockerApplicationPort.existsAny();
+    }
+
+    public List<LockerAllocationDomainModel> allocate(
+            List<LockerApplicationDomainModel> lockerApplicationDomainModelList,
+            List<LockerDomainModel> lockerDomainModelList
+    ) {
+        Set<String> lockerUserIdSet = new HashSet<>();
+        Map<Long, LockerDomainModel> freeLockerMap = new HashMap<>();
+        Map<String, TreeMap<Long, LockerDomainModel>> freeLockerByLocationMap = new HashMap<>();
+        lockerDomainModelList.forEach(lockerDomainModel -> {
+            if (lockerDomainModel.getUser().isPresent()) {
+                lockerUserIdSet.add(lockerDomainModel.getUser().get().getId());
+                return;
+            }
+
+            if (lockerDomainModel.getIsActive()) {
+                freeLockerMap.put(lockerDomainModel.getLockerNumber(), lockerDomainModel);
+                freeLockerByLocationMap
+                        .computeIfAbsent(lockerDomainModel.getLockerLocation().getId(), locationId -> new TreeMap<>())
+                        .put(lockerDomainModel.getLockerNumber(), lockerDomainModel);
+            }
+        });
+
+        List<LockerApplicationDomainModel> drawList = lockerApplicationDomainModelList
+                .stream()
+                .filter(lockerApplicationDomainModel -> isEligible(lockerApplicationDomainModel.getUser()))
+                .filter(lockerApplicationDomainModel -> !lockerUserIdSet.contains(lockerApplicationDomainModel.getUser().getId()))
+                .collect(Collectors.toList());
+        Collections.shuffle(drawList, this.random);
+
+        List<LockerAllocationDomainModel> lockerAllocationDomainModelList = new ArrayList<>();
+        for (LockerApplicationDomainModel lockerApplicationDomainModel : drawList) {
+            for (LockerPreference preference : lockerApplicationDomainModel.getPreferenceList()) {
+                LockerDomainModel lockerDomainModel = preference.isLockerNumber()
+                        ? freeLockerMap.get(preference.getLockerNumber())
+                        : Optional.ofNullable(freeLockerByLocationMap.get(preference.getLocationId()))
+                                .filter(freeLockerByNumberMap -> !freeLockerByNumberMap.isEmpty())
+                                .map(TreeMap::firstEntry)
+                                .map(Map.Entry::getValue)
+                                .orElse(null);
+
+                if (lockerDomainModel != null) {
+                    freeLockerMap.remove(lockerDomainModel.getLockerNumber());
+                    freeLockerByLocationMap.get(lockerDomainModel.getLockerLocation().getId()).remove(lockerDomainModel.getLockerNumber());
+                    lockerAllocationDomainModelList.add(LockerAllocationDomainModel.of(lockerDomainModel, lockerApplicationDomainModel));
+                    break;
+                }
+            }
+        }
+
+        return lockerAllocationDomainModelList;
+    }
+
+    /**
+     * Claims, logs and removes the applications of a chunk in one transaction.
+     * A locker registered directly since it was read is not claimed, and its applicant is left unassigned.
+     * Every claimed locker is published as a register event once the chunk commits.
+     *
+     * @return number of lockers actually claimed
+     */
+    @Transactional
+    public int write(List<LockerAllocationDomainModel> lockerAllocationDomainModelList) {
+        Set<String> claimedLockerIdSet = new HashSet<>(this.lockerPort.claimAll(lockerAllocationDomainModelList));
+        List<LockerAllocationDomainModel> claimedLockerAllocationDomainModelList = lockerAllocationDomainModelList
+                .stream()
+                .filter(lockerAllocationDomainModel -> claimedLockerIdSet.contains(lockerAllocationDomainModel.getLocker().getId()))
+                .collect(Collectors.toList());
+
+        this.lockerLogPort.createAll(
+                claimedLockerAllocationDomainModelList,
+                LockerLogAction.REGISTER,
+                ALLOCATION_MESSAGE
+        );
+
+        this.lockerApplicationPort.deleteByIds(
+                lockerAllocationDomainModelList
+                        .stream()
+                        .map(lockerAllocationDomainModel -> lockerAllocationDomainModel.getApplication().getId())
+                        .collect(Collectors.toList())
+        );
+
+        claimedLockerAllocationDomainModelList.forEach(lockerAllocationDomainModel -> {
+            LockerDomainModel lockerDomainModel = lockerAllocationDomainModel.getLocker();
+            this.lockerEventBroadcaster.publish(LockerEventDomainModel.of(
+                    LockerEventType.REGISTER,
+                    LockerDomainModel.of(
+                            lockerDomainModel.getId(),
+                            lockerDomainModel.getLockerNumber(),
+                            lockerDomainModel.getIsActive(),
+                            lockerDomainModel.getUpdatedAt(),
+                            lockerAllocationDomainModel.getApplication().getUser(),
+                            lockerDomainModel.getLockerLocation()
+                    ),
+                    lockerDomainModel.getLockerLocation().getId()
+            ));
+        });
+
+        return claimedLockerIdSet.size();
+    }
+
+    private boolean isPeriodConfigured() {
+        return this.openAt.isPresent() && this.closeAt.isPresent();
+    }
+
+    private static boolean isEligible(UserDomainModel user) {
+        return user.getState() == UserState.ACTIVE && user.getRole() != Role.NONE;
+    }
+}
@@ -0,0 +1,230 @@
+package net.causw.application;
+
+import net.causw.application.dto.LockerEventResponseDto;
+import net.causw.application.dto.LockerEventStatsResponseDto;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.ServiceUnavailableException;
+import net.causw.domain.model.LockerEventDomainModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans the locker events of this instance out to the server-sent event streams of their location.
+ * Events are only published once their transaction commits. Every subscriber has a bounded buffer of its own,
+ * drained by a small pool of sender threads, and a full buffer drops its oldest event, so a slow client
+ * never holds back the writer nor the other clients. Event ids are a sequence of their location, so a client
+ * seeing a gap in the stream of its location knows to fetch the occupancy of the location again.
+ */
+@Component
+public class LockerEventBroadcaster {
+    private final int bufferCapacity;
+    private final int maxSubscriberCount;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Set<Subscriber>> subscriberMap = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, AtomicLong> sequenceMap = new ConcurrentHashMap<>();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public LockerEventBroadcaster(
+            @Value("${locker.event.buffer-capacity:64}") int bufferCapacity,
+            @Value("${locker.event.max-subscribers:1000}") int maxSubscriberCount,
+            @Value("${locker.event.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${locker.event.pool-size:2}") int poolSize
+    ) {
+        this.bufferCapacity = bufferCapacity;
+        this.maxSubscriberCount = maxSubscriberCount;
+        this.timeoutMillis = timeoutMillis;
+
+        // A subscriber has at most one drain task queued, so the queue is bounded by the subscriber limit
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "locker-event-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    public SseEmitter subscribe(String locationId) {
+        if (this.subscriberCount.incrementAndGet() > this.maxSubscriberCount) {
+            this.subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException(
+                    ErrorCode.SERVER_BUSY,
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+
+        SseEmitter emitter = new SseEmitter(this.timeoutMillis);
+        Subscriber subscriber = new Subscriber(locationId, emitter);
+
+        this.subscriberMap.computeIfAbsent(locationId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> this.unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> this.unsubscribe(subscriber));
+
+        return emitter;
+    }
+
+    public void publish(LockerEventDomainModel lockerEvent) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(lockerEvent);
+                }
+            });
+            return;
+        }
+
+        this.dispatch(lockerEvent);
+    }
+
+    public LockerEventStatsResponseDto getStats() {
+        int backlog = this.subscriberMap.values()
+                .stream()
+                .flatMap(Set::stream)
+                .mapToInt(Subscriber::size)
+                .sum();
+
+        return LockerEventStatsResponseDto.of(
+                this.subscriberCount.get(),
+                this.maxSubscriberCount,
+                backlog,
+                this.bufferCapacity,
+                this.publishedCount.get(),
+                this.droppedCount.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+        this.subscriberMap.values().forEach(subscriberSet -> subscriberSet.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void dispatch(LockerEventDomainModel lockerEvent) {
+        this.publishedCount.incrementAndGet();
+        AtomicLong sequence = this.sequenceMap.computeIfAbsent(lockerEvent.getLocationId(), key -> new AtomicLong());
+
+        // Events of a location are buffered in the order of their ids, so that only a dropped event leaves a gap
+        synchronized (sequence) {
+            long id = sequence.incrementAndGet();
+
+            Set<Subscriber> subscriberSet = this.subscriberMap.get(lockerEvent.getLocationId());
+            if (subscriberSet == null) {
+                return;
+            }
+
+            subscriberSet.forEach(subscriber -> {
+                if (subscriber.offer(id, lockerEvent)) {
+                    this.executor.execute(() -> this.drain(subscriber));
+                }
+            });
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Message message;
+        while ((message = subscriber.poll()) != null) {
+            try {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(message.id))
+                        .name(message.lockerEvent.getType().name())
+                        .data(LockerEventResponseDto.from(message.lockerEvent), MediaType.APPLICATION_JSON));
+            } catch (Exception e) {
+                // The client is gone; the emitter callbacks may not fire outside of a request, so unsubscribe here as well
+                this.unsubscribe(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Set<Subscriber> subscriberSet = this.subscriberMap.get(subscriber.locationId);
+        if (subscriberSet != null && subscriberSet.remove(subscriber)) {
+            this.subscriberCount.decrementAndGet();
+            subscriber.clear();
+        }
+    }
+
+    private class Subscriber {
+        private final String locationId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Message> buffer;
+        private boolean draining;
+
+        private Subscriber(String locationId, SseEmitter emitter) {
+            this.locationId = locationId;
+            this.emitter = emitter;
+            this.buffer = new ArrayDeque<>(bufferCapacity);
+            this.draining = false;
+        }
+
+        /**
+         * @return true if a drain task has to be started for the message
+         */
+        private synchronized boolean offer(long id, LockerEventDomainModel lockerEvent) {
+            if (this.buffer.size() >= bufferCapacity) {
+                this.buffer.pollFirst();
+                droppedCount.incrementAndGet();
+            }
+            this.buffer.addLast(new Message(id, lockerEvent));
+
+            if (this.draining) {
+                return false;
+            }
+            this.draining = true;
+            return true;
+        }
+
+        private synchronized Message poll() {
+            Message message = this.buffer.pollFirst();
+            if (message == null) {
+                this.draining = false;
+            }
+            return message;
+        }
+
+        private synchronized int size() {
+            return this.buffer.size();
+        }
+
+        private synchronized void clear() {
+            this.buffer.clear();
+        }
+    }
+
+    private static class Message {
+        private final long id;
+        private final LockerEventDomainModel lockerEvent;
+
+        private Message(long id, LockerEventDomainModel lockerEvent) {
+            this.id = id;
+            this.lockerEvent = lockerEvent;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package net.causw.application;
 
+import net.causw.application.dto.LockerAllocationResponseDto;
+import net.causw.application.dto.LockerApplicationRequestDto;
+import net.causw.application.dto.LockerApplicationResponseDto;
 import net.causw.application.dto.LockerCreateRequestDto;
+import net.causw.application.dto.LockerEventStatsResponseDto;
 import net.causw.application.dto.LockerLocationCreateRequestDto;
 import net.causw.application.dto.LockerLocationResponseDto;
 import net.causw.application.dto.LockerLocationUpdateRequestDto;
 import net.causw.application.dto.LockerLogDetailDto;
 import net.causw.application.dto.LockerMoveRequestDto;
+import net.causw.application.dto.LockerOccupancyResponseDto;
 import net.causw.application.dto.LockerResponseDto;
 import net.causw.application.dto.LockerUpdateRequestDto;
+import net.causw.application.spi.LockerApplicationPort;
 import net.causw.application.spi.LockerLocationPort;
 import net.causw.application.spi.LockerLogPort;
 import net.causw.application.spi.LockerPort;
@@ -15,9 +21,15 @@ import net.causw.application.spi.UserPort;
 import net.causw.domain.exceptions.BadRequestException;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.model.LockerAllocationDomainModel;
+import net.causw.domain.model.LockerApplicationDomainModel;
 import net.causw.domain.model.LockerDomainModel;
+import net.causw.domain.model.LockerEventDomainModel;
+import net.causw.domain.model.LockerEventType;
+import net.causw.domain.model.LockerLocationCountDomainModel;
 import net.causw.domain.model.LockerLocationDomainModel;
 import net.causw.domain.model.LockerLogAction;
+import net.causw.domain.model.LockerPreference;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserDomainModel;
 import net.causw.domain.validation.ConstraintValidator;
@@ -27,34 +39,49 @@ import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Validator;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class LockerService {
+    private static final Integer ALLOCATION_CHUNK_SIZE = 500;
+
     private final LockerPort lockerPort;
     private final LockerLocationPort lockerLocationPort;
     private final LockerLogPort lockerLogPort;
+    private final LockerApplicationPort lockerApplicationPort;
     private final UserPort userPort;
     private final Validator validator;
     private final LockerActionFactory lockerActionFactory;
+    private final LockerAllocator lockerAllocator;
+    private final LockerEventBroadcaster lockerEventBroadcaster;
 
     public LockerService(
             LockerPort lockerPort,
             LockerLocationPort lockerLocationPort,
             LockerLogPort lockerLogPort,
+            LockerApplicationPort lockerApplicationPort,
             UserPort userPort,
             LockerActionFactory lockerActionFactory,
+            LockerAllocator lockerAllocator,
+            LockerEventBroadcaster lockerEventBroadcaster,
             Validator validator
     ) {
         this.lockerPort = lockerPort;
         this.lockerLocationPort = lockerLocationPort;
         this.lockerLogPort = lockerLogPort;
+        this.lockerApplicationPort = lockerApplicationPort;
         this.userPort = userPort;
         this.lockerActionFactory = lockerActionFactory;
+        this.lockerAllocator = lockerAllocator;
+        this.lockerEventBroadcaster = lockerEventBroadcaster;
         this.validator = validator;
     }
 
@@ -156,6 +183,14 @@ public class LockerService {
                 .consistOf(UserRoleIsNoneValidator.of(updaterDomainModel.getRole()))
                 .validate();
 
+        if (lockerUpdateRequestDto.getAction() == LockerLogAction.REGISTER
+                && !this.lockerAllocator.isDirectRegisterAllowed(LocalDateTime.now())) {
+            throw new BadRequestException(
+                    ErrorCode.CANNOT_PERFORMED,
+                    "사물함 신청 기간 중에는 사물함을 직접 등록할 수 없습니다. 추첨 결과를 기다려주세요."
+            );
+        }
+
         return this.lockerActionFactory
                 .getLockerAction(lockerUpdateRequestDto.getAction())
                 .updateLockerDomainModel(
@@ -172,6 +207,11 @@ public class LockerService {
                             lockerUpdateRequestDto.getAction(),
                             lockerUpdateRequestDto.getMessage()
                     );
+                    this.lockerEventBroadcaster.publish(LockerEventDomainModel.of(
+                            LockerEventType.from(lockerUpdateRequestDto.getAction()),
+                            resLockerDomainModel,
+                            resLockerDomainModel.getLockerLocation().getId()
+                    ));
                     return LockerResponseDto.from(resLockerDomainModel);
                 })
                 .orElseThrow(() -> new InternalServerException(
@@ -207,6 +247,8 @@ public class LockerService {
                 )
         );
 
+        String previousLocationId = lockerDomainModel.getLockerLocation().getId();
+
         lockerDomainModel = LockerDomainModel.of(
                 lockerId,
                 lockerDomainModel.getLockerNumber(),
@@ -223,12 +265,25 @@ public class LockerService {
                 .consistOf(ConstraintValidator.of(lockerDomainModel, this.validator))
                 .validate();
 
-        return LockerResponseDto.from(this.lockerPort.updateLocation(lockerId, lockerDomainModel).orElseThrow(
+        LockerDomainModel resLockerDomainModel = this.lockerPort.updateLocation(lockerId, lockerDomainModel).orElseThrow(
                 () -> new InternalServerException(
                         ErrorCode.INTERNAL_SERVER,
                         "Application id checked, but exception occurred"
                 )
+        );
+
+        this.lockerEventBroadcaster.publish(LockerEventDomainModel.of(
+                LockerEventType.MOVE_OUT,
+                resLockerDomainModel,
+                previousLocationId
+        ));
+        this.lockerEventBroadcaster.publish(LockerEventDomainModel.of(
+                LockerEventType.MOVE_IN,
+                resLockerDomainModel,
+                resLockerDomainModel.getLockerLocation().getId()
         ));
+
+        return LockerResponseDto.from(resLockerDomainModel);
     }
 
     @Transactional(readOnly = false)
@@ -269,6 +324,12 @@ public class LockerService {
                 "사물함 삭제"
         );
 
+        this.lockerEventBroadcaster.publish(LockerEventDomainModel.of(
+                LockerEventType.DELETE,
+                lockerDomainModel,
+                lockerDomainModel.getLockerLocation().getId()
+        ));
+
         return LockerResponseDto.from(lockerDomainModel);
     }
 
@@ -287,16 +348,67 @@ public class LockerService {
                 .collect(Collectors.toList());
     }
 
+    // Served from memory, an unknown location has no lockers
+    public String findOccupancyVersion(String locationId) {
+        return this.lockerPort.findOccupancyByLocation(locationId).getVersion();
+    }
+
+    public LockerOccupancyResponseDto findOccupancy(String locationId) {
+        return LockerOccupancyResponseDto.from(this.lockerPort.findOccupancyByLocation(locationId));
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeLocation(String locationId) {
+        LockerLocationDomainModel lockerLocation = this.lockerLocationPort.findById(locationId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "등록된 사물함 위치가 아닙니다."
+                )
+        );
+
+        return this.lockerEventBroadcaster.subscribe(lockerLocation.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public LockerEventStatsResponseDto getEventStats(String requestUserId) {
+        UserDomainModel requestUser = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(requestUser.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(requestUser.getRole()))
+                .consistOf(UserRoleValidator.of(requestUser.getRole(), List.of()))
+                .validate();
+
+        return this.lockerEventBroadcaster.getStats();
+    }
+
+    // Locations are versioned by their table and the counts by the snapshot they are served from
+    @Transactional(readOnly = true)
+    public String findAllLocationVersion() {
+        return this.lockerLocationPort.findVersion() + "," + this.lockerPort.findCountVersion();
+    }
+
     @Transactional(readOnly = true)
     public List<LockerLocationResponseDto> findAllLocation() {
+        Map<String, LockerLocationCountDomainModel> lockerLocationCountMap = this.lockerPort.findCountByLocation();
+
         return this.lockerLocationPort.findAll()
                 .stream()
                 .map(
-                        (lockerLocationDomainModel) -> LockerLocationResponseDto.from(
-                                lockerLocationDomainModel,
-                                this.lockerPort.getEnableLockerCountByLocation(lockerLocationDomainModel.getId()),
-                                this.lockerPort.getLockerCountByLocation(lockerLocationDomainModel.getId())
-                        )
+                        (lockerLocationDomainModel) -> {
+                            LockerLocationCountDomainModel lockerLocationCountDomainModel = lockerLocationCountMap.get(lockerLocationDomainModel.getId());
+
+                            return LockerLocationResponseDto.from(
+                                    lockerLocationDomainModel,
+                                    lockerLocationCountDomainModel == null ? 0L : lockerLocationCountDomainModel.getEnableLockerCount(),
+                                    lockerLocationCountDomainModel == null ? 0L : lockerLocationCountDomainModel.getTotalLockerCount()
+                            );
+                        }
                 )
                 .collect(Collectors.toList());
     }
@@ -393,6 +505,8 @@ public class LockerService {
                 .consistOf(ConstraintValidator.of(lockerLocationDomainModel, this.validator))
                 .validate();
 
+        LockerLocationCountDomainModel lockerLocationCountDomainModel = this.lockerPort.findCountByLocation().get(lockerLocationDomainModel.getId());
+
         return LockerLocationResponseDto.from(
                 this.lockerLocationPort.update(locationId, lockerLocationDomainModel).orElseThrow(
                         () -> new InternalServerException(
@@ -400,8 +514,8 @@ public class LockerService {
                                 "Locker location id checked, but exception occurred"
                         )
                 ),
-                this.lockerPort.getEnableLockerCountByLocation(lockerLocationDomainModel.getId()),
-                this.lockerPort.getLockerCountByLocation(lockerLocationDomainModel.getId())
+                lockerLocationCountDomainModel == null ? 0L : lockerLocationCountDomainModel.getEnableLockerCount(),
+                lockerLocationCountDomainModel == null ? 0L : lockerLocationCountDomainModel.getTotalLockerCount()
         );
     }
 
@@ -439,6 +553,151 @@ public class LockerService {
         return LockerLocationResponseDto.from(lockerLocationDomainModel, 0L, 0L);
     }
 
+    @Transactional
+    public LockerApplicationResponseDto apply(
+            String applicantId,
+            LockerApplicationRequestDto lockerApplicationRequestDto
+    ) {
+        UserDomainModel applicantDomainModel = this.userPort.findById(applicantId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(applicantDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(applicantDomainModel.getRole()))
+                .validate();
+
+        if (!this.lockerAllocator.isApplicationOpen(LocalDateTime.now())) {
+            throw new BadRequestException(
+                    ErrorCode.CANNOT_PERFORMED,
+                    "사물함 신청 기간이 아닙니다."
+            );
+        }
+
+        LockerApplicationDomainModel lockerApplicationDomainModel = LockerApplicationDomainModel.of(
+                applicantDomainModel,
+                Optional.ofNullable(lockerApplicationRequestDto.getPreferenceList())
+                        .orElse(List.of())
+                        .stream()
+                        .map(lockerPreferenceDto -> {
+                            if ((lockerPreferenceDto.getLockerNumber() == null) == (lockerPreferenceDto.getLockerLocationId() == null)) {
+                                throw new BadRequestException(
+                                        ErrorCode.INVALID_PARAMETER,
+                                        "희망 사물함은 사물함 번호와 위치 중 하나만 입력해주세요."
+                                );
+                            }
+
+                            return lockerPreferenceDto.getLockerNumber() != null
+                                    ? LockerPreference.ofLockerNumber(lockerPreferenceDto.getLockerNumber())
+                                    : LockerPreference.ofLocation(lockerPreferenceDto.getLockerLocationId());
+                        })
+                        .collect(Collectors.toList())
+        );
+
+        ValidatorBucket.of()
+                .consistOf(ConstraintValidator.of(lockerApplicationDomainModel, this.validator))
+                .validate();
+
+        lockerApplicationDomainModel.getPreferenceList().forEach(lockerPreference -> {
+            if (lockerPreference.isLockerNumber()) {
+                this.lockerPort.findByLockerNumber(lockerPreference.getLockerNumber()).orElseThrow(
+                        () -> new BadRequestException(
+                                ErrorCode.ROW_DOES_NOT_EXIST,
+                                "사물함을 찾을 수 없습니다."
+                        )
+                );
+            } else {
+                this.lockerLocationPort.findById(lockerPreference.getLocationId()).orElseThrow(
+                        () -> new BadRequestException(
+                                ErrorCode.ROW_DOES_NOT_EXIST,
+                                "등록된 사물함 위치가 아닙니다."
+                        )
+                );
+            }
+        });
+
+        // An application submitted again replaces the preferences of the previous one
+        return LockerApplicationResponseDto.from(
+                this.lockerApplicationPort.findByUserId(applicantDomainModel.getId())
+                        .map(srcLockerApplicationDomainModel -> this.lockerApplicationPort.update(
+                                srcLockerApplicationDomainModel.getId(),
+                                lockerApplicationDomainModel
+                        ).orElseThrow(
+                                () -> new InternalServerException(
+                                        ErrorCode.INTERNAL_SERVER,
+                                        "Locker application id checked, but exception occurred"
+                                )
+                        ))
+                        .orElseGet(() -> this.lockerApplicationPort.create(lockerApplicationDomainModel))
+        );
+    }
+
+    /**
+     * Assigns lockers to all the applications once the application period is over.
+     * Not a single transaction: the assignments are written in chunks, each committed on its own,
+     * so a failure only leaves the applications of the failed and following chunks for the next run.
+     */
+    public LockerAllocationResponseDto allocate(String allocatorId) {
+        UserDomainModel allocatorDomainModel = this.userPort.findById(allocatorId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(allocatorDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(allocatorDomainModel.getRole()))
+                .consistOf(UserRoleValidator.of(allocatorDomainModel.getRole(), List.of(Role.PRESIDENT)))
+                .validate();
+
+        if (!this.lockerAllocator.isApplicationClosed(LocalDateTime.now())) {
+            throw new BadRequestException(
+                    ErrorCode.TIME_NOT_PASSED,
+                    "사물함 신청 기간이 설정되지 않았거나 끝나지 않았습니다."
+            );
+        }
+
+        List<LockerApplicationDomainModel> lockerApplicationDomainModelList = this.lockerApplicationPort.findAll();
+        List<LockerAllocationDomainModel> lockerAllocationDomainModelList = this.lockerAllocator.allocate(
+                lockerApplicationDomainModelList,
+                this.lockerPort.findAll()
+        );
+
+        int allocatedCount = 0;
+        for (int from = 0; from < lockerAllocationDomainModelList.size(); from += ALLOCATION_CHUNK_SIZE) {
+            allocatedCount += this.lockerAllocator.write(lockerAllocationDomainModelList.subList(
+                    from,
+                    Math.min(from + ALLOCATION_CHUNK_SIZE, lockerAllocationDomainModelList.size())
+            ));
+        }
+
+        // Applications which got no locker are closed as well
+        Set<String> allocatedApplicationIdSet = lockerAllocationDomainModelList
+                .stream()
+                .map(lockerAllocationDomainModel -> lockerAllocationDomainModel.getApplication().getId())
+                .collect(Collectors.toSet());
+        List<String> unallocatedApplicationIdList = lockerApplicationDomainModelList
+                .stream()
+                .map(LockerApplicationDomainModel::getId)
+                .filter(id -> !allocatedApplicationIdSet.contains(id))
+                .collect(Collectors.toList());
+        for (int from = 0; from < unallocatedApplicationIdList.size(); from += ALLOCATION_CHUNK_SIZE) {
+            this.lockerApplicationPort.deleteByIds(unallocatedApplicationIdList.subList(
+                    from,
+                    Math.min(from + ALLOCATION_CHUNK_SIZE, unallocatedApplicationIdList.size())
+            ));
+        }
+
+        return LockerAllocationResponseDto.of(
+                lockerApplicationDomainModelList.size(),
+                allocatedCount
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<LockerLogDetailDto> findLog(String id) {
         LockerDomainModel locker = this.lockerPort.findById(id).orElseThrow(
@@ -0,0 +1,159 @@
+package net.causw.application;
+
+import net.causw.application.dto.PasswordHasherStatsResponseDto;
+import net.causw.domain.exceptions.ErrorCode;
+import net.causw.domain.exceptions.InternalServerException;
+import net.causw.domain.exceptions.ServiceUnavailableException;
+import net.causw.domain.validation.PasswordMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt password hashing on a dedicated, bounded pool of threads.
+ * A sign-in burst can only occupy the hashing threads and their queue; beyond that requests are rejected
+ * as busy instead of piling up hash work on the servlet threads.
+ * Passwords stored before hashing was introduced are plain text, which are matched as is and reported by
+ * {@link #upgradeEncoding(String)}, so they can be hashed on the next successful sign-in.
+ */
+@Component
+public class PasswordHasher implements PasswordEncoder, PasswordMatcher {
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+    private final int cost;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordHasher(
+            @Value("${password.hash.cost:10}") int cost,
+            @Value("${password.hash.pool-size:2}") int poolSize,
+            @Value("${password.hash.queue-capacity:200}") int queueCapacity,
+            @Value("${password.hash.timeout-millis:5000}") long timeoutMillis
+    ) {
+        this.cost = cost;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.bCryptPasswordEncoder = new BCryptPasswordEncoder(cost);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.run(() -> this.bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+
+        if (!BCRYPT_PATTERN.matcher(encodedPassword).matches()) {
+            return MessageDigest.isEqual(
+                    rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        return this.run(() -> this.bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Plain text passwords and hashes of another cost are hashed again
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return !matcher.matches() || Integer.parseInt(matcher.group(1)) != this.cost;
+    }
+
+    public PasswordHasherStatsResponseDto getStats() {
+        return PasswordHasherStatsResponseDto.of(
+                this.executor.getPoolSize(),
+                this.executor.getActiveCount(),
+                this.executor.getQueue().size(),
+                this.queueCapacity,
+                this.executor.getCompletedTaskCount(),
+                this.rejectedCount.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = this.executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            this.rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException(
+                    ErrorCode.SERVER_BUSY,
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+
+        try {
+            return future.get(this.timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(
+                    ErrorCode.SERVER_BUSY,
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+            );
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(
+                    ErrorCode.INTERNAL_SERVER,
+                    "Password hashing interrupted"
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new InternalServerException(
+                    ErrorCode.INTERNAL_SERVER,
+                    "Password hashing failed"
+            );
+        }
+    }
+}
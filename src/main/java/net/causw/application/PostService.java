@@ -1,10 +1,14 @@
 package net.causw.application;
 
+import net.causw.application.dto.CommentCountReconcileResponseDto;
 import net.causw.application.dto.CommentResponseDto;
 import net.causw.application.dto.PostAllResponseDto;
+import net.causw.application.dto.PostAllWithBoardCursorResponseDto;
 import net.causw.application.dto.PostAllWithBoardResponseDto;
 import net.causw.application.dto.PostCreateRequestDto;
 import net.causw.application.dto.PostResponseDto;
+import net.causw.application.dto.PostSearchAllResponseDto;
+import net.causw.application.dto.PostSearchResponseDto;
 import net.causw.application.dto.PostUpdateRequestDto;
 import net.causw.application.spi.BoardPort;
 import net.causw.application.spi.CircleMemberPort;
@@ -16,9 +20,15 @@ import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.BoardDomainModel;
+import net.causw.domain.model.CircleDomainModel;
 import net.causw.domain.model.CircleMemberDomainModel;
 import net.causw.domain.model.CircleMemberStatus;
+import net.causw.domain.model.Cursor;
+import net.causw.domain.model.PostAccessDomainModel;
 import net.causw.domain.model.PostDomainModel;
+import net.causw.domain.model.PostSearchDomainModel;
+import net.causw.domain.model.PostSummaryDomainModel;
+import net.causw.domain.model.PostVersionDomainModel;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserDomainModel;
 import net.causw.domain.validation.CircleMemberStatusValidator;
@@ -30,22 +40,29 @@ import net.causw.domain.validation.UserRoleIsNoneValidator;
 import net.causw.domain.validation.UserRoleValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class PostService {
+    public static final String APP_NOTICE_RESPONSE_CACHE = "app-notice";
     private static final String APP_NOTICE_BOARD = "APP_NOTICE";
+    private static final Integer RECONCILE_CHUNK_SIZE = 500;
 
     private final PostPort postPort;
     private final UserPort userPort;
     private final BoardPort boardPort;
     private final CircleMemberPort circleMemberPort;
     private final CommentPort commentPort;
+    private final HomePageCache homePageCache;
+    private final ResponseCache responseCache;
     private final Validator validator;
 
     public PostService(
@@ -54,6 +71,8 @@ public class PostService {
             BoardPort boardPort,
             CircleMemberPort circleMemberPort,
             CommentPort commentPort,
+            HomePageCache homePageCache,
+            ResponseCache responseCache,
             Validator validator
     ) {
         this.postPort = postPort;
@@ -61,13 +80,84 @@ public class PostService {
         this.boardPort = boardPort;
         this.circleMemberPort = circleMemberPort;
         this.commentPort = commentPort;
+        this.homePageCache = homePageCache;
+        this.responseCache = responseCache;
         this.validator = validator;
     }
 
+    /**
+     * Checks the access of findById from the version query of the post, without loading the post.
+     * The version changes whenever the response of findById for this user would change, except for the view count,
+     * and a user who lost access to the post is rejected instead of being answered with 304.
+     */
     @Transactional(readOnly = true)
-    public PostResponseDto findById(String requestUserId, String postId) {
-        ValidatorBucket validatorBucket = ValidatorBucket.of();
+    public PostAccessDomainModel findAccessById(String requestUserId, String postId) {
+        UserDomainModel userDomainModel = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        PostVersionDomainModel postVersionDomainModel = this.postPort.findVersion(postId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시글을 찾을 수 없습니다."
+                )
+        );
 
+        Optional<CircleMemberDomainModel> circleMemberDomainModel = this.validateReadable(
+                userDomainModel,
+                TargetIsDeletedValidator.of(postVersionDomainModel.getBoardIsDeleted(), postVersionDomainModel.getBOARD_DOMAIN()),
+                TargetIsDeletedValidator.of(postVersionDomainModel.getIsDeleted(), postVersionDomainModel.getDOMAIN()),
+                postVersionDomainModel.getCircleId()
+        );
+
+        return PostAccessDomainModel.of(
+                postId,
+                userDomainModel,
+                String.join(
+                        ",",
+                        postVersionDomainModel.getVersion(),
+                        userDomainModel.getId(),
+                        userDomainModel.getRole().getValue(),
+                        userDomainModel.getState().getValue(),
+                        circleMemberDomainModel.map(circleMember -> circleMember.getStatus().name()).orElse("")
+                )
+        );
+    }
+
+    // The access was checked by findAccessById, so only the post and its comments are loaded
+    @Transactional(readOnly = true)
+    public PostResponseDto findById(PostAccessDomainModel postAccessDomainModel) {
+        UserDomainModel userDomainModel = postAccessDomainModel.getUser();
+        PostDomainModel postDomainModel = this.postPort.findById(postAccessDomainModel.getPostId()).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시글을 찾을 수 없습니다."
+                )
+        );
+
+        this.postPort.increaseViewCount(postDomainModel.getId());
+
+        return PostResponseDto.from(
+                postDomainModel,
+                userDomainModel,
+                this.commentPort.findByPostId(postDomainModel.getId(), 0)
+                        .map(
+                                commentDomainModel -> CommentResponseDto.from(
+                                        commentDomainModel, userDomainModel, postDomainModel.getBoard())
+                        )
+        );
+    }
+
+    // A view answered with 304 is counted as well, once findAccessById has checked the access
+    public void increaseViewCount(String postId) {
+        this.postPort.increaseViewCount(postId);
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponseDto findById(String requestUserId, String postId) {
         UserDomainModel userDomainModel = this.userPort.findById(requestUserId).orElseThrow(
                 () -> new BadRequestException(
                         ErrorCode.ROW_DOES_NOT_EXIST,
@@ -82,13 +172,48 @@ public class PostService {
                 )
         );
 
+        this.validateReadable(userDomainModel, postDomainModel);
+
+        this.postPort.increaseViewCount(postId);
+
+        return PostResponseDto.from(
+                postDomainModel,
+                userDomainModel,
+                this.commentPort.findByPostId(postId, 0)
+                        .map(
+                                commentDomainModel -> CommentResponseDto.from(
+                                        commentDomainModel, userDomainModel, postDomainModel.getBoard())
+                        )
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public PostAllWithBoardResponseDto findAll(
+            String requestUserId,
+            String boardId,
+            Integer pageNum
+    ) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        UserDomainModel userDomainModel = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
         validatorBucket
                 .consistOf(UserStateValidator.of(userDomainModel.getState()))
-                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()))
-                .consistOf(TargetIsDeletedValidator.of(postDomainModel.getBoard().getIsDeleted(), postDomainModel.getBoard().getDOMAIN()))
-                .consistOf(TargetIsDeletedValidator.of(postDomainModel.getIsDeleted(), postDomainModel.getDOMAIN()));
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()));
 
-        postDomainModel.getBoard().getCircle().ifPresent(
+        BoardDomainModel boardDomainModel = this.boardPort.findById(boardId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시판을 찾을 수 없습니다."
+                )
+        );
+
+        boardDomainModel.getCircle().ifPresent(
                 circleDomainModel -> {
                     CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(userDomainModel.getId(), circleDomainModel.getId())
                             .orElseThrow(
@@ -99,6 +224,7 @@ public class PostService {
                             );
 
                     validatorBucket
+                            .consistOf(TargetIsDeletedValidator.of(circleDomainModel.getIsDeleted(), circleDomainModel.getDOMAIN()))
                             .consistOf(CircleMemberStatusValidator.of(
                                     circleMemberDomainModel.getStatus(),
                                     List.of(CircleMemberStatus.MEMBER)
@@ -107,22 +233,19 @@ public class PostService {
         );
 
         validatorBucket
+                .consistOf(TargetIsDeletedValidator.of(boardDomainModel.getIsDeleted(), boardDomainModel.getDOMAIN()))
                 .validate();
 
-        return PostResponseDto.from(
-                postDomainModel,
-                userDomainModel,
-                this.commentPort.findByPostId(postId, 0)
-                        .map(
-                                commentDomainModel -> CommentResponseDto.from(
-                                        commentDomainModel, userDomainModel, postDomainModel.getBoard())
-                        ),
-                this.commentPort.countByPostId(postDomainModel.getId())
+        return PostAllWithBoardResponseDto.from(
+                boardDomainModel,
+                userDomainModel.getRole(),
+                this.postPort.findAll(boardId, pageNum)
+                        .map(PostAllResponseDto::from)
         );
     }
 
     @Transactional(readOnly = true)
-    public PostAllWithBoardResponseDto findAll(
+    public PostAllWithBoardResponseDto findAllSlice(
             String requestUserId,
             String boardId,
             Integer pageNum
@@ -173,11 +296,196 @@ public class PostService {
         return PostAllWithBoardResponseDto.from(
                 boardDomainModel,
                 userDomainModel.getRole(),
-                this.postPort.findAll(boardId, pageNum)
-                        .map(postDomainModel -> PostAllResponseDto.from(
-                                postDomainModel,
-                                this.commentPort.countByPostId(postDomainModel.getId())
-                        ))
+                this.postPort.findAllSlice(boardId, pageNum)
+                        .map(PostAllResponseDto::from)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public PostAllWithBoardCursorResponseDto findAllByCursor(
+            String requestUserId,
+            String boardId,
+            String cursor
+    ) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        UserDomainModel userDomainModel = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        validatorBucket
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()));
+
+        BoardDomainModel boardDomainModel = this.boardPort.findById(boardId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "게시판을 찾을 수 없습니다."
+                )
+        );
+
+        boardDomainModel.getCircle().ifPresent(
+                circleDomainModel -> {
+                    CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(userDomainModel.getId(), circleDomainModel.getId())
+                            .orElseThrow(
+                                    () -> new UnauthorizedException(
+                                            ErrorCode.NOT_MEMBER,
+                                            "로그인된 사용자가 소모임 멤버가 아닙니다."
+                                    )
+                            );
+
+                    validatorBucket
+                            .consistOf(TargetIsDeletedValidator.of(circleDomainModel.getIsDeleted(), circleDomainModel.getDOMAIN()))
+                            .consistOf(CircleMemberStatusValidator.of(
+                                    circleMemberDomainModel.getStatus(),
+                                    List.of(CircleMemberStatus.MEMBER)
+                            ));
+                }
+        );
+
+        validatorBucket
+                .consistOf(TargetIsDeletedValidator.of(boardDomainModel.getIsDeleted(), boardDomainModel.getDOMAIN()))
+                .validate();
+
+        Slice<PostSummaryDomainModel> postDomainModelSlice = this.postPort.findAllByCursor(
+                boardId,
+                Cursor.decode(cursor).orElse(null)
+        );
+
+        String nextCursor = null;
+        if (postDomainModelSlice.hasNext()) {
+            PostSummaryDomainModel lastPostDomainModel = postDomainModelSlice.getContent().get(postDomainModelSlice.getNumberOfElements() - 1);
+            nextCursor = Cursor.of(lastPostDomainModel.getCreatedAt(), lastPostDomainModel.getId()).encode();
+        }
+
+        return PostAllWithBoardCursorResponseDto.from(
+                boardDomainModel,
+                userDomainModel.getRole(),
+                postDomainModelSlice.map(PostAllResponseDto::from).getContent(),
+                nextCursor
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public PostSearchAllResponseDto search(
+            String requestUserId,
+            String keyword,
+            String boardId,
+            String circleId,
+            String cursor
+    ) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        UserDomainModel userDomainModel = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        if (keyword == null || keyword.isBlank()) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    "검색어를 입력해주세요."
+            );
+        }
+
+        validatorBucket
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()));
+
+        List<String> boardIdList;
+        if (boardId != null) {
+            BoardDomainModel boardDomainModel = this.boardPort.findById(boardId).orElseThrow(
+                    () -> new BadRequestException(
+                            ErrorCode.ROW_DOES_NOT_EXIST,
+                            "게시판을 찾을 수 없습니다."
+                    )
+            );
+
+            boardDomainModel.getCircle().ifPresent(
+                    circleDomainModel -> {
+                        CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(userDomainModel.getId(), circleDomainModel.getId())
+                                .orElseThrow(
+                                        () -> new UnauthorizedException(
+                                                ErrorCode.NOT_MEMBER,
+                                                "로그인된 사용자가 소모임 멤버가 아닙니다."
+                                        )
+                                );
+
+                        validatorBucket
+                                .consistOf(TargetIsDeletedValidator.of(circleDomainModel.getIsDeleted(), circleDomainModel.getDOMAIN()))
+                                .consistOf(CircleMemberStatusValidator.of(
+                                        circleMemberDomainModel.getStatus(),
+                                        List.of(CircleMemberStatus.MEMBER)
+                                ));
+                    }
+            );
+
+            validatorBucket
+                    .consistOf(TargetIsDeletedValidator.of(boardDomainModel.getIsDeleted(), boardDomainModel.getDOMAIN()));
+
+            boardIdList = List.of(boardDomainModel.getId());
+        } else if (circleId != null) {
+            CircleMemberDomainModel circleMemberDomainModel = this.circleMemberPort.findByUserIdAndCircleId(userDomainModel.getId(), circleId)
+                    .orElseThrow(
+                            () -> new UnauthorizedException(
+                                    ErrorCode.NOT_MEMBER,
+                                    "로그인된 사용자가 소모임 멤버가 아닙니다."
+                            )
+                    );
+
+            validatorBucket
+                    .consistOf(TargetIsDeletedValidator.of(circleMemberDomainModel.getCircle().getIsDeleted(), circleMemberDomainModel.getCircle().getDOMAIN()))
+                    .consistOf(CircleMemberStatusValidator.of(
+                            circleMemberDomainModel.getStatus(),
+                            List.of(CircleMemberStatus.MEMBER)
+                    ));
+
+            boardIdList = this.boardPort.findByCircleId(circleId)
+                    .stream()
+                    .map(BoardDomainModel::getId)
+                    .collect(Collectors.toList());
+        } else {
+            // Global search covers the public boards and the boards of circles the user is a member of
+            List<BoardDomainModel> boardDomainModelList = new ArrayList<>(this.boardPort.findAll());
+            this.circleMemberPort.findByUserId(userDomainModel.getId())
+                    .stream()
+                    .filter(circleMemberDomainModel -> circleMemberDomainModel.getStatus() == CircleMemberStatus.MEMBER)
+                    .filter(circleMemberDomainModel -> !circleMemberDomainModel.getCircle().getIsDeleted())
+                    .forEach(circleMemberDomainModel ->
+                            boardDomainModelList.addAll(this.boardPort.findByCircleId(circleMemberDomainModel.getCircle().getId()))
+                    );
+
+            boardIdList = boardDomainModelList
+                    .stream()
+                    .map(BoardDomainModel::getId)
+                    .collect(Collectors.toList());
+        }
+
+        validatorBucket
+                .validate();
+
+        Slice<PostSearchDomainModel> postSearchDomainModelSlice = this.postPort.search(
+                boardIdList,
+                keyword.strip(),
+                Cursor.decode(cursor).orElse(null)
+        );
+
+        String nextCursor = null;
+        if (postSearchDomainModelSlice.hasNext()) {
+            PostSummaryDomainModel lastPostDomainModel = postSearchDomainModelSlice.getContent().get(postSearchDomainModelSlice.getNumberOfElements() - 1).getPost();
+            nextCursor = Cursor.of(lastPostDomainModel.getCreatedAt(), lastPostDomainModel.getId()).encode();
+        }
+
+        return PostSearchAllResponseDto.from(
+                postSearchDomainModelSlice
+                        .map(postSearchDomainModel -> PostSearchResponseDto.from(postSearchDomainModel, keyword.strip()))
+                        .getContent(),
+                nextCursor
         );
     }
 
@@ -194,10 +502,7 @@ public class PostService {
                 boardDomainModel,
                 Role.ADMIN,
                 this.postPort.findAll(boardDomainModel.getId(), pageNum)
-                        .map(postDomainModel -> PostAllResponseDto.from(
-                                postDomainModel,
-                                this.commentPort.countByPostId(postDomainModel.getId())
-                        ))
+                        .map(PostAllResponseDto::from)
         );
     }
 
@@ -268,7 +573,14 @@ public class PostService {
                 .consistOf(ConstraintValidator.of(postDomainModel, this.validator))
                 .validate();
 
-        return PostResponseDto.from(this.postPort.create(postDomainModel), creatorDomainModel);
+        PostDomainModel createdPostDomainModel = this.postPort.create(postDomainModel);
+
+        this.homePageCache.evictByBoardId(postDomainModel.getBoard().getId());
+        if (boardDomainModel.getCategory().equals(APP_NOTICE_BOARD)) {
+            this.responseCache.evict(APP_NOTICE_RESPONSE_CACHE);
+        }
+
+        return PostResponseDto.from(createdPostDomainModel, creatorDomainModel);
     }
 
     @Transactional
@@ -350,15 +662,19 @@ public class PostService {
         validatorBucket
                 .validate();
 
-        return PostResponseDto.from(
-                this.postPort.delete(postId).orElseThrow(
-                        () -> new InternalServerException(
-                                ErrorCode.INTERNAL_SERVER,
-                                "Post id checked, but exception occurred"
-                        )
+        PostDomainModel deletedPostDomainModel = this.postPort.delete(postId).orElseThrow(
+                () -> new InternalServerException(
+                        ErrorCode.INTERNAL_SERVER,
+                        "Post id checked, but exception occurred"
                 )
-                , requestUser
         );
+
+        this.homePageCache.evictByBoardId(postDomainModel.getBoard().getId());
+        if (postDomainModel.getBoard().getCategory().equals(APP_NOTICE_BOARD)) {
+            this.responseCache.evict(APP_NOTICE_RESPONSE_CACHE);
+        }
+
+        return PostResponseDto.from(deletedPostDomainModel, requestUser);
     }
 
     @Transactional
@@ -443,15 +759,100 @@ public class PostService {
                 )
         );
 
+        this.homePageCache.evictByBoardId(postDomainModel.getBoard().getId());
+        if (postDomainModel.getBoard().getCategory().equals(APP_NOTICE_BOARD)) {
+            this.responseCache.evict(APP_NOTICE_RESPONSE_CACHE);
+        }
+
         return PostResponseDto.from(
-                postDomainModel,
+                updatedPostDomainModel,
                 requestUser,
                 this.commentPort.findByPostId(postId, 0)
                         .map(
                                 commentDomainModel -> CommentResponseDto.from(
                                         commentDomainModel, requestUser, updatedPostDomainModel.getBoard())
-                        ),
-                this.commentPort.countByPostId(postDomainModel.getId())
+                        )
+        );
+    }
+
+    // Each chunk is counted in one grouped query and written in one statement, outside of a long transaction.
+    // A comment written between the two leaves its post off by one until the next run
+    public CommentCountReconcileResponseDto reconcileCommentCount(String requestUserId) {
+        UserDomainModel requestUser = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(requestUser.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(requestUser.getRole()))
+                .consistOf(UserRoleValidator.of(requestUser.getRole(), List.of()))
+                .validate();
+
+        long numScanned = 0L;
+        long numReconciled = 0L;
+        String lastPostId = "";
+
+        List<String> postIdList = this.postPort.findIdsAfter(lastPostId, RECONCILE_CHUNK_SIZE);
+        while (!postIdList.isEmpty()) {
+            numScanned += postIdList.size();
+            numReconciled += this.postPort.updateCommentCount(this.commentPort.countByPostIds(postIdList));
+
+            lastPostId = postIdList.get(postIdList.size() - 1);
+            postIdList = this.postPort.findIdsAfter(lastPostId, RECONCILE_CHUNK_SIZE);
+        }
+
+        return CommentCountReconcileResponseDto.of(numScanned, numReconciled);
+    }
+
+    private Optional<CircleMemberDomainModel> validateReadable(UserDomainModel userDomainModel, PostDomainModel postDomainModel) {
+        return this.validateReadable(
+                userDomainModel,
+                TargetIsDeletedValidator.of(postDomainModel.getBoard().getIsDeleted(), postDomainModel.getBoard().getDOMAIN()),
+                TargetIsDeletedValidator.of(postDomainModel.getIsDeleted(), postDomainModel.getDOMAIN()),
+                postDomainModel.getBoard().getCircle().map(CircleDomainModel::getId)
+        );
+    }
+
+    private Optional<CircleMemberDomainModel> validateReadable(
+            UserDomainModel userDomainModel,
+            TargetIsDeletedValidator boardIsDeletedValidator,
+            TargetIsDeletedValidator postIsDeletedValidator,
+            Optional<String> circleId
+    ) {
+        ValidatorBucket validatorBucket = ValidatorBucket.of();
+
+        validatorBucket
+                .consistOf(UserStateValidator.of(userDomainModel.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(userDomainModel.getRole()))
+                .consistOf(boardIsDeletedValidator)
+                .consistOf(postIsDeletedValidator);
+
+        Optional<CircleMemberDomainModel> circleMemberDomainModel = circleId.map(
+                id -> {
+                    CircleMemberDomainModel circleMember = this.circleMemberPort.findByUserIdAndCircleId(userDomainModel.getId(), id)
+                            .orElseThrow(
+                                    () -> new UnauthorizedException(
+                                            ErrorCode.NOT_MEMBER,
+                                            "로그인된 사용자가 소모임 멤버가 아닙니다."
+                                    )
+                            );
+
+                    validatorBucket
+                            .consistOf(CircleMemberStatusValidator.of(
+                                    circleMember.getStatus(),
+                                    List.of(CircleMemberStatus.MEMBER)
+                            ));
+
+                    return circleMember;
+                }
         );
+
+        validatorBucket
+                .validate();
+
+        return circleMemberDomainModel;
     }
 }
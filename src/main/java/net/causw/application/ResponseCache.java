@@ -0,0 +1,88 @@
+package net.causw.application;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Serialized responses grouped by namespace (an endpoint) and key (e.g. the page number).
+ * Concurrent misses on a key wait for the same rebuild, and a namespace is evicted after the writing transaction commits,
+ * so a rebuild can not cache the data from before the write.
+ * A namespace holds at most a fixed number of keys; once it is full of live entries, a response of a new key
+ * is built without being cached, since keys such as page numbers come from the client.
+ */
+@Component
+public class ResponseCache {
+    private static final long TTL_MILLIS = 60 * 1000L;
+    private static final int MAX_SIZE_PER_NAMESPACE = 100;
+
+    private final Map<String, Map<String, Entry>> namespaceMap = new ConcurrentHashMap<>();
+
+    public byte[] get(String namespace, String key, Supplier<byte[]> loader) {
+        Map<String, Entry> entryMap = this.namespaceMap.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>());
+        long now = System.currentTimeMillis();
+
+        if (entryMap.size() >= MAX_SIZE_PER_NAMESPACE && !entryMap.containsKey(key)) {
+            entryMap.values().removeIf(entry -> entry.isExpired(now));
+            if (entryMap.size() >= MAX_SIZE_PER_NAMESPACE) {
+                return loader.get();
+            }
+        }
+
+        Entry created = new Entry(now + TTL_MILLIS);
+        Entry current = entryMap.compute(key, (k, entry) -> entry != null && !entry.isExpired(now) ? entry : created);
+
+        if (current == created) {
+            try {
+                created.response.complete(loader.get());
+            } catch (RuntimeException e) {
+                entryMap.remove(key, created);
+                created.response.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return current.response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public void evict(String namespace) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    namespaceMap.remove(namespace);
+                }
+            });
+            return;
+        }
+
+        this.namespaceMap.remove(namespace);
+    }
+
+    private static class Entry {
+        private final CompletableFuture<byte[]> response;
+        private final long expiredAt;
+
+        private Entry(long expiredAt) {
+            this.response = new CompletableFuture<>();
+            this.expiredAt = expiredAt;
+        }
+
+        // An entry being rebuilt is never expired, so its waiters are not split across two rebuilds
+        private boolean isExpired(long now) {
+            return this.response.isDone() && this.expiredAt <= now;
+        }
+    }
+}
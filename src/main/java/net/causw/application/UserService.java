@@ -3,12 +3,14 @@ package net.causw.application;
 import net.causw.application.dto.BoardResponseDto;
 import net.causw.application.dto.CircleResponseDto;
 import net.causw.application.dto.DuplicatedCheckDto;
+import net.causw.application.dto.PasswordHasherStatsResponseDto;
 import net.causw.application.dto.UserAdmissionAllResponseDto;
 import net.causw.application.dto.UserAdmissionCreateRequestDto;
 import net.causw.application.dto.UserAdmissionResponseDto;
 import net.causw.application.dto.UserCreateRequestDto;
 import net.causw.application.dto.UserPasswordUpdateRequestDto;
 import net.causw.application.dto.UserResponseDto;
+import net.causw.application.dto.UserSearchAllResponseDto;
 import net.causw.application.dto.UserSignInRequestDto;
 import net.causw.application.dto.UserUpdateRequestDto;
 import net.causw.application.dto.UserUpdateRoleRequestDto;
@@ -26,11 +28,13 @@ import net.causw.domain.exceptions.InternalServerException;
 import net.causw.domain.exceptions.UnauthorizedException;
 import net.causw.domain.model.BoardDomainModel;
 import net.causw.domain.model.CircleMemberStatus;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.FavoriteBoardDomainModel;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserAdmissionDomainModel;
 import net.causw.domain.model.UserAdmissionLogAction;
 import net.causw.domain.model.UserDomainModel;
+import net.causw.domain.model.UserSearchDomainModel;
 import net.causw.domain.model.UserState;
 import net.causw.domain.validation.AdmissionYearValidator;
 import net.causw.domain.validation.ConstraintValidator;
@@ -46,6 +50,7 @@ import net.causw.domain.validation.UserStateIsDropValidator;
 import net.causw.domain.validation.UserStateValidator;
 import net.causw.domain.validation.ValidatorBucket;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,6 +68,8 @@ public class UserService {
     private final CircleMemberPort circleMemberPort;
     private final FavoriteBoardPort favoriteBoardPort;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHasher passwordHasher;
+    private final HomePageCache homePageCache;
     private final Validator validator;
 
     public UserService(
@@ -74,6 +81,8 @@ public class UserService {
             CircleMemberPort circleMemberPort,
             FavoriteBoardPort favoriteBoardPort,
             JwtTokenProvider jwtTokenProvider,
+            PasswordHasher passwordHasher,
+            HomePageCache homePageCache,
             Validator validator
     ) {
         this.userPort = userPort;
@@ -84,6 +93,8 @@ public class UserService {
         this.circleMemberPort = circleMemberPort;
         this.favoriteBoardPort = favoriteBoardPort;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordHasher = passwordHasher;
+        this.homePageCache = homePageCache;
         this.validator = validator;
     }
 
@@ -125,6 +136,47 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public UserSearchAllResponseDto search(String currentUserId, String keyword, String cursor) {
+        UserDomainModel user = this.userPort.findById(currentUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        if (keyword == null || keyword.isBlank()) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    "검색어를 입력해주세요."
+            );
+        }
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(user.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(user.getRole()))
+                .consistOf(UserRoleValidator.of(user.getRole(), List.of(Role.PRESIDENT)))
+                .validate();
+
+        Slice<UserSearchDomainModel> userSearchDomainModelSlice = this.userPort.search(
+                keyword.strip(),
+                Cursor.decode(cursor).orElse(null)
+        );
+
+        String nextCursor = null;
+        if (userSearchDomainModelSlice.hasNext()) {
+            UserSearchDomainModel lastUserSearchDomainModel = userSearchDomainModelSlice.getContent().get(userSearchDomainModelSlice.getNumberOfElements() - 1);
+            nextCursor = Cursor.of(lastUserSearchDomainModel.getCreatedAt(), lastUserSearchDomainModel.getUser().getId()).encode();
+        }
+
+        return UserSearchAllResponseDto.from(
+                userSearchDomainModelSlice
+                        .map(userSearchDomainModel -> UserResponseDto.from(userSearchDomainModel.getUser()))
+                        .getContent(),
+                nextCursor
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<UserResponseDto> findByRole(String currentUserId, Role role) {
         UserDomainModel user = this.userPort.findById(currentUserId).orElseThrow(
@@ -217,7 +269,9 @@ public class UserService {
         return UserResponseDto.from(this.userPort.create(userDomainModel));
     }
 
-    @Transactional(readOnly = true)
+    /* Not transactional: the password check may wait up to the hashing timeout, which must not hold a database connection.
+     * The lookups and the password upgrade are short transactions of their own.
+     */
     public String signIn(UserSignInRequestDto userSignInRequestDto) {
         ValidatorBucket validatorBucket = ValidatorBucket.of();
 
@@ -232,7 +286,7 @@ public class UserService {
          * The sign-in process is rejected if the user is in BLOCKED, WAIT, or INACTIVE state.
          */
         validatorBucket
-                .consistOf(PasswordCorrectValidator.of(userDomainModel, userSignInRequestDto.getPassword()));
+                .consistOf(PasswordCorrectValidator.of(this.passwordHasher, userDomainModel, userSignInRequestDto.getPassword()));
 
         if (userDomainModel.getState() == UserState.AWAIT) {
             this.userAdmissionPort.findByUserId(userDomainModel.getId()).orElseThrow(
@@ -247,6 +301,15 @@ public class UserService {
                 .consistOf(UserStateValidator.of(userDomainModel.getState()))
                 .validate();
 
+        // Plain text password stored before hashing was introduced is hashed once it is confirmed
+        if (this.passwordHasher.upgradeEncoding(userDomainModel.getPassword())) {
+            this.userPort.updatePasswordIfUnchanged(
+                    userDomainModel.getId(),
+                    userDomainModel.getPassword(),
+                    this.passwordHasher.encode(userSignInRequestDto.getPassword())
+            );
+        }
+
         return this.jwtTokenProvider.createToken(
                 userDomainModel.getId(),
                 userDomainModel.getRole(),
@@ -369,7 +432,9 @@ public class UserService {
         ));
     }
 
-    @Transactional
+    /* Not transactional, as signIn: checking the origin password and hashing the new one may wait up to the hashing timeout.
+     * The new password is then written by a single conditional UPDATE, which fails if the password changed in the meantime.
+     */
     public UserResponseDto updatePassword(
             String id,
             UserPasswordUpdateRequestDto userPasswordUpdateRequestDto
@@ -384,16 +449,22 @@ public class UserService {
         ValidatorBucket.of()
                 .consistOf(UserStateValidator.of(user.getState()))
                 .consistOf(UserRoleIsNoneValidator.of(user.getRole()))
-                .consistOf(PasswordCorrectValidator.of(user, userPasswordUpdateRequestDto.getOriginPassword()))
+                .consistOf(PasswordCorrectValidator.of(this.passwordHasher, user, userPasswordUpdateRequestDto.getOriginPassword()))
                 .consistOf(PasswordFormatValidator.of(userPasswordUpdateRequestDto.getUpdatedPassword()))
                 .validate();
 
-        return UserResponseDto.from(this.userPort.updatePassword(id, userPasswordUpdateRequestDto.getUpdatedPassword()).orElseThrow(
-                () -> new InternalServerException(
-                        ErrorCode.INTERNAL_SERVER,
-                        "User id checked, but exception occurred"
-                )
-        ));
+        if (!this.userPort.updatePasswordIfUnchanged(
+                id,
+                user.getPassword(),
+                this.passwordHasher.encode(userPasswordUpdateRequestDto.getUpdatedPassword())
+        )) {
+            throw new BadRequestException(
+                    ErrorCode.CANNOT_PERFORMED,
+                    "비밀번호가 이미 변경되었습니다. 다시 시도해주세요."
+            );
+        }
+
+        return UserResponseDto.from(user);
     }
 
     @Transactional
@@ -519,6 +590,29 @@ public class UserService {
                 .map(UserAdmissionAllResponseDto::from);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<UserAdmissionAllResponseDto> findAllAdmissionsSlice(
+            String requestUserId,
+            UserState userState,
+            Integer pageNum
+    ) {
+        UserDomainModel requestUser = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(requestUser.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(requestUser.getRole()))
+                .consistOf(UserRoleValidator.of(requestUser.getRole(), List.of(Role.PRESIDENT)))
+                .validate();
+
+        return this.userAdmissionPort.findAllSlice(userState, pageNum)
+                .map(UserAdmissionAllResponseDto::from);
+    }
+
     @Transactional
     public UserAdmissionResponseDto createAdmission(UserAdmissionCreateRequestDto userAdmissionCreateRequestDto) {
         UserDomainModel requestUser = this.userPort.findByEmail(userAdmissionCreateRequestDto.getEmail()).orElseThrow(
@@ -691,8 +785,12 @@ public class UserService {
                 .consistOf(ConstraintValidator.of(favoriteBoardDomainModel, this.validator))
                 .validate();
 
+        BoardDomainModel createdFavoriteBoard = this.favoriteBoardPort.create(favoriteBoardDomainModel).getBoardDomainModel();
+
+        this.homePageCache.evict(userId);
+
         return BoardResponseDto.from(
-                this.favoriteBoardPort.create(favoriteBoardDomainModel).getBoardDomainModel(),
+                createdFavoriteBoard,
                 user.getRole()
         );
     }
@@ -735,4 +833,21 @@ public class UserService {
                 )
         ));
     }
+
+    public PasswordHasherStatsResponseDto getPasswordHasherStats(String requestUserId) {
+        UserDomainModel requestUser = this.userPort.findById(requestUserId).orElseThrow(
+                () -> new BadRequestException(
+                        ErrorCode.ROW_DOES_NOT_EXIST,
+                        "로그인된 사용자를 찾을 수 없습니다."
+                )
+        );
+
+        ValidatorBucket.of()
+                .consistOf(UserStateValidator.of(requestUser.getState()))
+                .consistOf(UserRoleIsNoneValidator.of(requestUser.getRole()))
+                .consistOf(UserRoleValidator.of(requestUser.getRole(), List.of()))
+                .validate();
+
+        return this.passwordHasher.getStats();
+    }
 }
@@ -61,8 +61,7 @@ public class BoardOfCircleResponseDto {
     public static BoardOfCircleResponseDto from(
             BoardDomainModel boardDomainModel,
             Role userRole,
-            PostDomainModel postDomainModel,
-            Long numComment
+            PostDomainModel postDomainModel
     ) {
         String circleId = boardDomainModel.getCircle().map(CircleDomainModel::getId).orElse(null);
         String circleName = boardDomainModel.getCircle().map(CircleDomainModel::getName).orElse(null);
@@ -79,7 +78,7 @@ public class BoardOfCircleResponseDto {
                 postDomainModel.getId(),
                 postDomainModel.getWriter().getName(),
                 postDomainModel.getCreatedAt(),
-                numComment
+                postDomainModel.getCommentCount()
         );
     }
 
@@ -0,0 +1,40 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CommentChildAllResponseDto {
+    private String parentCommentId;
+    private List<CommentResponseDto> childCommentList;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    private CommentChildAllResponseDto(
+            String parentCommentId,
+            List<CommentResponseDto> childCommentList,
+            Boolean hasNext,
+            String nextCursor
+    ) {
+        this.parentCommentId = parentCommentId;
+        this.childCommentList = childCommentList;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static CommentChildAllResponseDto from(
+            String parentCommentId,
+            List<CommentResponseDto> childCommentList,
+            String nextCursor
+    ) {
+        return new CommentChildAllResponseDto(
+                parentCommentId,
+                childCommentList,
+                nextCursor != null,
+                nextCursor
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CommentCountReconcileResponseDto {
+    private Long numScanned;
+    private Long numReconciled;
+
+    private CommentCountReconcileResponseDto(
+            Long numScanned,
+            Long numReconciled
+    ) {
+        this.numScanned = numScanned;
+        this.numReconciled = numReconciled;
+    }
+
+    public static CommentCountReconcileResponseDto of(
+            Long numScanned,
+            Long numReconciled
+    ) {
+        return new CommentCountReconcileResponseDto(
+                numScanned,
+                numReconciled
+        );
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import net.causw.domain.model.BoardDomainModel;
 import net.causw.domain.model.CommentDomainModel;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserDomainModel;
 
@@ -26,6 +27,8 @@ public class CommentResponseDto {
     private Boolean updatable;
     private Boolean deletable;
     private List<CommentResponseDto> childCommentList;
+    private Long numChildComment;
+    private String nextChildCursor;
 
     private CommentResponseDto(
             String id,
@@ -39,7 +42,9 @@ public class CommentResponseDto {
             String writerProfileImage,
             Boolean updatable,
             Boolean deletable,
-            List<CommentResponseDto> childCommentList
+            List<CommentResponseDto> childCommentList,
+            Long numChildComment,
+            String nextChildCursor
     ) {
         this.id = id;
         this.content = content;
@@ -53,6 +58,8 @@ public class CommentResponseDto {
         this.updatable = updatable;
         this.deletable = deletable;
         this.childCommentList = childCommentList;
+        this.numChildComment = numChildComment;
+        this.nextChildCursor = nextChildCursor;
     }
 
     public static CommentResponseDto from(
@@ -90,6 +97,14 @@ public class CommentResponseDto {
             deletable = false;
         }
 
+        // Remaining child comments are paged from the last included one
+        String nextChildCursor = null;
+        List<CommentDomainModel> childCommentList = comment.getChildCommentList();
+        if (!childCommentList.isEmpty() && comment.getNumChildComment() > childCommentList.size()) {
+            CommentDomainModel lastChildComment = childCommentList.get(childCommentList.size() - 1);
+            nextChildCursor = Cursor.of(lastChildComment.getCreatedAt(), lastChildComment.getId()).encode();
+        }
+
         return new CommentResponseDto(
                 comment.getId(),
                 comment.getContent(),
@@ -102,10 +117,12 @@ public class CommentResponseDto {
                 comment.getWriter().getProfileImage(),
                 updatable,
                 deletable,
-                comment.getChildCommentList()
+                childCommentList
                         .stream()
                         .map(commentDomainModel -> CommentResponseDto.from(commentDomainModel, user, board))
-                        .collect(Collectors.toList())
+                        .collect(Collectors.toList()),
+                comment.getNumChildComment(),
+                nextChildCursor
         );
     }
 }
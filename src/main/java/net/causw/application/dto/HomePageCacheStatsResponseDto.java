@@ -0,0 +1,50 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class HomePageCacheStatsResponseDto {
+    private Integer size;
+    private Integer maxSize;
+    private Long hitCount;
+    private Long missCount;
+    private Long evictionCount;
+    private Double hitRate;
+
+    private HomePageCacheStatsResponseDto(
+            Integer size,
+            Integer maxSize,
+            Long hitCount,
+            Long missCount,
+            Long evictionCount,
+            Double hitRate
+    ) {
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.hitRate = hitRate;
+    }
+
+    public static HomePageCacheStatsResponseDto of(
+            Integer size,
+            Integer maxSize,
+            Long hitCount,
+            Long missCount,
+            Long evictionCount
+    ) {
+        long numRequest = hitCount + missCount;
+
+        return new HomePageCacheStatsResponseDto(
+                size,
+                maxSize,
+                hitCount,
+                missCount,
+                evictionCount,
+                numRequest == 0 ? 0.0 : (double) hitCount / numRequest
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+
+@Getter
+public class LockerAllocationResponseDto {
+    private Integer applicationCount;
+    private Integer allocatedCount;
+
+    private LockerAllocationResponseDto(
+            Integer applicationCount,
+            Integer allocatedCount
+    ) {
+        this.applicationCount = applicationCount;
+        this.allocatedCount = allocatedCount;
+    }
+
+    public static LockerAllocationResponseDto of(
+            Integer applicationCount,
+            Integer allocatedCount
+    ) {
+        return new LockerAllocationResponseDto(
+                applicationCount,
+                allocatedCount
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package net.causw.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockerApplicationRequestDto {
+    private List<LockerPreferenceDto> preferenceList;
+}
@@ -0,0 +1,40 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import net.causw.domain.model.LockerApplicationDomainModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+public class LockerApplicationResponseDto {
+    private String id;
+    private String userId;
+    private List<LockerPreferenceDto> preferenceList;
+    private LocalDateTime createdAt;
+
+    private LockerApplicationResponseDto(
+            String id,
+            String userId,
+            List<LockerPreferenceDto> preferenceList,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.preferenceList = preferenceList;
+        this.createdAt = createdAt;
+    }
+
+    public static LockerApplicationResponseDto from(LockerApplicationDomainModel lockerApplication) {
+        return new LockerApplicationResponseDto(
+                lockerApplication.getId(),
+                lockerApplication.getUser().getId(),
+                lockerApplication.getPreferenceList()
+                        .stream()
+                        .map(LockerPreferenceDto::from)
+                        .collect(Collectors.toList()),
+                lockerApplication.getCreatedAt()
+        );
+    }
+}
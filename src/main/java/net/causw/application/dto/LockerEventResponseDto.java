@@ -0,0 +1,48 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import net.causw.domain.model.LockerEventDomainModel;
+import net.causw.domain.model.LockerEventType;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LockerEventResponseDto {
+    private LockerEventType type;
+    private String lockerId;
+    private Long lockerNumber;
+    private String locationId;
+    private Boolean isActive;
+    private Boolean isOccupied;
+    private LocalDateTime occurredAt;
+
+    private LockerEventResponseDto(
+            LockerEventType type,
+            String lockerId,
+            Long lockerNumber,
+            String locationId,
+            Boolean isActive,
+            Boolean isOccupied,
+            LocalDateTime occurredAt
+    ) {
+        this.type = type;
+        this.lockerId = lockerId;
+        this.lockerNumber = lockerNumber;
+        this.locationId = locationId;
+        this.isActive = isActive;
+        this.isOccupied = isOccupied;
+        this.occurredAt = occurredAt;
+    }
+
+    public static LockerEventResponseDto from(LockerEventDomainModel lockerEvent) {
+        return new LockerEventResponseDto(
+                lockerEvent.getType(),
+                lockerEvent.getLockerId(),
+                lockerEvent.getLockerNumber(),
+                lockerEvent.getLocationId(),
+                lockerEvent.getIsActive(),
+                lockerEvent.getIsOccupied(),
+                lockerEvent.getOccurredAt()
+        );
+    }
+}
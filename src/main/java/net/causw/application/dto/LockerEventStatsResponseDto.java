@@ -0,0 +1,49 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LockerEventStatsResponseDto {
+    private Integer subscriberCount;
+    private Integer maxSubscriberCount;
+    private Integer backlog;
+    private Integer bufferCapacity;
+    private Long publishedCount;
+    private Long droppedCount;
+
+    private LockerEventStatsResponseDto(
+            Integer subscriberCount,
+            Integer maxSubscriberCount,
+            Integer backlog,
+            Integer bufferCapacity,
+            Long publishedCount,
+            Long droppedCount
+    ) {
+        this.subscriberCount = subscriberCount;
+        this.maxSubscriberCount = maxSubscriberCount;
+        this.backlog = backlog;
+        this.bufferCapacity = bufferCapacity;
+        this.publishedCount = publishedCount;
+        this.droppedCount = droppedCount;
+    }
+
+    public static LockerEventStatsResponseDto of(
+            Integer subscriberCount,
+            Integer maxSubscriberCount,
+            Integer backlog,
+            Integer bufferCapacity,
+            Long publishedCount,
+            Long droppedCount
+    ) {
+        return new LockerEventStatsResponseDto(
+                subscriberCount,
+                maxSubscriberCount,
+                backlog,
+                bufferCapacity,
+                publishedCount,
+                droppedCount
+        );
+    }
+}
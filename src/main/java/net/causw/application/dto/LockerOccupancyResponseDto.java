@@ -0,0 +1,42 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import net.causw.domain.model.LockerOccupancyDomainModel;
+
+import java.util.Base64;
+
+/**
+ * Bitsets are Base64 of little-endian bytes: locker number n is bit (n % 8) of byte (n / 8), trailing zero bytes omitted.
+ */
+@Getter
+public class LockerOccupancyResponseDto {
+    private String locationId;
+    private String exist;
+    private String active;
+    private String occupied;
+    private String version;
+
+    private LockerOccupancyResponseDto(
+            String locationId,
+            String exist,
+            String active,
+            String occupied,
+            String version
+    ) {
+        this.locationId = locationId;
+        this.exist = exist;
+        this.active = active;
+        this.occupied = occupied;
+        this.version = version;
+    }
+
+    public static LockerOccupancyResponseDto from(LockerOccupancyDomainModel lockerOccupancy) {
+        return new LockerOccupancyResponseDto(
+                lockerOccupancy.getLocationId(),
+                Base64.getEncoder().encodeToString(lockerOccupancy.getExist()),
+                Base64.getEncoder().encodeToString(lockerOccupancy.getActive()),
+                Base64.getEncoder().encodeToString(lockerOccupancy.getOccupied()),
+                lockerOccupancy.getVersion()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package net.causw.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.causw.domain.model.LockerPreference;
+
+// Exactly one of the locker number and the location id is given
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LockerPreferenceDto {
+    private Long lockerNumber;
+    private String lockerLocationId;
+
+    public static LockerPreferenceDto from(LockerPreference lockerPreference) {
+        return new LockerPreferenceDto(
+                lockerPreference.getLockerNumber(),
+                lockerPreference.getLocationId()
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PasswordHasherStatsResponseDto {
+    private Integer poolSize;
+    private Integer activeCount;
+    private Integer queueSize;
+    private Integer queueCapacity;
+    private Long completedCount;
+    private Long rejectedCount;
+
+    private PasswordHasherStatsResponseDto(
+            Integer poolSize,
+            Integer activeCount,
+            Integer queueSize,
+            Integer queueCapacity,
+            Long completedCount,
+            Long rejectedCount
+    ) {
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queueSize = queueSize;
+        this.queueCapacity = queueCapacity;
+        this.completedCount = completedCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    public static PasswordHasherStatsResponseDto of(
+            Integer poolSize,
+            Integer activeCount,
+            Integer queueSize,
+            Integer queueCapacity,
+            Long completedCount,
+            Long rejectedCount
+    ) {
+        return new PasswordHasherStatsResponseDto(
+                poolSize,
+                activeCount,
+                queueSize,
+                queueCapacity,
+                completedCount,
+                rejectedCount
+        );
+    }
+}
@@ -2,7 +2,7 @@ package net.causw.application.dto;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import net.causw.domain.model.PostDomainModel;
+import net.causw.domain.model.PostSummaryDomainModel;
 
 import java.time.LocalDateTime;
 
@@ -14,6 +14,7 @@ public class PostAllResponseDto {
     private String writerName;
     private Integer writerAdmissionYear;
     private Long numComment;
+    private Long numView;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -23,6 +24,7 @@ public class PostAllResponseDto {
             String writerName,
             Integer writerAdmissionYear,
             Long numComment,
+            Long numView,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -31,20 +33,19 @@ public class PostAllResponseDto {
         this.writerName = writerName;
         this.writerAdmissionYear = writerAdmissionYear;
         this.numComment = numComment;
+        this.numView = numView;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
-    public static PostAllResponseDto from(
-            PostDomainModel post,
-            Long numComment
-    ) {
+    public static PostAllResponseDto from(PostSummaryDomainModel post) {
         return new PostAllResponseDto(
                 post.getId(),
                 post.getTitle(),
-                post.getWriter().getName(),
-                post.getWriter().getAdmissionYear(),
-                numComment,
+                post.getWriterName(),
+                post.getWriterAdmissionYear(),
+                post.getCommentCount(),
+                post.getViewCount(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
@@ -0,0 +1,51 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.causw.domain.model.BoardDomainModel;
+import net.causw.domain.model.Role;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostAllWithBoardCursorResponseDto {
+    private String boardId;
+    private String boardName;
+    private Boolean writable;
+    private List<PostAllResponseDto> post;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    private PostAllWithBoardCursorResponseDto(
+            String boardId,
+            String boardName,
+            Boolean writable,
+            List<PostAllResponseDto> post,
+            Boolean hasNext,
+            String nextCursor
+    ) {
+        this.boardId = boardId;
+        this.boardName = boardName;
+        this.writable = writable;
+        this.post = post;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static PostAllWithBoardCursorResponseDto from(
+            BoardDomainModel boardDomainModel,
+            Role userRole,
+            List<PostAllResponseDto> post,
+            String nextCursor
+    ) {
+        return new PostAllWithBoardCursorResponseDto(
+                boardDomainModel.getId(),
+                boardDomainModel.getName(),
+                boardDomainModel.getCreateRoleList().contains(userRole.getValue()),
+                post,
+                nextCursor != null,
+                nextCursor
+        );
+    }
+}
@@ -4,7 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import net.causw.domain.model.BoardDomainModel;
 import net.causw.domain.model.Role;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 @NoArgsConstructor
@@ -12,13 +12,13 @@ public class PostAllWithBoardResponseDto {
     private String boardId;
     private String boardName;
     private Boolean writable;
-    private Page<PostAllResponseDto> post;
+    private Slice<PostAllResponseDto> post;
 
     private PostAllWithBoardResponseDto(
             String boardId,
             String boardName,
             Boolean writable,
-            Page<PostAllResponseDto> post
+            Slice<PostAllResponseDto> post
     ) {
         this.boardId = boardId;
         this.boardName = boardName;
@@ -29,7 +29,7 @@ public class PostAllWithBoardResponseDto {
     public static PostAllWithBoardResponseDto from(
             BoardDomainModel boardDomainModel,
             Role userRole,
-            Page<PostAllResponseDto> post
+            Slice<PostAllResponseDto> post
     ) {
         return new PostAllWithBoardResponseDto(
                 boardDomainModel.getId(),
@@ -20,6 +20,7 @@ public class PostResponseDto {
     private Integer writerAdmissionYear;
     private String writerProfileImage;
     private Long numComment;
+    private Long numView;
     private BoardResponseDto board;
     private Boolean updatable;
     private Boolean deletable;
@@ -39,6 +40,7 @@ public class PostResponseDto {
             String writerName,
             Integer writerAdmissionYear,
             Long numComment,
+            Long numView,
             BoardResponseDto board,
             Boolean updatable,
             Boolean deletable,
@@ -56,6 +58,7 @@ public class PostResponseDto {
         this.writerName = writerName;
         this.writerAdmissionYear = writerAdmissionYear;
         this.numComment = numComment;
+        this.numView = numView;
         this.board = board;
         this.updatable = updatable;
         this.deletable = deletable;
@@ -103,7 +106,8 @@ public class PostResponseDto {
                 post.getWriter().getProfileImage(),
                 post.getWriter().getName(),
                 post.getWriter().getAdmissionYear(),
-                0L,
+                post.getCommentCount(),
+                post.getViewCount(),
                 BoardResponseDto.from(post.getBoard(), user.getRole()),
                 updatable,
                 deletable,
@@ -118,8 +122,7 @@ public class PostResponseDto {
     public static PostResponseDto from(
             PostDomainModel post,
             UserDomainModel user,
-            Page<CommentResponseDto> commentList,
-            Long numComment
+            Page<CommentResponseDto> commentList
     ) {
         boolean updatable = false;
         boolean deletable = false;
@@ -154,7 +157,8 @@ public class PostResponseDto {
                 post.getWriter().getProfileImage(),
                 post.getWriter().getName(),
                 post.getWriter().getAdmissionYear(),
-                numComment,
+                post.getCommentCount(),
+                post.getViewCount(),
                 BoardResponseDto.from(post.getBoard(), user.getRole()),
                 updatable,
                 deletable,
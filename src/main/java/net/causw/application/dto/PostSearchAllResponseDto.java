@@ -0,0 +1,35 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostSearchAllResponseDto {
+    private List<PostSearchResponseDto> post;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    private PostSearchAllResponseDto(
+            List<PostSearchResponseDto> post,
+            Boolean hasNext,
+            String nextCursor
+    ) {
+        this.post = post;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static PostSearchAllResponseDto from(
+            List<PostSearchResponseDto> post,
+            String nextCursor
+    ) {
+        return new PostSearchAllResponseDto(
+                post,
+                nextCursor != null,
+                nextCursor
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.causw.domain.model.PostSearchDomainModel;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Getter
+@NoArgsConstructor
+public class PostSearchResponseDto {
+    private static final String HIGHLIGHT_START = "<em>";
+    private static final String HIGHLIGHT_END = "</em>";
+
+    private String id;
+    private String title;
+    private String snippet;
+    private String boardId;
+    private String writerName;
+    private Integer writerAdmissionYear;
+    private Long numComment;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private PostSearchResponseDto(
+            String id,
+            String title,
+            String snippet,
+            String boardId,
+            String writerName,
+            Integer writerAdmissionYear,
+            Long numComment,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.snippet = snippet;
+        this.boardId = boardId;
+        this.writerName = writerName;
+        this.writerAdmissionYear = writerAdmissionYear;
+        this.numComment = numComment;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static PostSearchResponseDto from(PostSearchDomainModel postSearchDomainModel, String keyword) {
+        return new PostSearchResponseDto(
+                postSearchDomainModel.getPost().getId(),
+                highlight(postSearchDomainModel.getPost().getTitle(), keyword),
+                highlight(postSearchDomainModel.getSnippet(), keyword),
+                postSearchDomainModel.getPost().getBoardId(),
+                postSearchDomainModel.getPost().getWriterName(),
+                postSearchDomainModel.getPost().getWriterAdmissionYear(),
+                postSearchDomainModel.getPost().getCommentCount(),
+                postSearchDomainModel.getPost().getCreatedAt(),
+                postSearchDomainModel.getPost().getUpdatedAt()
+        );
+    }
+
+    // Text is HTML escaped, so the highlight tags are the only markup in the response
+    private static String highlight(String text, String keyword) {
+        if (text == null) {
+            return null;
+        }
+
+        return Pattern.compile(Pattern.quote(HtmlUtils.htmlEscape(keyword)), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                .matcher(HtmlUtils.htmlEscape(text))
+                .replaceAll(matchResult -> HIGHLIGHT_START + Matcher.quoteReplacement(matchResult.group()) + HIGHLIGHT_END);
+    }
+}
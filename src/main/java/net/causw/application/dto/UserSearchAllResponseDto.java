@@ -0,0 +1,35 @@
+package net.causw.application.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class UserSearchAllResponseDto {
+    private List<UserResponseDto> user;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    private UserSearchAllResponseDto(
+            List<UserResponseDto> user,
+            Boolean hasNext,
+            String nextCursor
+    ) {
+        this.user = user;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static UserSearchAllResponseDto from(
+            List<UserResponseDto> user,
+            String nextCursor
+    ) {
+        return new UserSearchAllResponseDto(
+                user,
+                nextCursor != null,
+                nextCursor
+        );
+    }
+}
@@ -12,6 +12,8 @@ public interface BoardPort {
 
     Optional<BoardDomainModel> findAppNotice();
 
+    String findVersion();
+
     List<BoardDomainModel> findByCircleId(String circleId);
 
     List<BoardDomainModel> findOldest3Boards();
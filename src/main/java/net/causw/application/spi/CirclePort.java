@@ -9,6 +9,8 @@ import java.util.Optional;
 public interface CirclePort {
     Optional<CircleDomainModel> findById(String id);
 
+    Optional<String> findVersion(String id);
+
     Optional<CircleDomainModel> findByLeaderId(String leaderId);
 
     List<CircleDomainModel> findAll();
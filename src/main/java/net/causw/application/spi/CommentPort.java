@@ -1,10 +1,13 @@
 package net.causw.application.spi;
 
 import net.causw.domain.model.CommentDomainModel;
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.PostDomainModel;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CommentPort {
@@ -12,8 +15,16 @@ public interface CommentPort {
 
     Page<CommentDomainModel> findByPostId(String postId, Integer pageNum);
 
+    Page<CommentDomainModel> findByPostId(String postId, Integer pageNum, Integer childLimit);
+
+    Slice<CommentDomainModel> findSliceByPostId(String postId, Integer pageNum);
+
+    Slice<CommentDomainModel> findChildByParentCommentId(String parentCommentId, Cursor cursor);
+
     Long countByPostId(String postId);
 
+    Map<String, Long> countByPostIds(List<String> postIds);
+
     CommentDomainModel create(CommentDomainModel commentDomainModel, PostDomainModel postDomainModel);
 
     Optional<CommentDomainModel> update(String commentId, CommentDomainModel commentDomainModel);
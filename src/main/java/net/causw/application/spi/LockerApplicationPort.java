@@ -0,0 +1,22 @@
+package net.causw.application.spi;
+
+import net.causw.domain.model.LockerApplicationDomainModel;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LockerApplicationPort {
+    Optional<LockerApplicationDomainModel> findByUserId(String userId);
+
+    List<LockerApplicationDomainModel> findAll();
+
+    boolean existsAny();
+
+    LockerApplicationDomainModel create(LockerApplicationDomainModel lockerApplicationDomainModel);
+
+    Optional<LockerApplicationDomainModel> update(String id, LockerApplicationDomainModel lockerApplicationDomainModel);
+
+    void delete(LockerApplicationDomainModel lockerApplicationDomainModel);
+
+    void deleteByIds(List<String> ids);
+}
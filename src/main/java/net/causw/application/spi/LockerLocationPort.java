@@ -12,6 +12,8 @@ public interface LockerLocationPort {
 
     List<LockerLocationDomainModel> findAll();
 
+    String findVersion();
+
     LockerLocationDomainModel create(LockerLocationDomainModel lockerLocationDomainModel);
 
     Optional<LockerLocationDomainModel> update(String id, LockerLocationDomainModel lockerLocationDomainModel);
@@ -1,6 +1,7 @@
 package net.causw.application.spi;
 
 import net.causw.application.dto.LockerLogDetailDto;
+import net.causw.domain.model.LockerAllocationDomainModel;
 import net.causw.domain.model.LockerLogAction;
 import net.causw.domain.model.UserDomainModel;
 
@@ -10,4 +11,6 @@ public interface LockerLogPort {
     List<LockerLogDetailDto> findByLockerNumber(Long lockerNumber);
 
     void create(Long lockerNumber, UserDomainModel user, LockerLogAction action, String message);
+
+    void createAll(List<LockerAllocationDomainModel> lockerAllocationDomainModelList, LockerLogAction action, String message);
 }
@@ -1,8 +1,12 @@
 package net.causw.application.spi;
 
+import net.causw.domain.model.LockerAllocationDomainModel;
 import net.causw.domain.model.LockerDomainModel;
+import net.causw.domain.model.LockerLocationCountDomainModel;
+import net.causw.domain.model.LockerOccupancyDomainModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LockerPort {
@@ -14,13 +18,23 @@ public interface LockerPort {
 
     Optional<LockerDomainModel> update(String id, LockerDomainModel lockerDomainModel);
 
+    Optional<LockerDomainModel> claim(String id, String userId);
+
+    List<LockerDomainModel> findAll();
+
+    List<String> claimAll(List<LockerAllocationDomainModel> lockerAllocationDomainModelList);
+
     Optional<LockerDomainModel> updateLocation(String id, LockerDomainModel lockerDomainModel);
 
     void delete(LockerDomainModel lockerDomainModel);
 
     List<LockerDomainModel> findByLocationId(String locationId);
 
-    Long getEnableLockerCountByLocation(String locationId);
+    Map<String, LockerLocationCountDomainModel> findCountByLocation();
+
+    String findCountVersion();
+
+    LockerOccupancyDomainModel findOccupancyByLocation(String locationId);
 
     Long getLockerCountByLocation(String locationId);
 }
@@ -1,8 +1,15 @@
 package net.causw.application.spi;
 
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.PostDomainModel;
+import net.causw.domain.model.PostSearchDomainModel;
+import net.causw.domain.model.PostSummaryDomainModel;
+import net.causw.domain.model.PostVersionDomainModel;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostPort {
@@ -14,9 +21,29 @@ public interface PostPort {
 
     Optional<PostDomainModel> update(String id, PostDomainModel postDomainModel);
 
-    Page<PostDomainModel> findAll(String boardId, Integer pageNum);
+    Page<PostSummaryDomainModel> findAll(String boardId, Integer pageNum);
 
-    Page<PostDomainModel> findAll(String boardId, Integer pageNum, Integer pageSize);
+    Page<PostSummaryDomainModel> findAll(String boardId, Integer pageNum, Integer pageSize);
+
+    Slice<PostSummaryDomainModel> findAllSlice(String boardId, Integer pageNum);
+
+    Slice<PostSummaryDomainModel> findAllByCursor(String boardId, Cursor cursor);
 
     Optional<PostDomainModel> findLatest(String boardId);
+
+    Optional<PostVersionDomainModel> findVersion(String id);
+
+    Slice<PostSearchDomainModel> search(List<String> boardIds, String keyword, Cursor cursor);
+
+    Map<String, Page<PostSummaryDomainModel>> findTopNByBoardIds(List<String> boardIds, Integer size);
+
+    void increaseCommentCount(String id);
+
+    void increaseViewCount(String id);
+
+    void decreaseCommentCount(String id);
+
+    List<String> findIdsAfter(String lastId, Integer size);
+
+    Integer updateCommentCount(Map<String, Long> commentCountMap);
 }
@@ -3,6 +3,7 @@ package net.causw.application.spi;
 import net.causw.domain.model.UserAdmissionDomainModel;
 import net.causw.domain.model.UserState;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
@@ -15,6 +16,8 @@ public interface UserAdmissionPort {
 
     Page<UserAdmissionDomainModel> findAll(UserState userState, Integer pageNum);
 
+    Slice<UserAdmissionDomainModel> findAllSlice(UserState userState, Integer pageNum);
+
     UserAdmissionDomainModel create(UserAdmissionDomainModel userAdmissionDomainModel);
 
     void delete(UserAdmissionDomainModel userAdmissionDomainModel);
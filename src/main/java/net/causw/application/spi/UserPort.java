@@ -1,8 +1,11 @@
 package net.causw.application.spi;
 
+import net.causw.domain.model.Cursor;
 import net.causw.domain.model.Role;
 import net.causw.domain.model.UserDomainModel;
+import net.causw.domain.model.UserSearchDomainModel;
 import net.causw.domain.model.UserState;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +15,8 @@ public interface UserPort {
 
     List<UserDomainModel> findByName(String name);
 
+    Slice<UserSearchDomainModel> search(String keyword, Cursor cursor);
+
     Optional<UserDomainModel> findByEmail(String email);
 
     UserDomainModel create(UserDomainModel userDomainModel);
@@ -24,7 +29,9 @@ public interface UserPort {
 
     List<UserDomainModel> findByState(UserState state);
 
-    Optional<UserDomainModel> updatePassword(String id, String password);
+    boolean updatePasswordIfUnchanged(String id, String password, String encodedPassword);
 
     Optional<UserDomainModel> updateState(String id, UserState state);
+
+    Optional<Long> findTokensIssuedAfter(String id);
 }
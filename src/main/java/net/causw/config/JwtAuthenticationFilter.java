@@ -22,9 +22,13 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         String token = this.jwtTokenProvider.resolveToken((HttpServletRequest) request);
-        if (token != null && this.jwtTokenProvider.validateToken(token, (HttpServletRequest) request)) {
-            Authentication auth = this.jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (token != null) {
+            this.jwtTokenProvider.getVerifiedClaims(token)
+                    .filter(claims -> this.jwtTokenProvider.validateClaims(claims, (HttpServletRequest) request))
+                    .ifPresent(claims -> {
+                        Authentication auth = this.jwtTokenProvider.getAuthentication(claims);
+                        SecurityContextHolder.getContext().setAuthentication(auth);
+                    });
         }
         chain.doFilter(request, response);
     }
@@ -1,12 +1,13 @@
 package net.causw.config;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
+import net.causw.application.spi.UserPort;
 import net.causw.domain.exceptions.ErrorCode;
 import net.causw.domain.model.Role;
+import net.causw.domain.model.UserPrincipal;
 import net.causw.domain.model.UserState;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,9 +16,17 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Component
@@ -27,6 +36,12 @@ public class JwtTokenProvider {
     private String secretKey;
 
     private static final long TOKEN_VALID_TIME = 1000L * 60 * 60 * 24 * 7;
+    // The registered issued at claim is in seconds, too coarse to compare against a revocation
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
+    private static final int CLAIMS_CACHE_MAX_SIZE = 10000;
+
+    private final UserPort userPort;
+    private final Map<String, ClaimsEntry> claimsCache = new ConcurrentHashMap<>();
 
     @PostConstruct
     protected void init() {
@@ -39,6 +54,7 @@ public class JwtTokenProvider {
         claims.put("state", userState.getValue());
 
         Date now = new Date();
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(now)
@@ -47,33 +63,109 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        String userPk = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(token).getBody().getSubject();
-        return new UsernamePasswordAuthenticationToken(userPk, null, new ArrayList<>());
+    public Authentication getAuthentication(Claims claims) {
+        UserPrincipal userPrincipal = UserPrincipal.of(
+                claims.getSubject(),
+                Role.of((String) claims.get("role")),
+                UserState.of((String) claims.get("state")),
+                LocalDateTime.ofInstant(claims.getIssuedAt().toInstant(), ZoneId.systemDefault())
+        );
+
+        return new UsernamePasswordAuthenticationToken(userPrincipal, null, new ArrayList<>());
     }
 
     public String resolveToken(HttpServletRequest request) {
         return request.getHeader("Authorization");
     }
 
-    public boolean validateToken(String jwtToken, HttpServletRequest request) {
-        try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(jwtToken);
+    // Parses and verifies the token once, then serves its claims from the cache until the token expires
+    public Optional<Claims> getVerifiedClaims(String jwtToken) {
+        long now = System.currentTimeMillis();
+        String digest = digest(jwtToken);
 
-            if (claims.getBody().getExpiration().before(new Date())) {
-                request.setAttribute("exception", ErrorCode.INVALID_JWT);
-                return false;
+        ClaimsEntry entry = this.claimsCache.get(digest);
+        if (entry != null) {
+            if (entry.expiredAt > now) {
+                return Optional.of(entry.claims);
             }
+            this.claimsCache.remove(digest);
+        }
 
-            if (claims.getBody().get("role").equals(Role.NONE.getValue()) ||
-                    !claims.getBody().get("state").equals(UserState.ACTIVE.getValue())) {
-                request.setAttribute("exception", ErrorCode.NEED_SIGN_IN);
-                return false;
+        Claims claims;
+        try {
+            claims = Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(jwtToken).getBody();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+
+        if (claims.getExpiration() == null || claims.getExpiration().getTime() <= now) {
+            return Optional.empty();
+        }
+
+        if (this.claimsCache.size() >= CLAIMS_CACHE_MAX_SIZE) {
+            this.claimsCache.values().removeIf(expiredEntry -> expiredEntry.expiredAt <= now);
+            if (this.claimsCache.size() >= CLAIMS_CACHE_MAX_SIZE) {
+                this.claimsCache.clear();
             }
+        }
+        this.claimsCache.put(digest, new ClaimsEntry(claims, claims.getExpiration().getTime()));
 
-            return true;
-        } catch (Exception e) {
+        return Optional.of(claims);
+    }
+
+    public boolean validateClaims(Claims claims, HttpServletRequest request) {
+        if (claims.getExpiration().before(new Date())) {
+            request.setAttribute("exception", ErrorCode.INVALID_JWT);
+            return false;
+        }
+
+        if (Role.NONE.getValue().equals(claims.get("role")) ||
+                !UserState.ACTIVE.getValue().equals(claims.get("state"))) {
+            request.setAttribute("exception", ErrorCode.NEED_SIGN_IN);
             return false;
         }
+
+        // Tokens issued before the role or state of the user changed are revoked
+        long issuedAt = getIssuedAtMillis(claims);
+        boolean isRevoked = this.userPort.findTokensIssuedAfter(claims.getSubject())
+                .map(tokensIssuedAfter -> issuedAt < tokensIssuedAfter)
+                .orElse(false);
+        if (isRevoked) {
+            request.setAttribute("exception", ErrorCode.NEED_SIGN_IN);
+            return false;
+        }
+
+        return true;
+    }
+
+    // Tokens issued before the millisecond claim was added fall back to the issued at claim
+    private static long getIssuedAtMillis(Claims claims) {
+        Object issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM);
+        if (issuedAtMillis instanceof Number) {
+            return ((Number) issuedAtMillis).longValue();
+        }
+
+        return claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+    }
+
+    // The cache key is a digest, so the cache does not hold the tokens themselves
+    private static String digest(String jwtToken) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance("SHA-256").digest(jwtToken.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ClaimsEntry {
+        private final Claims claims;
+        private final long expiredAt;
+
+        private ClaimsEntry(Claims claims, long expiredAt) {
+            this.claims = claims;
+            this.expiredAt = expiredAt;
+        }
     }
 }
@@ -0,0 +1,147 @@
+package net.causw.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import net.causw.domain.exceptions.ErrorCode;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.GenericFilterBean;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Limits the public endpoints which look up a user by email, per client IP and per requested email.
+ * The client IP is the remote address resolved from the forwarded headers of the trusted proxies (server.forward-headers-strategy).
+ * The body is read for the email up to a small size whatever the Content-Length says, and larger bodies are rejected.
+ */
+public class RateLimitFilter extends GenericFilterBean {
+    private static final int MAX_BODY_SIZE = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<Rule> ruleList;
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, List<Rule> ruleList) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.ruleList = ruleList;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+
+        Optional<Rule> matchedRule = this.ruleList.stream()
+                .filter(rule -> HttpMethod.POST.matches(httpServletRequest.getMethod())
+                        && this.antPathMatcher.match(rule.getPathPattern(), httpServletRequest.getRequestURI()))
+                .findFirst();
+
+        if (matchedRule.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Rule rule = matchedRule.get();
+
+        long retryAfter = this.rateLimiter.tryAcquire(
+                rule.getPathPattern() + "|ip|" + httpServletRequest.getRemoteAddr(),
+                rule.getPermitsPerMinutePerIp()
+        );
+        if (retryAfter > 0) {
+            this.setResponse((HttpServletResponse) response, retryAfter);
+            return;
+        }
+
+        // Chunked bodies have no length, so the body itself is never read past the limit
+        byte[] body = httpServletRequest.getContentLengthLong() > MAX_BODY_SIZE
+                ? null
+                : httpServletRequest.getInputStream().readNBytes(MAX_BODY_SIZE + 1);
+        if (body == null || body.length > MAX_BODY_SIZE) {
+            this.setPayloadTooLargeResponse((HttpServletResponse) response);
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedBodyHttpServletRequest = new CachedBodyHttpServletRequest(httpServletRequest, body);
+
+        Optional<String> email = this.readEmail(body);
+        if (email.isPresent()) {
+            retryAfter = this.rateLimiter.tryAcquire(
+                    rule.getPathPattern() + "|email|" + email.get(),
+                    rule.getPermitsPerMinutePerEmail()
+            );
+            if (retryAfter > 0) {
+                this.setResponse((HttpServletResponse) response, retryAfter);
+                return;
+            }
+        }
+
+        chain.doFilter(cachedBodyHttpServletRequest, response);
+    }
+
+    // Malformed bodies are left to the controller to reject
+    private Optional<String> readEmail(byte[] body) {
+        try {
+            JsonNode email = this.objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual()) {
+                return Optional.empty();
+            }
+            return Optional.of(email.asText().trim().toLowerCase(Locale.ROOT));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void setResponse(HttpServletResponse response, long retryAfter) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.getWriter().println(
+                "{" +
+                        "\"errorCode\" : \"" + ErrorCode.TOO_MANY_REQUESTS.getCode() + "\"," +
+                        "\"message\" : \"요청이 너무 많습니다. " + retryAfter + "초 후 다시 시도해주세요.\"," +
+                        "\"timeStamp\" : \"" + LocalDateTime.now() + "\"" +
+                        "}"
+        );
+    }
+
+    private void setPayloadTooLargeResponse(HttpServletResponse response) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(413);
+        response.getWriter().println(
+                "{" +
+                        "\"errorCode\" : \"" + ErrorCode.PAYLOAD_TOO_LARGE.getCode() + "\"," +
+                        "\"message\" : \"요청 본문이 너무 큽니다.\"," +
+                        "\"timeStamp\" : \"" + LocalDateTime.now() + "\"" +
+                        "}"
+        );
+    }
+
+    @Getter
+    public static class Rule {
+        private final String pathPattern;
+        private final int permitsPerMinutePerIp;
+        private final int permitsPerMinutePerEmail;
+
+        private Rule(String pathPattern, int permitsPerMinutePerIp, int permitsPerMinutePerEmail) {
+            this.pathPattern = pathPattern;
+            this.permitsPerMinutePerIp = permitsPerMinutePerIp;
+            this.permitsPerMinutePerEmail = permitsPerMinutePerEmail;
+        }
+
+        public static Rule of(String pathPattern, int permitsPerMinutePerIp, int permitsPerMinutePerEmail) {
+            return new Rule(pathPattern, permitsPerMinutePerIp, permitsPerMinutePerEmail);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package net.causw.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by an arbitrary string (e.g. endpoint and client IP), refilled evenly over a minute.
+ * A bucket is only touched under the lock of its stripe, so requests with different keys rarely wait on each other.
+ * A bucket left alone for a minute is full again, which is the same as having no bucket, so it is evicted.
+ * With no room for a new bucket, the idle ones are evicted right away; a new key is only rejected if they are all in use.
+ */
+@Component
+public class RateLimiter {
+    private static final int STRIPE_COUNT = 64;
+    private static final int MAX_SIZE = 100000;
+    private static final long REFILL_PERIOD_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Object[] stripes;
+    private final Map<String, Bucket> bucketMap;
+    private final AtomicLong evictedAt;
+
+    public RateLimiter() {
+        this.stripes = new Object[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            this.stripes[i] = new Object();
+        }
+        this.bucketMap = new ConcurrentHashMap<>();
+        this.evictedAt = new AtomicLong(System.nanoTime() - EVICTION_INTERVAL_NANOS);
+    }
+
+    /**
+     * @return 0 if a token is taken, or the seconds until the next token otherwise
+     */
+    public long tryAcquire(String key, int permitsPerMinute) {
+        // Evicted outside of the stripe lock, as the eviction takes the lock of every stripe in turn
+        if (this.bucketMap.size() >= MAX_SIZE && !this.bucketMap.containsKey(key)) {
+            this.evictIdleBucketsWhenFull();
+        }
+
+        long now = System.nanoTime();
+
+        synchronized (this.stripeOf(key)) {
+            Bucket bucket = this.bucketMap.get(key);
+            if (bucket == null) {
+                // Every bucket is in use, so the new key is rejected rather than let through without a limit
+                if (this.bucketMap.size() >= MAX_SIZE) {
+                    return TimeUnit.NANOSECONDS.toSeconds(REFILL_PERIOD_NANOS);
+                }
+
+                bucket = new Bucket(permitsPerMinute, now);
+                this.bucketMap.put(key, bucket);
+            }
+
+            double refillPerNano = (double) permitsPerMinute / REFILL_PERIOD_NANOS;
+            bucket.tokens = Math.min(permitsPerMinute, bucket.tokens + (now - bucket.refilledAt) * refillPerNano);
+            bucket.refilledAt = now;
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0L;
+            }
+
+            return Math.max(1L, (long) Math.ceil((1 - bucket.tokens) / refillPerNano / TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+
+        this.bucketMap.forEach((key, bucket) -> {
+            synchronized (this.stripeOf(key)) {
+                if (now - bucket.refilledAt >= REFILL_PERIOD_NANOS) {
+                    this.bucketMap.remove(key, bucket);
+                }
+            }
+        });
+    }
+
+    // At most once a second, so a flood of new keys does not scan the buckets on every request
+    private void evictIdleBucketsWhenFull() {
+        long now = System.nanoTime();
+        long evictedAt = this.evictedAt.get();
+        if (now - evictedAt >= EVICTION_INTERVAL_NANOS && this.evictedAt.compareAndSet(evictedAt, now)) {
+            this.evictIdleBuckets();
+        }
+    }
+
+    private Object stripeOf(String key) {
+        return this.stripes[(key.hashCode() & 0x7fffffff) % STRIPE_COUNT];
+    }
+
+    private static class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
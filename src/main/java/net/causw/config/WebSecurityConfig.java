@@ -1,5 +1,8 @@
 package net.causw.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.causw.domain.model.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,16 +16,45 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.List;
+
 @Configuration
 @EnableWebSecurity
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${rate-limit.sign-in.per-ip:60}")
+    private int signInPermitsPerIp;
+
+    @Value("${rate-limit.sign-in.per-email:10}")
+    private int signInPermitsPerEmail;
+
+    @Value("${rate-limit.sign-up.per-ip:10}")
+    private int signUpPermitsPerIp;
+
+    @Value("${rate-limit.sign-up.per-email:5}")
+    private int signUpPermitsPerEmail;
+
+    @Value("${rate-limit.admission-apply.per-ip:10}")
+    private int admissionApplyPermitsPerIp;
+
+    @Value("${rate-limit.admission-apply.per-email:5}")
+    private int admissionApplyPermitsPerEmail;
 
-    public WebSecurityConfig(JwtTokenProvider jwtTokenProvider, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+    public WebSecurityConfig(
+            JwtTokenProvider jwtTokenProvider,
+            JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper
+    ) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -47,6 +79,10 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .cors()
                 .configurationSource(this.corsConfigurationSource())
 
+                .and()
+                .anonymous()
+                .principal(UserPrincipal.anonymous())
+
                 .and()
                 .authorizeRequests()
                 .antMatchers(
@@ -60,7 +96,21 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .anyRequest().authenticated()
 
                 .and()
-                .addFilterBefore(new JwtAuthenticationFilter(this.jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(this.jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(this.rateLimitFilter(), JwtAuthenticationFilter.class);
+    }
+
+    // Rates are requests per minute
+    private RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(
+                this.rateLimiter,
+                this.objectMapper,
+                List.of(
+                        RateLimitFilter.Rule.of("/api/**/users/sign-in", this.signInPermitsPerIp, this.signInPermitsPerEmail),
+                        RateLimitFilter.Rule.of("/api/**/users/sign-up", this.signUpPermitsPerIp, this.signUpPermitsPerEmail),
+                        RateLimitFilter.Rule.of("/api/**/users/admissions/apply", this.admissionApplyPermitsPerIp, this.admissionApplyPermitsPerEmail)
+                )
+        );
     }
 
     @Bean
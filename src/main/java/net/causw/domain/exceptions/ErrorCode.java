@@ -36,10 +36,25 @@ public enum ErrorCode {
     API_NOT_ALLOWED(4107),
     NOT_MEMBER(4108),
 
+    /**
+     * 413 Payload Too Large
+     */
+    PAYLOAD_TOO_LARGE(4300),
+
+    /**
+     * 429 Too Many Requests
+     */
+    TOO_MANY_REQUESTS(4900),
+
     /**
      * 500 Internal Server Error
      */
-    INTERNAL_SERVER(5000);
+    INTERNAL_SERVER(5000),
+
+    /**
+     * 503 Service Unavailable
+     */
+    SERVER_BUSY(5300);
 
     private int code;
 
@@ -0,0 +1,7 @@
+package net.causw.domain.exceptions;
+
+public class ServiceUnavailableException extends BaseRuntimeExeption {
+    public ServiceUnavailableException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
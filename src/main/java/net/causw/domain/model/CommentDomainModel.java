@@ -30,6 +30,7 @@ public class CommentDomainModel {
     private String postId;
     private CommentDomainModel parentComment;           // Write
     private List<CommentDomainModel> childCommentList;  // Read
+    private Long numChildComment;                       // Read, may be larger than the size of child comment list
 
     private CommentDomainModel(
             String id,
@@ -40,7 +41,8 @@ public class CommentDomainModel {
             UserDomainModel writer,
             String postId,
             CommentDomainModel parentComment,
-            List<CommentDomainModel> childCommentList
+            List<CommentDomainModel> childCommentList,
+            Long numChildComment
     ) {
         this.id = id;
         this.content = content;
@@ -51,6 +53,7 @@ public class CommentDomainModel {
         this.postId = postId;
         this.parentComment = parentComment;
         this.childCommentList = childCommentList;
+        this.numChildComment = numChildComment;
     }
 
     // Constructor with parent comment, without id (Used for write)
@@ -69,7 +72,8 @@ public class CommentDomainModel {
                 writer,
                 postId,
                 parentComment,
-                new ArrayList<>()
+                new ArrayList<>(),
+                0L
         );
     }
 
@@ -93,7 +97,8 @@ public class CommentDomainModel {
                 writer,
                 postId,
                 parentComment,
-                new ArrayList<>()
+                new ArrayList<>(),
+                0L
         );
     }
 
@@ -116,7 +121,8 @@ public class CommentDomainModel {
                 writer,
                 postId,
                 null,
-                new ArrayList<>()
+                new ArrayList<>(),
+                0L
         );
     }
 
@@ -140,7 +146,34 @@ public class CommentDomainModel {
                 writer,
                 postId,
                 null,
-                childCommentList
+                childCommentList,
+                (long) childCommentList.size()
+        );
+    }
+
+    // Constructor with first part of child comments (Used for read parent comment with limited child comments)
+    public static CommentDomainModel of(
+            String id,
+            String content,
+            Boolean isDeleted,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            UserDomainModel writer,
+            String postId,
+            List<CommentDomainModel> childCommentList,
+            Long numChildComment
+    ) {
+        return new CommentDomainModel(
+                id,
+                content,
+                isDeleted,
+                createdAt,
+                updatedAt,
+                writer,
+                postId,
+                null,
+                childCommentList,
+                numChildComment
         );
     }
 }
@@ -0,0 +1,59 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+import net.causw.domain.exceptions.BadRequestException;
+import net.causw.domain.exceptions.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Opaque keyset position of a (createdAt, id) ordered list.
+ * Clients only pass the encoded value back, so the format can be changed without breaking them.
+ */
+@Getter
+public class Cursor {
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    private Cursor(LocalDateTime createdAt, String id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime createdAt, String id) {
+        return new Cursor(createdAt, id);
+    }
+
+    // Empty value means the first page
+    public static Optional<Cursor> decode(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String[] token = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(DELIMITER, 2);
+            if (token.length != 2) {
+                throw new IllegalArgumentException();
+            }
+
+            return Optional.of(new Cursor(LocalDateTime.parse(token[0]), token[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(
+                    ErrorCode.INVALID_PARAMETER,
+                    "잘못된 커서입니다."
+            );
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (this.createdAt.toString() + DELIMITER + this.id).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+@Getter
+public class LockerAllocationDomainModel {
+    private LockerDomainModel locker;
+    private LockerApplicationDomainModel application;
+
+    private LockerAllocationDomainModel(
+            LockerDomainModel locker,
+            LockerApplicationDomainModel application
+    ) {
+        this.locker = locker;
+        this.application = application;
+    }
+
+    public static LockerAllocationDomainModel of(
+            LockerDomainModel locker,
+            LockerApplicationDomainModel application
+    ) {
+        return new LockerAllocationDomainModel(
+                locker,
+                application
+        );
+    }
+}
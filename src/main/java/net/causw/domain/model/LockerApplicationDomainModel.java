@@ -0,0 +1,64 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+public class LockerApplicationDomainModel {
+    public static final int MAX_PREFERENCE = 5;
+
+    private String id;
+
+    @NotNull(message = "신청자가 입력되지 않았습니다.")
+    private UserDomainModel user;
+
+    @NotNull(message = "희망 사물함이 입력되지 않았습니다.")
+    @Size(min = 1, max = MAX_PREFERENCE, message = "희망 사물함은 1개 이상 5개 이하로 입력해주세요.")
+    private List<LockerPreference> preferenceList;
+
+    private LocalDateTime createdAt;
+
+    private LockerApplicationDomainModel(
+            String id,
+            UserDomainModel user,
+            List<LockerPreference> preferenceList,
+            LocalDateTime createdAt
+    ) {
+        this.id = id;
+        this.user = user;
+        this.preferenceList = preferenceList;
+        this.createdAt = createdAt;
+    }
+
+    public static LockerApplicationDomainModel of(
+            UserDomainModel user,
+            List<LockerPreference> preferenceList
+    ) {
+        return new LockerApplicationDomainModel(
+                null,
+                user,
+                preferenceList,
+                null
+        );
+    }
+
+    public static LockerApplicationDomainModel of(
+            String id,
+            UserDomainModel user,
+            List<LockerPreference> preferenceList,
+            LocalDateTime createdAt
+    ) {
+        return new LockerApplicationDomainModel(
+                id,
+                user,
+                preferenceList,
+                createdAt
+        );
+    }
+}
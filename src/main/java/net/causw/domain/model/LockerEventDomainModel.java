@@ -0,0 +1,54 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change of a locker, as seen by the subscribers of one location.
+ * A move is two events: MOVE_OUT for the previous location and MOVE_IN for the new one.
+ */
+@Getter
+public class LockerEventDomainModel {
+    private LockerEventType type;
+    private String lockerId;
+    private Long lockerNumber;
+    private String locationId;
+    private Boolean isActive;
+    private Boolean isOccupied;
+    private LocalDateTime occurredAt;
+
+    private LockerEventDomainModel(
+            LockerEventType type,
+            String lockerId,
+            Long lockerNumber,
+            String locationId,
+            Boolean isActive,
+            Boolean isOccupied,
+            LocalDateTime occurredAt
+    ) {
+        this.type = type;
+        this.lockerId = lockerId;
+        this.lockerNumber = lockerNumber;
+        this.locationId = locationId;
+        this.isActive = isActive;
+        this.isOccupied = isOccupied;
+        this.occurredAt = occurredAt;
+    }
+
+    public static LockerEventDomainModel of(
+            LockerEventType type,
+            LockerDomainModel locker,
+            String locationId
+    ) {
+        return new LockerEventDomainModel(
+                type,
+                locker.getId(),
+                locker.getLockerNumber(),
+                locationId,
+                locker.getIsActive(),
+                locker.getUser().isPresent(),
+                LocalDateTime.now()
+        );
+    }
+}
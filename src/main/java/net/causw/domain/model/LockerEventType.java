@@ -0,0 +1,30 @@
+package net.causw.domain.model;
+
+public enum LockerEventType {
+    ENABLE("enable"),
+    DISABLE("disable"),
+    REGISTER("register"),
+    RETURN("return"),
+    MOVE_IN("move_in"),
+    MOVE_OUT("move_out"),
+    DELETE("delete");
+
+    private String value;
+
+    LockerEventType(String value) {
+        this.value = value;
+    }
+
+    public static LockerEventType from(LockerLogAction lockerLogAction) {
+        switch (lockerLogAction) {
+            case ENABLE:
+                return ENABLE;
+            case DISABLE:
+                return DISABLE;
+            case REGISTER:
+                return REGISTER;
+            default:
+                return RETURN;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+@Getter
+public class LockerLocationCountDomainModel {
+    private String locationId;
+    private Long enableLockerCount;
+    private Long totalLockerCount;
+
+    private LockerLocationCountDomainModel(
+            String locationId,
+            Long enableLockerCount,
+            Long totalLockerCount
+    ) {
+        this.locationId = locationId;
+        this.enableLockerCount = enableLockerCount;
+        this.totalLockerCount = totalLockerCount;
+    }
+
+    public static LockerLocationCountDomainModel of(
+            String locationId,
+            Long enableLockerCount,
+            Long totalLockerCount
+    ) {
+        return new LockerLocationCountDomainModel(
+                locationId,
+                enableLockerCount,
+                totalLockerCount
+        );
+    }
+}
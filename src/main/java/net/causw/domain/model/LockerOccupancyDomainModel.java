@@ -0,0 +1,45 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Lockers of a location as bitsets indexed by locker number, in the little-endian layout of {@link java.util.BitSet#toByteArray()}.
+ */
+@Getter
+public class LockerOccupancyDomainModel {
+    private String locationId;
+    private byte[] exist;
+    private byte[] active;
+    private byte[] occupied;
+    private String version;
+
+    private LockerOccupancyDomainModel(
+            String locationId,
+            byte[] exist,
+            byte[] active,
+            byte[] occupied,
+            String version
+    ) {
+        this.locationId = locationId;
+        this.exist = exist;
+        this.active = active;
+        this.occupied = occupied;
+        this.version = version;
+    }
+
+    public static LockerOccupancyDomainModel of(
+            String locationId,
+            byte[] exist,
+            byte[] active,
+            byte[] occupied,
+            String version
+    ) {
+        return new LockerOccupancyDomainModel(
+                locationId,
+                exist,
+                active,
+                occupied,
+                version
+        );
+    }
+}
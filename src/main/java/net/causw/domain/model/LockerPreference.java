@@ -0,0 +1,38 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+/**
+ * One entry of the ranked preferences of a locker application, either a specific locker or any locker of a location.
+ */
+@Getter
+public class LockerPreference {
+    private Long lockerNumber;
+    private String locationId;
+
+    private LockerPreference(
+            Long lockerNumber,
+            String locationId
+    ) {
+        this.lockerNumber = lockerNumber;
+        this.locationId = locationId;
+    }
+
+    public static LockerPreference ofLockerNumber(Long lockerNumber) {
+        return new LockerPreference(
+                lockerNumber,
+                null
+        );
+    }
+
+    public static LockerPreference ofLocation(String locationId) {
+        return new LockerPreference(
+                null,
+                locationId
+        );
+    }
+
+    public boolean isLockerNumber() {
+        return this.lockerNumber != null;
+    }
+}
@@ -0,0 +1,35 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Read access of a user to a post, checked once and used for both the entity tag and the response body.
+ */
+@Getter
+public class PostAccessDomainModel {
+    private String postId;
+    private UserDomainModel user;
+    private String version;
+
+    private PostAccessDomainModel(
+            String postId,
+            UserDomainModel user,
+            String version
+    ) {
+        this.postId = postId;
+        this.user = user;
+        this.version = version;
+    }
+
+    public static PostAccessDomainModel of(
+            String postId,
+            UserDomainModel user,
+            String version
+    ) {
+        return new PostAccessDomainModel(
+                postId,
+                user,
+                version
+        );
+    }
+}
@@ -25,6 +25,8 @@ public class PostDomainModel {
 
     @NotNull(message = "게시판이 입력되지 않았습니다.")
     private BoardDomainModel board;
+    private Long commentCount;
+    private Long viewCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -35,6 +37,8 @@ public class PostDomainModel {
             UserDomainModel writer,
             Boolean isDeleted,
             BoardDomainModel board,
+            Long commentCount,
+            Long viewCount,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -44,6 +48,8 @@ public class PostDomainModel {
         this.writer = writer;
         this.isDeleted = isDeleted;
         this.board = board;
+        this.commentCount = commentCount;
+        this.viewCount = viewCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -65,6 +71,34 @@ public class PostDomainModel {
                 writer,
                 isDeleted,
                 board,
+                0L,
+                0L,
+                createdAt,
+                updatedAt
+        );
+    }
+
+    public static PostDomainModel of(
+            String id,
+            String title,
+            String content,
+            UserDomainModel writer,
+            Boolean isDeleted,
+            BoardDomainModel board,
+            Long commentCount,
+            Long viewCount,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        return new PostDomainModel(
+                id,
+                title,
+                content,
+                writer,
+                isDeleted,
+                board,
+                commentCount,
+                viewCount,
                 createdAt,
                 updatedAt
         );
@@ -83,6 +117,8 @@ public class PostDomainModel {
                 writer,
                 false,
                 board,
+                0L,
+                0L,
                 null,
                 null
         );
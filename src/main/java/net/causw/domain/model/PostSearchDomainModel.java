@@ -0,0 +1,27 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+@Getter
+public class PostSearchDomainModel {
+    private PostSummaryDomainModel post;
+    private String snippet;
+
+    private PostSearchDomainModel(
+            PostSummaryDomainModel post,
+            String snippet
+    ) {
+        this.post = post;
+        this.snippet = snippet;
+    }
+
+    public static PostSearchDomainModel of(
+            PostSummaryDomainModel post,
+            String snippet
+    ) {
+        return new PostSearchDomainModel(
+                post,
+                snippet
+        );
+    }
+}
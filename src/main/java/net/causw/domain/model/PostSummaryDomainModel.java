@@ -0,0 +1,67 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for post list views, without the post content and the writer / board object graph.
+ */
+@Getter
+public class PostSummaryDomainModel {
+    private String id;
+    private String title;
+    private String writerName;
+    private Integer writerAdmissionYear;
+    private String boardId;
+    private Long commentCount;
+    private Long viewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private PostSummaryDomainModel(
+            String id,
+            String title,
+            String writerName,
+            Integer writerAdmissionYear,
+            String boardId,
+            Long commentCount,
+            Long viewCount,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.writerName = writerName;
+        this.writerAdmissionYear = writerAdmissionYear;
+        this.boardId = boardId;
+        this.commentCount = commentCount;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static PostSummaryDomainModel of(
+            String id,
+            String title,
+            String writerName,
+            Integer writerAdmissionYear,
+            String boardId,
+            Long commentCount,
+            Long viewCount,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        return new PostSummaryDomainModel(
+                id,
+                title,
+                writerName,
+                writerAdmissionYear,
+                boardId,
+                commentCount,
+                viewCount,
+                createdAt,
+                updatedAt
+        );
+    }
+}
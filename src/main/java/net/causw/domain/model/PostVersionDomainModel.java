@@ -0,0 +1,48 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Version of a post with what the access check of a reader needs, so a conditional GET is decided without the post.
+ */
+@Getter
+public class PostVersionDomainModel {
+    private final String DOMAIN = "게시글";
+    private final String BOARD_DOMAIN = "게시판";
+    private String version;
+    private Boolean isDeleted;
+    private Boolean boardIsDeleted;
+    private String circleId;
+
+    private PostVersionDomainModel(
+            String version,
+            Boolean isDeleted,
+            Boolean boardIsDeleted,
+            String circleId
+    ) {
+        this.version = version;
+        this.isDeleted = isDeleted;
+        this.boardIsDeleted = boardIsDeleted;
+        this.circleId = circleId;
+    }
+
+    public static PostVersionDomainModel of(
+            String version,
+            Boolean isDeleted,
+            Boolean boardIsDeleted,
+            String circleId
+    ) {
+        return new PostVersionDomainModel(
+                version,
+                isDeleted,
+                boardIsDeleted,
+                circleId
+        );
+    }
+
+    public Optional<String> getCircleId() {
+        return Optional.ofNullable(this.circleId);
+    }
+}
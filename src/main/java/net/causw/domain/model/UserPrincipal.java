@@ -0,0 +1,36 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Authenticated user resolved from the verified token claims, without loading the user.
+ * The role and state are those at the time the token was issued, so authorization decisions read them from
+ * the user loaded by id instead; the token itself is rejected once the tokens of the user are revoked.
+ */
+@Getter
+public class UserPrincipal {
+    private static final String ANONYMOUS_ID = "anonymousUser";
+
+    private final String id;
+    private final Role role;
+    private final UserState state;
+    private final LocalDateTime issuedAt;
+
+    private UserPrincipal(String id, Role role, UserState state, LocalDateTime issuedAt) {
+        this.id = id;
+        this.role = role;
+        this.state = state;
+        this.issuedAt = issuedAt;
+    }
+
+    public static UserPrincipal of(String id, Role role, UserState state, LocalDateTime issuedAt) {
+        return new UserPrincipal(id, role, state, issuedAt);
+    }
+
+    // Principal of an unauthenticated request, whose id does not match any user
+    public static UserPrincipal anonymous() {
+        return new UserPrincipal(ANONYMOUS_ID, Role.NONE, UserState.INACTIVE, null);
+    }
+}
@@ -0,0 +1,29 @@
+package net.causw.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserSearchDomainModel {
+    private UserDomainModel user;
+    private LocalDateTime createdAt;
+
+    private UserSearchDomainModel(
+            UserDomainModel user,
+            LocalDateTime createdAt
+    ) {
+        this.user = user;
+        this.createdAt = createdAt;
+    }
+
+    public static UserSearchDomainModel of(
+            UserDomainModel user,
+            LocalDateTime createdAt
+    ) {
+        return new UserSearchDomainModel(
+                user,
+                createdAt
+        );
+    }
+}
@@ -6,22 +6,25 @@ import net.causw.domain.model.UserDomainModel;
 
 public class PasswordCorrectValidator extends AbstractValidator {
 
+    private final PasswordMatcher passwordMatcher;
+
     private final UserDomainModel userDomainModel;
 
     private final String password;
 
-    private PasswordCorrectValidator(UserDomainModel userDomainModel, String password) {
+    private PasswordCorrectValidator(PasswordMatcher passwordMatcher, UserDomainModel userDomainModel, String password) {
+        this.passwordMatcher = passwordMatcher;
         this.userDomainModel = userDomainModel;
         this.password = password;
     }
 
-    public static PasswordCorrectValidator of(UserDomainModel userDomainModel, String password) {
-        return new PasswordCorrectValidator(userDomainModel, password);
+    public static PasswordCorrectValidator of(PasswordMatcher passwordMatcher, UserDomainModel userDomainModel, String password) {
+        return new PasswordCorrectValidator(passwordMatcher, userDomainModel, password);
     }
 
     @Override
     public void validate() {
-        if (!this.userDomainModel.getPassword().equals(this.password)) {
+        if (!this.passwordMatcher.matches(this.password, this.userDomainModel.getPassword())) {
             throw new UnauthorizedException(
                     ErrorCode.INVALID_SIGNIN,
                     "비밀번호를 잘못 입력했습니다."
@@ -0,0 +1,8 @@
+package net.causw.domain.validation;
+
+/**
+ * Checks a raw password against the stored one, so the domain does not depend on how passwords are hashed.
+ */
+public interface PasswordMatcher {
+    boolean matches(CharSequence rawPassword, String encodedPassword);
+}
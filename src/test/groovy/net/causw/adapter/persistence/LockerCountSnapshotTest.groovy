@@ -0,0 +1,89 @@
+package net.causw.adapter.persistence
+
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class LockerCountSnapshotTest extends Specification {
+    private LockerRepository lockerRepository = Mock(LockerRepository.class)
+    private LockerCountSnapshot lockerCountSnapshot = new LockerCountSnapshot(this.lockerRepository)
+
+    def setup() {
+        this.lockerRepository.findCountGroupByLocation() >> [this.lockerLocationCount(1L, 2L)]
+    }
+
+    /**
+     * Test cases for locker count version
+     */
+    @Test "Locker count version unchanged case"() {
+        when:
+        def version = this.lockerCountSnapshot.getVersion()
+        this.lockerCountSnapshot.get()
+
+        then:
+        this.lockerCountSnapshot.getVersion() == version
+    }
+
+    @Test "Locker count version changed by adjust case"() {
+        given:
+        def version = this.lockerCountSnapshot.getVersion()
+        Thread.sleep(5)
+
+        when:
+        this.lockerCountSnapshot.adjust("test locker location id", -1L, 0L)
+
+        then:
+        this.lockerCountSnapshot.getVersion() != version
+        this.lockerCountSnapshot.get().get("test locker location id").getEnableLockerCount() == 0L
+    }
+
+    @Test "Locker count version changed by reload case"() {
+        given:
+        def version = this.lockerCountSnapshot.getVersion()
+
+        when:
+        this.lockerCountSnapshot.invalidate()
+
+        then:
+        this.lockerCountSnapshot.getVersion() != version
+    }
+
+    /**
+     * Test cases for locker count change across a reload
+     */
+    @Test "Locker count change committed across a reload case"() {
+        given: "The counts are reloaded, already counting a claim, before the callback of the claim runs"
+        def lockerRepository = Mock(LockerRepository.class)
+        def lockerCountSnapshot = new LockerCountSnapshot(lockerRepository)
+        lockerRepository.findCountGroupByLocation() >> [this.lockerLocationCount(4L, 10L)]
+
+        TransactionSynchronizationManager.initSynchronization()
+        lockerCountSnapshot.adjust("test locker location id", -1L, 0L)
+        lockerCountSnapshot.get()
+        def synchronizationList = TransactionSynchronizationManager.getSynchronizations()
+        TransactionSynchronizationManager.clearSynchronization()
+
+        when:
+        synchronizationList.each { it.afterCommit() }
+        def countMap = lockerCountSnapshot.get()
+
+        then: "The claim is not subtracted again"
+        countMap.get("test locker location id").getEnableLockerCount() == 4L
+    }
+
+    private LockerLocationCount lockerLocationCount(Long enableLockerCount, Long totalLockerCount) {
+        return [
+                getLocationId       : { "test locker location id" },
+                getEnableLockerCount: { enableLockerCount },
+                getTotalLockerCount : { totalLockerCount }
+        ] as LockerLocationCount
+    }
+}
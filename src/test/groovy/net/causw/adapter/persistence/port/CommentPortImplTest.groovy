@@ -0,0 +1,272 @@
+package net.causw.adapter.persistence.port
+
+import net.causw.adapter.persistence.Board
+import net.causw.adapter.persistence.Comment
+import net.causw.adapter.persistence.CommentChildCount
+import net.causw.adapter.persistence.CommentRepository
+import net.causw.adapter.persistence.PageableFactory
+import net.causw.adapter.persistence.Post
+import net.causw.adapter.persistence.PostCommentCount
+import net.causw.adapter.persistence.User
+import net.causw.domain.model.CommentDomainModel
+import net.causw.domain.model.Role
+import net.causw.domain.model.UserState
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class CommentPortImplTest extends Specification {
+    private CommentRepository commentRepository = Mock(CommentRepository.class)
+    private CommentPortImpl commentPort = new CommentPortImpl(
+            this.commentRepository,
+            new PageableFactory()
+    )
+
+    def mockPost
+    def mockWriter
+    def mockRootComment1
+    def mockRootComment2
+    def mockChildComment1
+    def mockChildComment2
+    def mockChildComment3
+
+    def setup() {
+        this.mockWriter = User.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.mockPost = Post.of(
+                "test post id",
+                "test post title",
+                "test post content",
+                (User) this.mockWriter,
+                false,
+                Board.of(
+                        "test board id",
+                        "test board name",
+                        "test board description",
+                        "PRESIDENT",
+                        "category",
+                        false,
+                        null
+                )
+        )
+
+        this.mockRootComment1 = this.createComment("test root comment 1 id", null)
+        this.mockRootComment2 = this.createComment("test root comment 2 id", null)
+        this.mockChildComment1 = this.createComment("test child comment 1 id", (Comment) this.mockRootComment1)
+        this.mockChildComment2 = this.createComment("test child comment 2 id", (Comment) this.mockRootComment1)
+        this.mockChildComment3 = this.createComment("test child comment 3 id", (Comment) this.mockRootComment2)
+    }
+
+    /**
+     * Test cases for comment tree
+     */
+    @Test "Comment tree normal case"() {
+        when:
+        def commentPage = this.commentPort.findByPostId("test post id", 0)
+
+        then:
+        1 * this.commentRepository.findRootByPostId("test post id", PageRequest.of(0, 10)) >> new SliceImpl<>(
+                [(Comment) this.mockRootComment1, (Comment) this.mockRootComment2]
+        )
+        1 * this.commentRepository.findByParentCommentIds(["test root comment 1 id", "test root comment 2 id"]) >> [
+                (Comment) this.mockChildComment1,
+                (Comment) this.mockChildComment2,
+                (Comment) this.mockChildComment3
+        ]
+        1 * this.commentRepository.countByPost_IdAndParentCommentIsNull("test post id") >> 2L
+        commentPage.getTotalElements() == 2L
+        with(commentPage.getContent()[0]) {
+            getId() == "test root comment 1 id"
+            getChildCommentList()*.getId() == ["test child comment 1 id", "test child comment 2 id"]
+            getNumChildComment() == 2L
+        }
+        with(commentPage.getContent()[1]) {
+            getId() == "test root comment 2 id"
+            getChildCommentList()*.getId() == ["test child comment 3 id"]
+            getNumChildComment() == 1L
+        }
+    }
+
+    @Test "Comment tree without root comment case"() {
+        when:
+        def commentPage = this.commentPort.findByPostId("test post id", 0)
+
+        then:
+        this.commentRepository.countByPost_IdAndParentCommentIsNull("test post id") >> 2L
+        1 * this.commentRepository.findRootByPostId("test post id", _) >> new SliceImpl<>([])
+        0 * this.commentRepository.findByParentCommentIds(_)
+        commentPage.getContent().isEmpty()
+    }
+
+    @Test "Comment tree with child limit case"() {
+        when:
+        def commentPage = this.commentPort.findByPostId("test post id", 0, 1)
+
+        then:
+        this.commentRepository.countByPost_IdAndParentCommentIsNull("test post id") >> 2L
+        1 * this.commentRepository.findRootByPostId("test post id", _) >> new SliceImpl<>(
+                [(Comment) this.mockRootComment1, (Comment) this.mockRootComment2]
+        )
+        1 * this.commentRepository.countByParentCommentIds(["test root comment 1 id", "test root comment 2 id"]) >> [
+                this.childCount("test root comment 1 id", 2L),
+                this.childCount("test root comment 2 id", 1L)
+        ]
+        1 * this.commentRepository.findTopNIdsByParentCommentIds({ it as Set == ["test root comment 1 id", "test root comment 2 id"] as Set }, 1) >> [
+                "test child comment 1 id",
+                "test child comment 3 id"
+        ]
+        1 * this.commentRepository.findByIds(["test child comment 1 id", "test child comment 3 id"]) >> [
+                (Comment) this.mockChildComment1,
+                (Comment) this.mockChildComment3
+        ]
+        0 * this.commentRepository.findByParentCommentIds(_)
+        with(commentPage.getContent()[0]) {
+            getChildCommentList()*.getId() == ["test child comment 1 id"]
+            getNumChildComment() == 2L
+        }
+        with(commentPage.getContent()[1]) {
+            getChildCommentList()*.getId() == ["test child comment 3 id"]
+            getNumChildComment() == 1L
+        }
+    }
+
+    @Test "Comment tree with zero child limit case"() {
+        when:
+        def commentPage = this.commentPort.findByPostId("test post id", 0, 0)
+
+        then:
+        this.commentRepository.countByPost_IdAndParentCommentIsNull("test post id") >> 2L
+        1 * this.commentRepository.findRootByPostId("test post id", _) >> new SliceImpl<>(
+                [(Comment) this.mockRootComment1, (Comment) this.mockRootComment2]
+        )
+        1 * this.commentRepository.countByParentCommentIds(_) >> [
+                this.childCount("test root comment 1 id", 2L)
+        ]
+        0 * this.commentRepository.findTopNIdsByParentCommentIds(_, _)
+        0 * this.commentRepository.findByIds(_)
+        with(commentPage.getContent()[0]) {
+            getChildCommentList().isEmpty()
+            getNumChildComment() == 2L
+        }
+        with(commentPage.getContent()[1]) {
+            getChildCommentList().isEmpty()
+            getNumChildComment() == 0L
+        }
+    }
+
+    /**
+     * Test cases for single comment
+     */
+    @Test "Comment find by id with child case"() {
+        given:
+        ((Comment) this.mockRootComment1).setChildCommentList([(Comment) this.mockChildComment1, (Comment) this.mockChildComment2])
+        this.commentRepository.findById("test root comment 1 id") >> Optional.of((Comment) this.mockRootComment1)
+
+        when:
+        def comment = this.commentPort.findById("test root comment 1 id")
+
+        then:
+        comment.isPresent()
+        comment.get().getChildCommentList()*.getId() == ["test child comment 1 id", "test child comment 2 id"]
+        comment.get().getNumChildComment() == 2L
+    }
+
+    @Test "Comment update with child case"() {
+        given:
+        ((Comment) this.mockRootComment1).setChildCommentList([(Comment) this.mockChildComment1])
+        this.commentRepository.findById("test root comment 1 id") >> Optional.of((Comment) this.mockRootComment1)
+        this.commentRepository.save((Comment) this.mockRootComment1) >> (Comment) this.mockRootComment1
+
+        when:
+        def updatedComment = this.commentPort.update(
+                "test root comment 1 id",
+                CommentDomainModel.of(
+                        "test updated content",
+                        null,
+                        "test post id",
+                        null
+                )
+        )
+
+        then:
+        updatedComment.get().getContent() == "test updated content"
+        updatedComment.get().getChildCommentList()*.getId() == ["test child comment 1 id"]
+    }
+
+    @Test "Comment delete with child case"() {
+        given:
+        ((Comment) this.mockRootComment1).setChildCommentList([(Comment) this.mockChildComment1])
+        this.commentRepository.findById("test root comment 1 id") >> Optional.of((Comment) this.mockRootComment1)
+        this.commentRepository.save((Comment) this.mockRootComment1) >> (Comment) this.mockRootComment1
+
+        when:
+        def deletedComment = this.commentPort.delete("test root comment 1 id")
+
+        then:
+        deletedComment.get().getIsDeleted()
+        deletedComment.get().getChildCommentList()*.getId() == ["test child comment 1 id"]
+    }
+
+    /**
+     * Test cases for comment count
+     */
+    @Test "Comment count by post ids case"() {
+        when:
+        def numCommentMap = this.commentPort.countByPostIds(["test post id 1", "test post id 2"])
+
+        then: "A post without a comment is not in the grouped result"
+        1 * this.commentRepository.countByPostIds(["test post id 1", "test post id 2"]) >> [
+                [
+                        getPostId    : { "test post id 1" },
+                        getNumComment: { 3L }
+                ] as PostCommentCount
+        ]
+        numCommentMap == ["test post id 1": 3L, "test post id 2": 0L]
+    }
+
+    @Test "Comment count by empty post ids case"() {
+        when:
+        def numCommentMap = this.commentPort.countByPostIds([])
+
+        then:
+        0 * this.commentRepository.countByPostIds(_)
+        numCommentMap.isEmpty()
+    }
+
+    private Comment createComment(String id, Comment parentComment) {
+        return Comment.of(
+                id,
+                "test comment content",
+                false,
+                (User) this.mockWriter,
+                (Post) this.mockPost,
+                parentComment
+        )
+    }
+
+    private CommentChildCount childCount(String parentCommentId, Long numChildComment) {
+        return [
+                getParentCommentId: { parentCommentId },
+                getNumChildComment: { numChildComment }
+        ] as CommentChildCount
+    }
+}
@@ -0,0 +1,98 @@
+package net.causw.adapter.persistence.port
+
+import net.causw.adapter.persistence.LockerLogRepository
+import net.causw.domain.model.LockerAllocationDomainModel
+import net.causw.domain.model.LockerApplicationDomainModel
+import net.causw.domain.model.LockerDomainModel
+import net.causw.domain.model.LockerLocationDomainModel
+import net.causw.domain.model.LockerLogAction
+import net.causw.domain.model.LockerPreference
+import net.causw.domain.model.Role
+import net.causw.domain.model.UserDomainModel
+import net.causw.domain.model.UserState
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class LockerLogPortImplTest extends Specification {
+    private LockerLogRepository lockerLogRepository = Mock(LockerLogRepository.class)
+    private JdbcTemplate jdbcTemplate = Mock(JdbcTemplate.class)
+    private LockerLogPortImpl lockerLogPort = new LockerLogPortImpl(
+            this.lockerLogRepository,
+            this.jdbcTemplate
+    )
+
+    /**
+     * Test cases for locker log bulk create
+     */
+    @Test "Locker log create all case"() {
+        given:
+        def lockerAllocationDomainModelList = (1..3).collect { this.lockerAllocation(it) }
+
+        when:
+        this.lockerLogPort.createAll(lockerAllocationDomainModelList, LockerLogAction.REGISTER, "test message")
+
+        then: "All the logs are written by a single statement"
+        1 * this.jdbcTemplate.update({ String sql -> sql.startsWith("INSERT INTO TB_LOCKER_LOG") && sql.count("(?, ?, ?, ?, ?, ?, NOW(), NOW())") == 3 }, *_) >> { String sql, Object[] args ->
+            assert args.length == 18
+            assert args.collate(6).collect { it[1] } == [1L, 2L, 3L]
+            assert args.collate(6).every { it[2] == "test@cau.ac.kr" && it[4] == "REGISTER" && it[5] == "test message" }
+            assert args.collate(6).collect { it[0] }.toSet().size() == 3
+            return 3
+        }
+        0 * this.lockerLogRepository.saveAll(_)
+    }
+
+    @Test "Locker log create all empty case"() {
+        when:
+        this.lockerLogPort.createAll([], LockerLogAction.REGISTER, "test message")
+
+        then:
+        0 * this.jdbcTemplate.update(*_)
+    }
+
+    private LockerAllocationDomainModel lockerAllocation(Long lockerNumber) {
+        def locationDomainModel = LockerLocationDomainModel.of(
+                "test location id",
+                "test location name",
+                "test location description"
+        )
+
+        return LockerAllocationDomainModel.of(
+                LockerDomainModel.of(
+                        "test locker id " + lockerNumber,
+                        lockerNumber,
+                        true,
+                        LocalDateTime.now(),
+                        null,
+                        locationDomainModel
+                ),
+                LockerApplicationDomainModel.of(
+                        "test locker application id " + lockerNumber,
+                        UserDomainModel.of(
+                                "test user id " + lockerNumber,
+                                "test@cau.ac.kr",
+                                "test user name",
+                                "test1234!",
+                                "20210000",
+                                2021,
+                                Role.COMMON,
+                                null,
+                                UserState.ACTIVE
+                        ),
+                        List.of(LockerPreference.ofLockerNumber(lockerNumber)),
+                        LocalDateTime.now()
+                )
+        )
+    }
+}
@@ -0,0 +1,110 @@
+package net.causw.adapter.persistence.port
+
+import net.causw.adapter.persistence.Locker
+import net.causw.adapter.persistence.LockerCountSnapshot
+import net.causw.adapter.persistence.LockerOccupancySnapshot
+import net.causw.adapter.persistence.LockerRepository
+import net.causw.domain.model.LockerDomainModel
+import net.causw.domain.model.LockerLocationDomainModel
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class LockerPortImplTest extends Specification {
+    private ReentrantLock userRowLock = new ReentrantLock()
+    private Map<String, String> lockerIdByUserId = new ConcurrentHashMap<>()
+
+    /**
+     * Test cases for concurrent claims
+     */
+    @Test "Locker claims of the same user at once case"() {
+        given: "Two claims of the user on different lockers start together"
+        def lockerPort = new LockerPortImpl(
+                this.lockerRepository(),
+                Stub(LockerCountSnapshot.class),
+                Stub(LockerOccupancySnapshot.class),
+                null
+        )
+        def executor = Executors.newFixedThreadPool(2)
+        def startLatch = new CountDownLatch(1)
+
+        when:
+        def futureList = ["test locker id 1", "test locker id 2"].collect { lockerId ->
+            executor.submit({
+                startLatch.await()
+                try {
+                    return lockerPort.claim(lockerId, "test user id")
+                } finally {
+                    this.commit()
+                }
+            } as Callable)
+        }
+        startLatch.countDown()
+        def claimedList = futureList.collect { it.get(5, TimeUnit.SECONDS) }
+
+        then: "Only one of them gets a locker"
+        claimedList.count { it.isPresent() } == 1
+        this.lockerIdByUserId.size() == 1
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    /**
+     * Repository with the row semantics of the database: the user row stays locked until the claiming transaction
+     * commits, and a claim only sees the lockers taken before it started, so it is open to the race without the lock
+     */
+    private LockerRepository lockerRepository() {
+        return [
+                lockUsers: { List<String> userIds ->
+                    this.userRowLock.lock()
+                    return userIds
+                },
+                claim    : { String id, String userId ->
+                    boolean holdsLocker = this.lockerIdByUserId.containsKey(userId)
+                    Thread.sleep(50)
+                    if (holdsLocker) {
+                        return 0
+                    }
+
+                    this.lockerIdByUserId.put(userId, id)
+                    return 1
+                },
+                findById : { String id ->
+                    return Optional.of(Locker.from(LockerDomainModel.of(
+                            id,
+                            1L,
+                            true,
+                            LocalDateTime.now(),
+                            null,
+                            LockerLocationDomainModel.of(
+                                    "test location id",
+                                    "test location name",
+                                    "test location description"
+                            )
+                    )))
+                }
+        ] as LockerRepository
+    }
+
+    private void commit() {
+        if (this.userRowLock.isHeldByCurrentThread()) {
+            this.userRowLock.unlock()
+        }
+    }
+}
@@ -31,7 +31,6 @@ class BoardServiceTest extends Specification {
     private PostPort postPort = Mock(PostPort.class)
     private CirclePort circlePort = Mock(CirclePort.class)
     private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
-    private CommentPort commentPort = Mock(CommentPort.class)
     private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
     private BoardService boardService = new BoardService(
             this.boardPort,
@@ -39,7 +38,6 @@ class BoardServiceTest extends Specification {
             this.postPort,
             this.circlePort,
             this.circleMemberPort,
-            this.commentPort,
             this.validator
     )
 
@@ -57,6 +55,59 @@ class BoardServiceTest extends Specification {
         )
     }
 
+    /**
+     * Test cases for board find version
+     */
+    @Test
+    def "Board find version normal case"() {
+        given:
+        def userDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById("test user id") >> Optional.of(userDomainModel)
+        this.boardPort.findVersion() >> "test version"
+
+        when:
+        def version = this.boardService.findVersion("test user id")
+
+        then:
+        version == "test version,common,active"
+    }
+
+    @Test
+    def "Board find version dropped user case"() {
+        given:
+        def userDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.DROP
+        )
+
+        this.userPort.findById("test user id") >> Optional.of(userDomainModel)
+
+        when:
+        this.boardService.findVersion("test user id")
+
+        then:
+        thrown(UnauthorizedException)
+        0 * this.boardPort.findVersion()
+    }
+
     /**
      * Test cases for board of circle find all
      */
@@ -109,7 +160,6 @@ class BoardServiceTest extends Specification {
         this.userPort.findById("test") >> Optional.of(leader)
         this.circlePort.findById("test") >> Optional.of(circle)
         this.postPort.findLatest("test") >> Optional.of(mockPostDomainModel)
-        this.commentPort.countByPostId("test post id") >> 0
         this.circleMemberPort.findByUserIdAndCircleId("test", "test") >> Optional.of(circleMember)
         this.boardPort.findByCircleId("test") >> List.of(this.mockBoardDomainModel)
 
@@ -79,6 +79,36 @@ class CircleServiceTest extends Specification {
         )
     }
 
+    /**
+     * Test cases for circle find version
+     */
+    @Test
+    def "Circle find version normal case"() {
+        given:
+        this.circlePort.findById("test") >> Optional.of(this.mockCircleDomainModel)
+        this.circlePort.findVersion("test") >> Optional.of("test version")
+
+        when:
+        def version = this.circleService.findVersionById("test")
+
+        then:
+        version == "test version"
+    }
+
+    @Test
+    def "Circle find version already deleted"() {
+        given:
+        ((CircleDomainModel) this.mockCircleDomainModel).setIsDeleted(true)
+        this.circlePort.findById("test") >> Optional.of(this.mockCircleDomainModel)
+
+        when:
+        this.circleService.findVersionById("test")
+
+        then:
+        thrown(BadRequestException)
+        0 * this.circlePort.findVersion(_)
+    }
+
     /**
      * Test cases for circle create
      */
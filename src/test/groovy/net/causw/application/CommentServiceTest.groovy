@@ -18,11 +18,14 @@ import org.powermock.modules.junit4.PowerMockRunnerDelegate
 import org.spockframework.runtime.Sputnik
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.springframework.test.context.ActiveProfiles
 import spock.lang.Specification
 
 import javax.validation.Validation
 import javax.validation.Validator
+import java.time.LocalDateTime
 
 @ActiveProfiles(value = "test")
 @RunWith(PowerMockRunner.class)
@@ -230,6 +233,7 @@ class CommentServiceTest extends Specification {
         def commentCreate = this.commentService.create("test comment writer user id", mockCommentCreateRequestDto)
 
         then:
+        1 * this.postPort.increaseCommentCount(((PostDomainModel) this.mockPostDomainModel).getId())
         commentCreate instanceof CommentResponseDto
         with(commentCreate) {
             getContent() == "test comment content"
@@ -362,6 +366,152 @@ class CommentServiceTest extends Specification {
         commentList.getContent().get(2).getParentCommentId() == "test parent comment id"
     }
 
+    def "Comment find all with child limit case"() {
+        given:
+        def mockChildCommentDomainModel = CommentDomainModel.of(
+                "test child comment id",
+                "test child comment content",
+                false,
+                LocalDateTime.of(2021, 3, 1, 12, 0),
+                LocalDateTime.of(2021, 3, 1, 12, 0),
+                (UserDomainModel) this.mockCommentWriterUserDomainModel2,
+                ((PostDomainModel) this.mockPostDomainModel).getId()
+        )
+        def mockRootCommentDomainModel = CommentDomainModel.of(
+                "test root comment id",
+                "test root comment content",
+                false,
+                null,
+                null,
+                (UserDomainModel) this.mockCommentWriterUserDomainModel,
+                ((PostDomainModel) this.mockPostDomainModel).getId(),
+                List.of(mockChildCommentDomainModel),
+                3L
+        )
+
+        this.userPort.findById(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId()) >> Optional.of((UserDomainModel) this.mockCommentWriterUserDomainModel)
+        this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of((PostDomainModel) this.mockPostDomainModel)
+
+        when:
+        def commentList = this.commentService.findAll(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId(), ((PostDomainModel) this.mockPostDomainModel).getId(), 0, 1)
+
+        then:
+        1 * this.commentPort.findByPostId(((PostDomainModel) this.mockPostDomainModel).getId(), 0, 1) >> new PageImpl<CommentDomainModel>(List.of(mockRootCommentDomainModel))
+        0 * this.commentPort.findByPostId(_, _)
+        with(commentList.getContent().get(0)) {
+            getChildCommentList().size() == 1
+            getNumChildComment() == 3L
+            getNextChildCursor() == Cursor.of(LocalDateTime.of(2021, 3, 1, 12, 0), "test child comment id").encode()
+        }
+    }
+
+    def "Comment find all with every child comment case"() {
+        given:
+        def mockRootCommentDomainModel = CommentDomainModel.of(
+                "test root comment id",
+                "test root comment content",
+                false,
+                null,
+                null,
+                (UserDomainModel) this.mockCommentWriterUserDomainModel,
+                ((PostDomainModel) this.mockPostDomainModel).getId(),
+                List.of((CommentDomainModel) this.mockCommentDomainModel2),
+                1L
+        )
+
+        this.userPort.findById(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId()) >> Optional.of((UserDomainModel) this.mockCommentWriterUserDomainModel)
+        this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of((PostDomainModel) this.mockPostDomainModel)
+        this.commentPort.findByPostId(((PostDomainModel) this.mockPostDomainModel).getId(), 0, 1) >> new PageImpl<CommentDomainModel>(List.of(mockRootCommentDomainModel))
+
+        when:
+        def commentList = this.commentService.findAll(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId(), ((PostDomainModel) this.mockPostDomainModel).getId(), 0, 1)
+
+        then:
+        with(commentList.getContent().get(0)) {
+            getChildCommentList().size() == 1
+            getNumChildComment() == 1L
+            getNextChildCursor() == null
+        }
+    }
+
+    def "Comment find all invalid child limit case"() {
+        when:
+        this.commentService.findAll(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId(), ((PostDomainModel) this.mockPostDomainModel).getId(), 0, childLimit)
+
+        then:
+        thrown(BadRequestException)
+        0 * this.commentPort.findByPostId(_, _, _)
+
+        where:
+        childLimit << [-1, 21]
+    }
+
+    def "Comment find all child normal case"() {
+        given:
+        def cursor = Cursor.of(LocalDateTime.of(2021, 3, 1, 12, 0), "test comment 2 id")
+        def mockLastChildCommentDomainModel = CommentDomainModel.of(
+                "test comment 3 id",
+                "test comment 3 content",
+                false,
+                LocalDateTime.of(2021, 3, 1, 12, 5),
+                LocalDateTime.of(2021, 3, 1, 12, 5),
+                (UserDomainModel) this.mockCommentWriterUserDomainModel3,
+                ((PostDomainModel) this.mockPostDomainModel).getId()
+        )
+
+        this.userPort.findById(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId()) >> Optional.of((UserDomainModel) this.mockCommentWriterUserDomainModel)
+        this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of((PostDomainModel) this.mockPostDomainModel)
+        this.commentPort.findById(((CommentDomainModel) this.mockParentCommentDomainModel).getId()) >> Optional.of((CommentDomainModel) this.mockParentCommentDomainModel)
+
+        when:
+        def childCommentList = this.commentService.findAllChild(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId(), ((CommentDomainModel) this.mockParentCommentDomainModel).getId(), cursor.encode())
+
+        then:
+        1 * this.commentPort.findChildByParentCommentId(((CommentDomainModel) this.mockParentCommentDomainModel).getId(), { it.getCreatedAt() == cursor.getCreatedAt() && it.getId() == cursor.getId() }) >> new SliceImpl<CommentDomainModel>(
+                List.of(mockLastChildCommentDomainModel),
+                PageRequest.of(0, 10),
+                true
+        )
+        childCommentList.getParentCommentId() == "test parent comment id"
+        childCommentList.getChildCommentList().size() == 1
+        childCommentList.getHasNext()
+        Cursor.decode(childCommentList.getNextCursor()).get().getId() == "test comment 3 id"
+        Cursor.decode(childCommentList.getNextCursor()).get().getCreatedAt() == LocalDateTime.of(2021, 3, 1, 12, 5)
+    }
+
+    def "Comment find all child last page case"() {
+        given:
+        this.userPort.findById(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId()) >> Optional.of((UserDomainModel) this.mockCommentWriterUserDomainModel)
+        this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of((PostDomainModel) this.mockPostDomainModel)
+        this.commentPort.findById(((CommentDomainModel) this.mockParentCommentDomainModel).getId()) >> Optional.of((CommentDomainModel) this.mockParentCommentDomainModel)
+
+        when:
+        def childCommentList = this.commentService.findAllChild(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId(), ((CommentDomainModel) this.mockParentCommentDomainModel).getId(), null)
+
+        then:
+        1 * this.commentPort.findChildByParentCommentId(((CommentDomainModel) this.mockParentCommentDomainModel).getId(), null) >> new SliceImpl<CommentDomainModel>(
+                List.of((CommentDomainModel) this.mockCommentDomainModel2),
+                PageRequest.of(0, 10),
+                false
+        )
+        !childCommentList.getHasNext()
+        childCommentList.getNextCursor() == null
+    }
+
+    def "Comment find all child invalid cursor case"() {
+        given:
+        this.userPort.findById(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId()) >> Optional.of((UserDomainModel) this.mockCommentWriterUserDomainModel)
+        this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of((PostDomainModel) this.mockPostDomainModel)
+        this.commentPort.findById(((CommentDomainModel) this.mockParentCommentDomainModel).getId()) >> Optional.of((CommentDomainModel) this.mockParentCommentDomainModel)
+
+        when:
+        this.commentService.findAllChild(((UserDomainModel) this.mockCommentWriterUserDomainModel).getId(), ((CommentDomainModel) this.mockParentCommentDomainModel).getId(), "not a cursor")
+
+        then:
+        thrown(BadRequestException)
+        0 * this.commentPort.findChildByParentCommentId(_, _)
+    }
+
     /**
      * Test case for comment update
      */
@@ -749,6 +899,7 @@ class CommentServiceTest extends Specification {
         )
 
         then:
+        1 * this.postPort.decreaseCommentCount(((PostDomainModel) this.mockPostDomainModel).getId())
         commentDeleteResponse instanceof CommentResponseDto
         with(commentDeleteResponse) {
             commentDeleteResponse.getIsDeleted()
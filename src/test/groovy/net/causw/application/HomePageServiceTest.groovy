@@ -0,0 +1,202 @@
+package net.causw.application
+
+import net.causw.application.dto.HomePageResponseDto
+import net.causw.application.spi.FavoriteBoardPort
+import net.causw.application.spi.PostPort
+import net.causw.application.spi.UserPort
+import net.causw.domain.exceptions.UnauthorizedException
+import net.causw.domain.model.*
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.PageRequest
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class HomePageServiceTest extends Specification {
+    private FavoriteBoardPort favoriteBoardPort = Mock(FavoriteBoardPort.class)
+    private UserPort userPort = Mock(UserPort.class)
+    private PostPort postPort = Mock(PostPort.class)
+    private HomePageCache homePageCache = new HomePageCache()
+    private HomePageService homePageService = new HomePageService(
+            this.favoriteBoardPort,
+            this.userPort,
+            this.postPort,
+            this.homePageCache
+    )
+
+    def mockUserDomainModel
+    def mockUserPrincipal
+    def mockFavoriteBoardDomainModelList
+
+    def setup() {
+        this.mockUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+        this.mockUserPrincipal = UserPrincipal.of(
+                "test user id",
+                Role.COMMON,
+                UserState.ACTIVE,
+                LocalDateTime.now()
+        )
+        this.userPort.findById("test user id") >> Optional.of((UserDomainModel) this.mockUserDomainModel)
+        this.mockFavoriteBoardDomainModelList = ["test board id 1", "test board id 2"].collect {
+            FavoriteBoardDomainModel.of(
+                    "favorite " + it,
+                    (UserDomainModel) this.mockUserDomainModel,
+                    BoardDomainModel.of(
+                            it,
+                            "test board name",
+                            "test board description",
+                            Arrays.asList("PRESIDENT"),
+                            "category",
+                            false,
+                            null
+                    )
+            )
+        }
+    }
+
+    /**
+     * Test cases for home page
+     */
+    @Test "Home page normal case"() {
+        given:
+        def mockPostSummaryDomainModel = PostSummaryDomainModel.of(
+                "test post id",
+                "test post title",
+                "test user name",
+                2021,
+                "test board id 1",
+                0L,
+                0L,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        )
+
+        this.favoriteBoardPort.findByUserId("test user id") >> this.mockFavoriteBoardDomainModelList
+
+        when:
+        def homePage = this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        then:
+        1 * this.postPort.findTopNByBoardIds(["test board id 1", "test board id 2"], 3) >> Map.of(
+                "test board id 1", new PageImpl<>([mockPostSummaryDomainModel], PageRequest.of(0, 3), 7L),
+                "test board id 2", new PageImpl<>([], PageRequest.of(0, 3), 0L)
+        )
+        0 * this.postPort.findAll(_, _, _)
+        homePage.size() == 2
+        homePage[0] instanceof HomePageResponseDto
+        with(homePage[0]) {
+            getBoard().getId() == "test board id 1"
+            getPosts().getContent().size() == 1
+            getPosts().getContent()[0].getId() == "test post id"
+            getPosts().getTotalElements() == 7L
+        }
+        with(homePage[1]) {
+            getBoard().getId() == "test board id 2"
+            getPosts().getContent().isEmpty()
+            getPosts().getTotalElements() == 0L
+        }
+    }
+
+    @Test "Home page cached case"() {
+        given:
+        this.favoriteBoardPort.findByUserId("test user id") >> this.mockFavoriteBoardDomainModelList
+        this.postPort.findTopNByBoardIds(_, 3) >> Map.of(
+                "test board id 1", new PageImpl<>([], PageRequest.of(0, 3), 0L),
+                "test board id 2", new PageImpl<>([], PageRequest.of(0, 3), 0L)
+        )
+        def firstHomePage = this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        when:
+        def homePage = this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        then:
+        0 * this.favoriteBoardPort.findByUserId(_)
+        0 * this.postPort.findTopNByBoardIds(_, _)
+        homePage.is(firstHomePage)
+    }
+
+    @Test "Home page evicted by board case"() {
+        given:
+        this.favoriteBoardPort.findByUserId("test user id") >> this.mockFavoriteBoardDomainModelList
+        this.postPort.findTopNByBoardIds(_, 3) >> Map.of(
+                "test board id 1", new PageImpl<>([], PageRequest.of(0, 3), 0L),
+                "test board id 2", new PageImpl<>([], PageRequest.of(0, 3), 0L)
+        )
+        this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        when:
+        this.homePageCache.evictByBoardId("test board id 2")
+        this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        then:
+        1 * this.postPort.findTopNByBoardIds(_, 3) >> Map.of(
+                "test board id 1", new PageImpl<>([], PageRequest.of(0, 3), 0L),
+                "test board id 2", new PageImpl<>([], PageRequest.of(0, 3), 0L)
+        )
+    }
+
+    @Test "Home page built across an eviction case"() {
+        given:
+        this.favoriteBoardPort.findByUserId("test user id") >> {
+            this.homePageCache.evictByBoardId("test board id 1")
+            return this.mockFavoriteBoardDomainModelList
+        }
+        this.postPort.findTopNByBoardIds(_, 3) >> Map.of(
+                "test board id 1", new PageImpl<>([], PageRequest.of(0, 3), 0L),
+                "test board id 2", new PageImpl<>([], PageRequest.of(0, 3), 0L)
+        )
+
+        when:
+        this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        then:
+        this.homePageCache.get("test user id", Role.COMMON).isEmpty()
+    }
+
+    @Test "Home page dropped user case"() {
+        given: "The token was issued before the user was dropped"
+        ((UserDomainModel) this.mockUserDomainModel).setState(UserState.DROP)
+
+        when:
+        this.homePageService.getHomePage((UserPrincipal) this.mockUserPrincipal)
+
+        then:
+        thrown(UnauthorizedException)
+        0 * this.postPort.findTopNByBoardIds(_, _)
+    }
+
+    @Test "Home page demoted user case"() {
+        given: "The token was issued while the user was an admin"
+        def adminUserPrincipal = UserPrincipal.of(
+                "test user id",
+                Role.ADMIN,
+                UserState.ACTIVE,
+                LocalDateTime.now()
+        )
+
+        when:
+        this.homePageService.getCacheStats(adminUserPrincipal)
+
+        then:
+        thrown(UnauthorizedException)
+    }
+}
@@ -0,0 +1,146 @@
+package net.causw.application
+
+import net.causw.domain.exceptions.ServiceUnavailableException
+import net.causw.domain.model.LockerDomainModel
+import net.causw.domain.model.LockerEventDomainModel
+import net.causw.domain.model.LockerEventType
+import net.causw.domain.model.LockerLocationDomainModel
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class LockerEventBroadcasterTest extends Specification {
+    // A single sender thread with a buffer of two events per subscriber
+    private LockerEventBroadcaster lockerEventBroadcaster = new LockerEventBroadcaster(2, 3, 60000L, 1)
+    private CountDownLatch blockingLatch = new CountDownLatch(1)
+
+    def mockLockerDomainModel
+
+    def setup() {
+        this.mockLockerDomainModel = LockerDomainModel.of(
+                "test locker id",
+                1,
+                true,
+                LocalDateTime.now(),
+                null,
+                LockerLocationDomainModel.of(
+                        "test location id",
+                        "test location name",
+                        "test location description"
+                )
+        )
+    }
+
+    def cleanup() {
+        this.blockingLatch.countDown()
+        this.lockerEventBroadcaster.shutdown()
+    }
+
+    /**
+     * Test cases for event fan-out
+     */
+    @Test "Locker event fan-out case"() {
+        given: "The sender thread is occupied, so the events stay in the buffers"
+        this.lockerEventBroadcaster.@executor.execute({ this.blockingLatch.await() })
+        this.lockerEventBroadcaster.subscribe("test location id")
+        this.lockerEventBroadcaster.subscribe("test location id")
+        this.lockerEventBroadcaster.subscribe("test other location id")
+
+        when:
+        this.lockerEventBroadcaster.publish(this.lockerEvent("test location id"))
+        this.lockerEventBroadcaster.publish(this.lockerEvent("test other location id"))
+        this.lockerEventBroadcaster.publish(this.lockerEvent("test location id"))
+
+        then: "Every subscriber gets the events of its location only, numbered by the location"
+        this.bufferedIdList("test location id") == [[1L, 2L], [1L, 2L]]
+        this.bufferedIdList("test other location id") == [[1L]]
+        with(this.lockerEventBroadcaster.getStats()) {
+            getSubscriberCount() == 3
+            getBacklog() == 5
+            getPublishedCount() == 3L
+            getDroppedCount() == 0L
+        }
+    }
+
+    @Test "Locker event without subscriber case"() {
+        when:
+        this.lockerEventBroadcaster.publish(this.lockerEvent("test location id"))
+
+        then:
+        this.lockerEventBroadcaster.getStats().getPublishedCount() == 1L
+        this.lockerEventBroadcaster.getStats().getBacklog() == 0
+    }
+
+    /**
+     * Test cases for slow subscriber
+     */
+    @Test "Locker event drop oldest case"() {
+        given: "The sender thread is occupied, so the events stay in the buffers"
+        this.lockerEventBroadcaster.@executor.execute({ this.blockingLatch.await() })
+        this.lockerEventBroadcaster.subscribe("test location id")
+
+        when:
+        3.times { this.lockerEventBroadcaster.publish(this.lockerEvent("test location id")) }
+
+        then: "The gap left by the dropped event tells the client to fetch the occupancy again"
+        this.bufferedIdList("test location id") == [[2L, 3L]]
+        this.lockerEventBroadcaster.getStats().getDroppedCount() == 1L
+    }
+
+    /**
+     * Test cases for subscription
+     */
+    @Test "Locker event unsubscribe of gone client case"() {
+        given:
+        def emitter = this.lockerEventBroadcaster.subscribe("test location id")
+        this.lockerEventBroadcaster.subscribe("test location id")
+        def conditions = new PollingConditions(timeout: 5)
+
+        when: "Sending to the completed emitter fails"
+        emitter.complete()
+        this.lockerEventBroadcaster.publish(this.lockerEvent("test location id"))
+
+        then:
+        conditions.eventually {
+            assert this.lockerEventBroadcaster.getStats().getSubscriberCount() == 1
+        }
+        this.lockerEventBroadcaster.@subscriberMap.get("test location id").size() == 1
+    }
+
+    @Test "Locker event subscriber limit case"() {
+        given:
+        3.times { this.lockerEventBroadcaster.subscribe("test location id") }
+
+        when:
+        this.lockerEventBroadcaster.subscribe("test location id")
+
+        then:
+        thrown(ServiceUnavailableException)
+        this.lockerEventBroadcaster.getStats().getSubscriberCount() == 3
+    }
+
+    private LockerEventDomainModel lockerEvent(String locationId) {
+        return LockerEventDomainModel.of(
+                LockerEventType.DISABLE,
+                (LockerDomainModel) this.mockLockerDomainModel,
+                locationId
+        )
+    }
+
+    private List<List<Long>> bufferedIdList(String locationId) {
+        return this.lockerEventBroadcaster.@subscriberMap.get(locationId).collect { subscriber ->
+            subscriber.@buffer.collect { message -> message.@id }
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package net.causw.application
 
+import net.causw.application.dto.LockerAllocationResponseDto
 import net.causw.application.dto.LockerCreateRequestDto
+import net.causw.application.dto.LockerEventStatsResponseDto
 import net.causw.application.dto.LockerLocationCreateRequestDto
 import net.causw.application.dto.LockerLocationResponseDto
 import net.causw.application.dto.LockerLocationUpdateRequestDto
 import net.causw.application.dto.LockerMoveRequestDto
+import net.causw.application.dto.LockerOccupancyResponseDto
 import net.causw.application.dto.LockerResponseDto
 import net.causw.application.dto.LockerUpdateRequestDto
+import net.causw.application.spi.LockerApplicationPort
 import net.causw.application.spi.LockerLocationPort
 import net.causw.application.spi.LockerLogPort
 import net.causw.application.spi.LockerPort
@@ -37,15 +41,30 @@ class LockerServiceTest extends Specification {
     private LockerPort lockerPort = Mock(LockerPort.class)
     private LockerLocationPort lockerLocationPort = Mock(LockerLocationPort.class)
     private LockerLogPort lockerLogPort = Mock(LockerLogPort.class)
+    private LockerApplicationPort lockerApplicationPort = Mock(LockerApplicationPort.class)
     private UserPort userPort = Mock(UserPort.class)
     private LockerActionFactory lockerActionFactory = new LockerActionFactory()
+    private LockerEventBroadcaster lockerEventBroadcaster = new LockerEventBroadcaster(64, 1000, 1000L, 1)
+    // Application period already over, with a fixed draw order
+    private LockerAllocator lockerAllocator = new LockerAllocator(
+            this.lockerPort,
+            this.lockerLogPort,
+            this.lockerApplicationPort,
+            this.lockerEventBroadcaster,
+            "2021-03-01T00:00:00",
+            "2021-03-08T00:00:00",
+            new Random(0L)
+    )
     private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
     private LockerService lockerService = new LockerService(
             this.lockerPort,
             this.lockerLocationPort,
             this.lockerLogPort,
+            this.lockerApplicationPort,
             this.userPort,
             this.lockerActionFactory,
+            this.lockerAllocator,
+            this.lockerEventBroadcaster,
             this.validator
     )
 
@@ -267,7 +286,7 @@ class LockerServiceTest extends Specification {
 
         this.lockerPort.update(lockerId, mockEnabledLockerDomainModel) >> Optional.of(mockEnabledLockerDomainModel)
         this.lockerPort.update(lockerId, mockDisabledLockerDomainModel) >> Optional.of(mockDisabledLockerDomainModel)
-        this.lockerPort.update(lockerId, mockRegisteredLockerDomainModel) >> Optional.of(mockRegisteredLockerDomainModel)
+        this.lockerPort.claim(lockerId, ownerUserDomainModel.getId()) >> Optional.of(mockRegisteredLockerDomainModel)
         this.lockerPort.update(lockerId, mockReturnedLockerDomainModel) >> Optional.of(mockReturnedLockerDomainModel)
 
         when: "Locker enable"
@@ -382,6 +401,40 @@ class LockerServiceTest extends Specification {
         }
     }
 
+    @Test "Locker register already taken case"() {
+        given:
+        def lockerId = "test locker id";
+
+        def mockLockerUpdateRequestDto = new LockerUpdateRequestDto(
+                LockerLogAction.REGISTER,
+                ''
+        )
+
+        def updaterUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById(updaterUserDomainModel.getId()) >> Optional.of(updaterUserDomainModel)
+
+        this.lockerPort.findById(((LockerDomainModel) this.mockLockerDomainModel).getId()) >> Optional.of((LockerDomainModel) this.mockLockerDomainModel)
+
+        this.lockerPort.claim(lockerId, updaterUserDomainModel.getId()) >> Optional.empty()
+
+        when: "Another user claimed the locker after it was read, or the user holds another locker"
+        this.lockerService.update("test user id", lockerId, mockLockerUpdateRequestDto)
+
+        then:
+        thrown(BadRequestException)
+    }
+
     @Test "Locker update invalid data case"() {
         given:
         def lockerId = "test locker id";
@@ -816,6 +869,8 @@ class LockerServiceTest extends Specification {
         this.lockerLocationPort.findById(lockerLocationId) >> Optional.of(this.mockLockerLocationDomainModel)
         this.lockerLocationPort.update(lockerLocationId, updatedLockerLocationDomainModel) >> Optional.of(updatedLockerLocationDomainModel)
 
+        this.lockerPort.findCountByLocation() >> Map.of(lockerLocationId, LockerLocationCountDomainModel.of(lockerLocationId, 1L, 2L))
+
         when:
         PowerMockito.mockStatic(LockerLocationDomainModel.class)
         PowerMockito.when(LockerLocationDomainModel.of(
@@ -924,4 +979,344 @@ class LockerServiceTest extends Specification {
         then:
         thrown(UnauthorizedException)
     }
+
+    /**
+     * Test cases for locker occupancy
+     */
+    @Test "Locker find occupancy normal case"() {
+        given:
+        def lockerLocationId = "test locker location id"
+
+        this.lockerPort.findOccupancyByLocation(lockerLocationId) >> LockerOccupancyDomainModel.of(
+                lockerLocationId,
+                [(byte) 0b110] as byte[],
+                [(byte) 0b110] as byte[],
+                [(byte) 0b010] as byte[],
+                "1-1"
+        )
+
+        when:
+        def lockerOccupancyResponseDto = this.lockerService.findOccupancy(lockerLocationId)
+
+        then:
+        lockerOccupancyResponseDto instanceof LockerOccupancyResponseDto
+        with(lockerOccupancyResponseDto) {
+            getExist() == "Bg=="
+            getOccupied() == "Ag=="
+            getVersion() == "1-1"
+        }
+    }
+
+    @Test "Locker location version case"() {
+        given:
+        this.lockerLocationPort.findVersion() >> "2,2021-03-01 00:00:00"
+
+        when:
+        def version = this.lockerService.findAllLocationVersion()
+
+        then: "Counts are versioned by the snapshot, not by the locker table"
+        1 * this.lockerPort.findCountVersion() >> "1614556800000-3"
+        version == "2,2021-03-01 00:00:00,1614556800000-3"
+    }
+
+    /**
+     * Test cases for locker allocation
+     */
+    @Test "Locker allocate normal case"() {
+        given:
+        def presidentUserDomainModel = UserDomainModel.of(
+                "president test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                UserState.ACTIVE
+        )
+
+        def applicantUserDomainModel1 = UserDomainModel.of(
+                "applicant test user id1",
+                "test1@cau.ac.kr",
+                "test user name1",
+                "test1234!",
+                "20210001",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        def applicantUserDomainModel2 = UserDomainModel.of(
+                "applicant test user id2",
+                "test2@cau.ac.kr",
+                "test user name2",
+                "test1234!",
+                "20210002",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        def mockLockerDomainModel2 = LockerDomainModel.of(
+                "test locker id2",
+                2,
+                true,
+                LocalDateTime.now(),
+                null,
+                (LockerLocationDomainModel) this.mockLockerLocationDomainModel
+        )
+
+        // Either applicant may be drawn first, and both get a locker
+        def lockerApplicationDomainModel1 = LockerApplicationDomainModel.of(
+                "test locker application id1",
+                applicantUserDomainModel1,
+                List.of(
+                        LockerPreference.ofLockerNumber(1L),
+                        LockerPreference.ofLocation(((LockerLocationDomainModel) this.mockLockerLocationDomainModel).getId())
+                ),
+                LocalDateTime.now()
+        )
+
+        def lockerApplicationDomainModel2 = LockerApplicationDomainModel.of(
+                "test locker application id2",
+                applicantUserDomainModel2,
+                List.of(LockerPreference.ofLocation(((LockerLocationDomainModel) this.mockLockerLocationDomainModel).getId())),
+                LocalDateTime.now()
+        )
+
+        this.userPort.findById(presidentUserDomainModel.getId()) >> Optional.of(presidentUserDomainModel)
+        this.lockerApplicationPort.findAll() >> List.of(lockerApplicationDomainModel1, lockerApplicationDomainModel2)
+        this.lockerPort.findAll() >> List.of((LockerDomainModel) this.mockLockerDomainModel, mockLockerDomainModel2)
+        this.lockerPort.claimAll(_) >> { List<List<LockerAllocationDomainModel>> args -> args[0].collect { it.getLocker().getId() } }
+
+        when:
+        def lockerAllocationResponseDto = this.lockerService.allocate("president test user id")
+
+        then:
+        lockerAllocationResponseDto instanceof LockerAllocationResponseDto
+        with(lockerAllocationResponseDto) {
+            getApplicationCount() == 2
+            getAllocatedCount() == 2
+        }
+        this.lockerEventBroadcaster.getStats().getPublishedCount() == 2L
+    }
+
+    @Test "Locker allocate unauthorized case"() {
+        given:
+        def commonUserDomainModel = UserDomainModel.of(
+                "common test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById(commonUserDomainModel.getId()) >> Optional.of(commonUserDomainModel)
+
+        when:
+        this.lockerService.allocate("common test user id")
+
+        then:
+        thrown(UnauthorizedException)
+    }
+
+    @Test "Locker allocate application period not configured case"() {
+        given:
+        def presidentUserDomainModel = UserDomainModel.of(
+                "president test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                UserState.ACTIVE
+        )
+        def lockerService = this.lockerServiceWith(new LockerAllocator(
+                this.lockerPort,
+                this.lockerLogPort,
+                this.lockerApplicationPort,
+                this.lockerEventBroadcaster,
+                "2021-03-01T00:00:00",
+                "",
+                new Random(0L)
+        ))
+
+        this.userPort.findById(presidentUserDomainModel.getId()) >> Optional.of(presidentUserDomainModel)
+
+        when:
+        lockerService.allocate("president test user id")
+
+        then:
+        thrown(BadRequestException)
+        0 * this.lockerApplicationPort.findAll()
+    }
+
+    @Test "Locker application period case"() {
+        given:
+        def lockerAllocator = new LockerAllocator(
+                this.lockerPort,
+                this.lockerLogPort,
+                this.lockerApplicationPort,
+                this.lockerEventBroadcaster,
+                openAt,
+                closeAt,
+                new Random(0L)
+        )
+        def now = LocalDateTime.of(2021, 3, 5, 12, 0)
+
+        expect:
+        lockerAllocator.isApplicationOpen(now) == isOpen
+        lockerAllocator.isApplicationClosed(now) == isClosed
+
+        where:
+        openAt                | closeAt               || isOpen | isClosed
+        "2021-03-01T00:00:00" | "2021-03-08T00:00:00" || true   | false
+        "2021-02-01T00:00:00" | "2021-03-01T00:00:00" || false  | true
+        "2021-03-08T00:00:00" | "2021-03-15T00:00:00" || false  | false
+        "2021-03-01T00:00:00" | ""                    || false  | false
+        ""                    | "2021-03-01T00:00:00" || false  | false
+        ""                    | ""                    || false  | false
+    }
+
+    @Test "Locker direct register allowed case"() {
+        given:
+        def lockerAllocator = new LockerAllocator(
+                this.lockerPort,
+                this.lockerLogPort,
+                this.lockerApplicationPort,
+                this.lockerEventBroadcaster,
+                "2021-03-01T00:00:00",
+                "2021-03-08T00:00:00",
+                new Random(0L)
+        )
+        this.lockerApplicationPort.existsAny() >> hasApplication
+
+        expect:
+        lockerAllocator.isDirectRegisterAllowed(now) == isAllowed
+
+        where:
+        now                                 | hasApplication || isAllowed
+        LocalDateTime.of(2021, 2, 1, 0, 0)  | true           || true
+        LocalDateTime.of(2021, 3, 5, 0, 0)  | false          || false
+        LocalDateTime.of(2021, 3, 10, 0, 0) | true           || false
+        LocalDateTime.of(2021, 3, 10, 0, 0) | false          || true
+    }
+
+    @Test "Locker register during application period case"() {
+        given:
+        def updaterUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+        def lockerService = this.lockerServiceWith(new LockerAllocator(
+                this.lockerPort,
+                this.lockerLogPort,
+                this.lockerApplicationPort,
+                this.lockerEventBroadcaster,
+                LocalDateTime.now().minusDays(1).toString(),
+                LocalDateTime.now().plusDays(1).toString(),
+                new Random(0L)
+        ))
+
+        this.userPort.findById(updaterUserDomainModel.getId()) >> Optional.of(updaterUserDomainModel)
+        this.lockerPort.findById(((LockerDomainModel) this.mockLockerDomainModel).getId()) >> Optional.of((LockerDomainModel) this.mockLockerDomainModel)
+
+        when:
+        lockerService.update("test user id", "test locker id", new LockerUpdateRequestDto(LockerLogAction.REGISTER, ''))
+
+        then:
+        thrown(BadRequestException)
+        0 * this.lockerPort.claim(_, _)
+    }
+
+    /**
+     * Test cases for locker event stats
+     */
+    @Test "Locker event stats normal case"() {
+        given:
+        def adminUserDomainModel = UserDomainModel.of(
+                "admin test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.ADMIN,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById(adminUserDomainModel.getId()) >> Optional.of(adminUserDomainModel)
+
+        this.lockerEventBroadcaster.publish(LockerEventDomainModel.of(
+                LockerEventType.ENABLE,
+                (LockerDomainModel) this.mockLockerDomainModel,
+                "test locker location id"
+        ))
+
+        when:
+        def lockerEventStatsResponseDto = this.lockerService.getEventStats("admin test user id")
+
+        then:
+        lockerEventStatsResponseDto instanceof LockerEventStatsResponseDto
+        with(lockerEventStatsResponseDto) {
+            getSubscriberCount() == 0
+            getBacklog() == 0
+            getPublishedCount() == 1L
+            getDroppedCount() == 0L
+        }
+    }
+
+    @Test "Locker event stats unauthorized case"() {
+        given:
+        def presidentUserDomainModel = UserDomainModel.of(
+                "president test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById(presidentUserDomainModel.getId()) >> Optional.of(presidentUserDomainModel)
+
+        when:
+        this.lockerService.getEventStats("president test user id")
+
+        then:
+        thrown(UnauthorizedException)
+    }
+
+    private LockerService lockerServiceWith(LockerAllocator lockerAllocator) {
+        return new LockerService(
+                this.lockerPort,
+                this.lockerLocationPort,
+                this.lockerLogPort,
+                this.lockerApplicationPort,
+                this.userPort,
+                this.lockerActionFactory,
+                lockerAllocator,
+                this.lockerEventBroadcaster,
+                this.validator
+        )
+    }
 }
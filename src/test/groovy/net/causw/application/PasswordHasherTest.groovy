@@ -0,0 +1,91 @@
+package net.causw.application
+
+import net.causw.domain.exceptions.ServiceUnavailableException
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class PasswordHasherTest extends Specification {
+    // Minimum BCrypt cost, to keep the hashing fast
+    private PasswordHasher passwordHasher = new PasswordHasher(4, 1, 1, 5000L)
+    private CountDownLatch blockingLatch = new CountDownLatch(1)
+
+    def cleanup() {
+        this.blockingLatch.countDown()
+        this.passwordHasher.shutdown()
+    }
+
+    /**
+     * Test cases for password matching
+     */
+    @Test "Password matches hashed password case"() {
+        given:
+        def encodedPassword = this.passwordHasher.encode("test1234!")
+
+        expect:
+        encodedPassword != "test1234!"
+        this.passwordHasher.matches("test1234!", encodedPassword)
+        !this.passwordHasher.matches("test4321!", encodedPassword)
+    }
+
+    @Test "Password matches plain text password case"() {
+        expect:
+        this.passwordHasher.matches("test1234!", "test1234!")
+        !this.passwordHasher.matches("test4321!", "test1234!")
+        !this.passwordHasher.matches("test1234!", null)
+        this.passwordHasher.getStats().getCompletedCount() == 0L
+    }
+
+    /**
+     * Test cases for password upgrade
+     */
+    @Test "Password upgrade encoding case"() {
+        expect:
+        this.passwordHasher.upgradeEncoding("test1234!")
+        !this.passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(4).encode("test1234!"))
+        this.passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(5).encode("test1234!"))
+        !this.passwordHasher.upgradeEncoding(null)
+    }
+
+    /**
+     * Test cases for busy hasher
+     */
+    @Test "Password hashing queue full case"() {
+        given: "The only hashing thread and the queue are occupied"
+        this.passwordHasher.@executor.execute({ this.blockingLatch.await() })
+        this.passwordHasher.@executor.execute({ this.blockingLatch.await() })
+
+        when:
+        this.passwordHasher.encode("test1234!")
+
+        then:
+        thrown(ServiceUnavailableException)
+        this.passwordHasher.getStats().getRejectedCount() == 1L
+    }
+
+    @Test "Password hashing timeout case"() {
+        given: "The only hashing thread is occupied"
+        def passwordHasher = new PasswordHasher(4, 1, 1, 100L)
+        passwordHasher.@executor.execute({ this.blockingLatch.await() })
+
+        when:
+        passwordHasher.encode("test1234!")
+
+        then:
+        thrown(ServiceUnavailableException)
+
+        cleanup:
+        this.blockingLatch.countDown()
+        passwordHasher.shutdown()
+    }
+}
@@ -1,9 +1,15 @@
 package net.causw.application
 
 
+import net.causw.application.dto.BoardResponseDto
+import net.causw.application.dto.CommentCountReconcileResponseDto
+import net.causw.application.dto.HomePageResponseDto
+import net.causw.application.dto.PostAllResponseDto
+import net.causw.application.dto.PostAllWithBoardCursorResponseDto
 import net.causw.application.dto.PostAllWithBoardResponseDto
 import net.causw.application.dto.PostCreateRequestDto
 import net.causw.application.dto.PostResponseDto
+import net.causw.application.dto.PostSearchAllResponseDto
 import net.causw.application.dto.PostUpdateRequestDto
 import net.causw.application.spi.*
 import net.causw.domain.exceptions.BadRequestException
@@ -16,14 +22,16 @@ import org.powermock.core.classloader.annotations.PrepareForTest
 import org.powermock.modules.junit4.PowerMockRunner
 import org.powermock.modules.junit4.PowerMockRunnerDelegate
 import org.spockframework.runtime.Sputnik
-import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.springframework.test.context.ActiveProfiles
 import spock.lang.Specification
 
 import javax.validation.ConstraintViolationException
 import javax.validation.Validation
 import javax.validation.Validator
+import java.time.LocalDateTime
 
 @ActiveProfiles(value = "test")
 @RunWith(PowerMockRunner.class)
@@ -35,6 +43,7 @@ class PostServiceTest extends Specification {
     private BoardPort boardPort = Mock(BoardPort.class)
     private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
     private CommentPort commentPort = Mock(CommentPort.class)
+    private HomePageCache homePageCache = new HomePageCache()
     private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
     private PostService postService = new PostService(
             this.postPort,
@@ -42,10 +51,13 @@ class PostServiceTest extends Specification {
             this.boardPort,
             this.circleMemberPort,
             this.commentPort,
+            this.homePageCache,
+            new ResponseCache(),
             this.validator
     )
 
     def mockPostDomainModel
+    def mockPostSummaryDomainModel
     def mockBoardDomainModel
     def mockCircleLeaderUserDomainModel
     def mockCircleDomainModel
@@ -72,6 +84,18 @@ class PostServiceTest extends Specification {
                 null
         )
 
+        this.mockPostSummaryDomainModel = PostSummaryDomainModel.of(
+                "test post id",
+                "test post title",
+                "test user name",
+                2021,
+                "test board id",
+                0L,
+                0L,
+                null,
+                null
+        )
+
         this.mockCircleLeaderUserDomainModel = UserDomainModel.of(
                 "test leader user id",
                 "test-leader@cau.ac.kr",
@@ -94,6 +118,156 @@ class PostServiceTest extends Specification {
         )
     }
 
+    /**
+     * Test cases for post find version
+     */
+    @Test
+    def "Post find version normal case"() {
+        given:
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById("test user id") >> Optional.of(requestUserDomainModel)
+        this.postPort.findVersion("test post id") >> Optional.of(PostVersionDomainModel.of("test version", false, false, null))
+
+        when:
+        def postAccess = this.postService.findAccessById("test user id", "test post id")
+
+        then: "The access is decided without loading the post"
+        postAccess.getVersion() == "test version,test user id,common,active,"
+        postAccess.getUser().is(requestUserDomainModel)
+        0 * this.postPort.findById(_)
+        0 * this.postPort.increaseViewCount(_)
+    }
+
+    @Test
+    def "Post find by checked access case"() {
+        given:
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        ((PostDomainModel) this.mockPostDomainModel).setWriter(requestUserDomainModel)
+
+        this.postPort.findById("test post id") >> Optional.of((PostDomainModel) this.mockPostDomainModel)
+        this.commentPort.findByPostId("test post id", 0) >> new PageImpl<CommentDomainModel>(List.of())
+
+        when:
+        def postResponse = this.postService.findById(PostAccessDomainModel.of("test post id", requestUserDomainModel, "test version"))
+
+        then: "The user and the circle membership checked with the version are not loaded again"
+        postResponse instanceof PostResponseDto
+        postResponse.getId() == "test post id"
+        1 * this.postPort.increaseViewCount("test post id")
+        0 * this.userPort.findById(_)
+        0 * this.circleMemberPort.findByUserIdAndCircleId(_, _)
+    }
+
+    @Test
+    def "Post find version dropped circle member case"() {
+        given:
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        ((BoardDomainModel) this.mockBoardDomainModel).setCircle((CircleDomainModel) this.mockCircleDomainModel)
+
+        def droppedCircleMemberDomainModel = CircleMemberDomainModel.of(
+                "test circle member id",
+                CircleMemberStatus.DROP,
+                (CircleDomainModel) this.mockCircleDomainModel,
+                requestUserDomainModel.getId(),
+                requestUserDomainModel.getName(),
+                null,
+                null
+        )
+
+        this.userPort.findById("test user id") >> Optional.of(requestUserDomainModel)
+        this.postPort.findVersion("test post id") >> Optional.of(PostVersionDomainModel.of("test version", false, false, "test circle id"))
+        this.circleMemberPort.findByUserIdAndCircleId("test user id", "test circle id") >> Optional.of(droppedCircleMemberDomainModel)
+
+        when:
+        this.postService.findAccessById("test user id", "test post id")
+
+        then:
+        thrown(UnauthorizedException)
+    }
+
+    @Test
+    def "Post find version deleted post case"() {
+        given:
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById("test user id") >> Optional.of(requestUserDomainModel)
+        this.postPort.findVersion("test post id") >> Optional.of(PostVersionDomainModel.of("test version", true, false, null))
+
+        when:
+        this.postService.findAccessById("test user id", "test post id")
+
+        then:
+        thrown(BadRequestException)
+    }
+
+    @Test
+    def "Post find version not found case"() {
+        given:
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById("test user id") >> Optional.of(requestUserDomainModel)
+        this.postPort.findVersion("test post id") >> Optional.empty()
+
+        when:
+        this.postService.findAccessById("test user id", "test post id")
+
+        then:
+        thrown(BadRequestException)
+    }
+
     /**
      * Test cases for post findById
      */
@@ -132,6 +306,7 @@ class PostServiceTest extends Specification {
         def postFind = this.postService.findById("test user id", ((PostDomainModel) this.mockPostDomainModel).getId())
 
         then:
+        1 * this.postPort.increaseViewCount(((PostDomainModel) this.mockPostDomainModel).getId())
         postFind instanceof PostResponseDto
         with(postFind) {
             getTitle() == "test post title"
@@ -183,7 +358,7 @@ class PostServiceTest extends Specification {
         this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of(this.mockPostDomainModel)
         this.boardPort.findById(((BoardDomainModel) this.mockBoardDomainModel).getId()) >> Optional.of(this.mockBoardDomainModel)
         this.circleMemberPort.findByUserIdAndCircleId(requestUserDomainModel.getId(), ((CircleDomainModel) this.mockCircleDomainModel).getId()) >> Optional.of(circleMemberDomainModel)
-        this.postPort.findAll(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> new PageImpl<PostDomainModel>(List.of(this.mockPostDomainModel))
+        this.postPort.findAll(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> new PageImpl<PostSummaryDomainModel>(List.of(this.mockPostSummaryDomainModel))
 
         when: "post findById without circle"
         def postFind = this.postService.findAll("test user id", "test board id", 0)
@@ -224,7 +399,7 @@ class PostServiceTest extends Specification {
         this.userPort.findById(requestUserDomainModel.getId()) >> Optional.of(requestUserDomainModel)
         this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of(this.mockPostDomainModel)
         this.boardPort.findById(((BoardDomainModel) this.mockBoardDomainModel).getId()) >> Optional.of(this.mockBoardDomainModel)
-        this.postPort.findAll(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> new PageImpl<PostDomainModel>(List.of(this.mockPostDomainModel))
+        this.postPort.findAll(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> new PageImpl<PostSummaryDomainModel>(List.of(this.mockPostSummaryDomainModel))
 
         when:
         this.mockBoardDomainModel.setIsDeleted(true)
@@ -234,6 +409,129 @@ class PostServiceTest extends Specification {
         thrown(BadRequestException)
     }
 
+    @Test
+    def "Post find all slice normal case"() {
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                UserState.ACTIVE
+        )
+
+        ((PostDomainModel) this.mockPostDomainModel).setWriter(requestUserDomainModel)
+
+        this.userPort.findById(requestUserDomainModel.getId()) >> Optional.of(requestUserDomainModel)
+        this.boardPort.findById(((BoardDomainModel) this.mockBoardDomainModel).getId()) >> Optional.of(this.mockBoardDomainModel)
+        this.postPort.findAllSlice(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> new SliceImpl<PostSummaryDomainModel>(List.of(this.mockPostSummaryDomainModel), PageRequest.of(0, 20), true)
+
+        when:
+        def postFind = this.postService.findAllSlice("test user id", "test board id", 0)
+
+        then:
+        postFind instanceof PostAllWithBoardResponseDto
+        with(postFind) {
+            getPost().getContent().get(0).getTitle() == "test post title"
+            getPost().hasNext()
+        }
+    }
+
+    @Test
+    def "Post find all by cursor normal case"() {
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                UserState.ACTIVE
+        )
+
+        def createdAt = LocalDateTime.of(2021, 9, 1, 12, 0)
+        def postSummaryDomainModel = PostSummaryDomainModel.of(
+                "test post id",
+                "test post title",
+                requestUserDomainModel.getName(),
+                requestUserDomainModel.getAdmissionYear(),
+                "test board id",
+                0L,
+                0L,
+                createdAt,
+                createdAt
+        )
+
+        this.userPort.findById(requestUserDomainModel.getId()) >> Optional.of(requestUserDomainModel)
+        this.boardPort.findById(((BoardDomainModel) this.mockBoardDomainModel).getId()) >> Optional.of(this.mockBoardDomainModel)
+        this.postPort.findAllByCursor(((BoardDomainModel) this.mockBoardDomainModel).getId(), null) >> new SliceImpl<PostSummaryDomainModel>(List.of(postSummaryDomainModel), PageRequest.of(0, 1), true)
+
+        when: "first page"
+        def postFind = this.postService.findAllByCursor("test user id", "test board id", "")
+
+        then:
+        postFind instanceof PostAllWithBoardCursorResponseDto
+        with(postFind) {
+            getPost().get(0).getTitle() == "test post title"
+            getHasNext()
+            Cursor.decode(getNextCursor()).get().getId() == "test post id"
+            Cursor.decode(getNextCursor()).get().getCreatedAt() == createdAt
+        }
+
+        when: "invalid cursor"
+        this.postService.findAllByCursor("test user id", "test board id", "invalid cursor")
+
+        then:
+        thrown(BadRequestException)
+    }
+
+    @Test
+    def "Post search normal case"() {
+        def requestUserDomainModel = UserDomainModel.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        def postSearchDomainModel = PostSearchDomainModel.of(
+                (PostSummaryDomainModel) this.mockPostSummaryDomainModel,
+                "test post <content>"
+        )
+
+        this.userPort.findById(requestUserDomainModel.getId()) >> Optional.of(requestUserDomainModel)
+        this.boardPort.findAll() >> List.of(this.mockBoardDomainModel)
+        this.circleMemberPort.findByUserId(requestUserDomainModel.getId()) >> List.of()
+        this.postPort.search(List.of("test board id"), "post", null) >> new SliceImpl<PostSearchDomainModel>(List.of(postSearchDomainModel))
+
+        when: "global search"
+        def postSearch = this.postService.search("test user id", " post ", null, null, null)
+
+        then:
+        postSearch instanceof PostSearchAllResponseDto
+        with(postSearch) {
+            getPost().get(0).getTitle() == "test <em>post</em> title"
+            getPost().get(0).getSnippet() == "test <em>post</em> &lt;content&gt;"
+            !getHasNext()
+        }
+
+        when: "blank keyword"
+        this.postService.search("test user id", " ", null, null, null)
+
+        then:
+        thrown(BadRequestException)
+    }
+
     @Test
     def "Post find all unauthorized case"() {
         def requestUserDomainModel = UserDomainModel.of(
@@ -264,7 +562,7 @@ class PostServiceTest extends Specification {
         this.postPort.findById(((PostDomainModel) this.mockPostDomainModel).getId()) >> Optional.of(this.mockPostDomainModel)
         this.boardPort.findById(((BoardDomainModel) this.mockBoardDomainModel).getId()) >> Optional.of(this.mockBoardDomainModel)
         this.circleMemberPort.findByUserIdAndCircleId(requestUserDomainModel.getId(), ((CircleDomainModel) this.mockCircleDomainModel).getId()) >> Optional.of(circleMemberDomainModel)
-        this.postPort.findAll(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> Page.of(this.mockPostDomainModel)
+        this.postPort.findAll(((BoardDomainModel) this.mockBoardDomainModel).getId(), 0) >> new PageImpl<PostSummaryDomainModel>(List.of(this.mockPostSummaryDomainModel))
 
         when: "bad request case - leave"
         ((BoardDomainModel) this.mockBoardDomainModel).setCircle((CircleDomainModel) this.mockCircleDomainModel)
@@ -591,6 +889,16 @@ class PostServiceTest extends Specification {
         this.postPort.update(postId, mockUpdatedPostDomainModel) >> Optional.of(mockUpdatedPostDomainModel)
         this.commentPort.findByPostId(postId, 0) >> new PageImpl<CommentDomainModel>(List.of())
 
+        this.homePageCache.put(
+                "test home page user id",
+                Role.COMMON,
+                this.homePageCache.getVersion(),
+                [HomePageResponseDto.from(
+                        BoardResponseDto.from((BoardDomainModel) mockBoardDomainModel, Role.COMMON),
+                        new PageImpl<PostAllResponseDto>(List.of())
+                )]
+        )
+
         when:
         PowerMockito.mockStatic(PostDomainModel.class)
         PowerMockito.when(PostDomainModel.of(
@@ -608,6 +916,7 @@ class PostServiceTest extends Specification {
         then:
         postUpdateResponse instanceof PostResponseDto
         postUpdateResponse.getTitle() == targetTitle
+        this.homePageCache.get("test home page user id", Role.COMMON).isEmpty()
     }
 
     @Test
@@ -1125,4 +1434,63 @@ class PostServiceTest extends Specification {
         then:
         thrown(UnauthorizedException)
     }
+
+    /**
+     * Test cases for post comment count reconciliation
+     */
+    @Test
+    def "Post reconcile comment count normal case"() {
+        given:
+        def adminUserDomainModel = UserDomainModel.of(
+                "test admin user id",
+                "test-admin@cau.ac.kr",
+                "test admin user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.ADMIN,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById(adminUserDomainModel.getId()) >> Optional.of(adminUserDomainModel)
+        this.postPort.findIdsAfter("", 500) >> List.of("test post id 1", "test post id 2")
+        this.postPort.findIdsAfter("test post id 2", 500) >> List.of()
+        this.commentPort.countByPostIds(List.of("test post id 1", "test post id 2")) >> Map.of("test post id 1", 2L, "test post id 2", 0L)
+        this.postPort.updateCommentCount(Map.of("test post id 1", 2L, "test post id 2", 0L)) >> 1
+
+        when:
+        def reconcileResponse = this.postService.reconcileCommentCount(adminUserDomainModel.getId())
+
+        then:
+        reconcileResponse instanceof CommentCountReconcileResponseDto
+        with(reconcileResponse) {
+            getNumScanned() == 2L
+            getNumReconciled() == 1L
+        }
+    }
+
+    @Test
+    def "Post reconcile comment count unauthorized case"() {
+        given:
+        def presidentUserDomainModel = UserDomainModel.of(
+                "test president user id",
+                "test-president@cau.ac.kr",
+                "test president user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.PRESIDENT,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userPort.findById(presidentUserDomainModel.getId()) >> Optional.of(presidentUserDomainModel)
+
+        when:
+        this.postService.reconcileCommentCount(presidentUserDomainModel.getId())
+
+        then:
+        thrown(UnauthorizedException)
+    }
 }
@@ -19,6 +19,8 @@ import org.powermock.core.classloader.annotations.PrepareForTest
 import org.powermock.modules.junit4.PowerMockRunner
 import org.powermock.modules.junit4.PowerMockRunnerDelegate
 import org.spockframework.runtime.Sputnik
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.springframework.test.context.ActiveProfiles
 import spock.lang.Specification
 
@@ -40,6 +42,7 @@ class UserServiceTest extends Specification {
     private CircleMemberPort circleMemberPort = Mock(CircleMemberPort.class)
     private FavoriteBoardPort favoriteBoardPort = Mock(FavoriteBoardPort.class)
     private JwtTokenProvider jwtTokenProvider = Mock(JwtTokenProvider.class)
+    private PasswordHasher passwordHasher = Mock(PasswordHasher.class)
     private Validator validator = Validation.buildDefaultValidatorFactory().getValidator()
     private UserService userService = new UserService(
             this.userPort,
@@ -50,6 +53,8 @@ class UserServiceTest extends Specification {
             this.circleMemberPort,
             this.favoriteBoardPort,
             this.jwtTokenProvider,
+            this.passwordHasher,
+            new HomePageCache(),
             this.validator
     )
 
@@ -772,6 +777,65 @@ class UserServiceTest extends Specification {
         thrown(ConstraintViolationException)
     }
 
+    /**
+     * Test cases for user sign-in
+     */
+    @Test
+    def "User sign-in normal case"() {
+        given:
+        def userSignInRequestDto = new UserSignInRequestDto(email: "test@cau.ac.kr", password: "test1234!")
+
+        this.userPort.findByEmail("test@cau.ac.kr") >> Optional.of(this.mockUserDomainModel)
+        this.passwordHasher.matches("test1234!", "test1234!") >> true
+        this.passwordHasher.upgradeEncoding("test1234!") >> false
+        this.jwtTokenProvider.createToken("test", Role.PRESIDENT, UserState.ACTIVE) >> "test token"
+
+        when:
+        def token = this.userService.signIn(userSignInRequestDto)
+
+        then:
+        token == "test token"
+        0 * this.passwordHasher.encode(_)
+        0 * this.userPort.updatePasswordIfUnchanged(_, _, _)
+    }
+
+    @Test
+    def "User sign-in plain text password upgrade case"() {
+        given:
+        def userSignInRequestDto = new UserSignInRequestDto(email: "test@cau.ac.kr", password: "test1234!")
+
+        this.userPort.findByEmail("test@cau.ac.kr") >> Optional.of(this.mockUserDomainModel)
+        this.passwordHasher.matches("test1234!", "test1234!") >> true
+        this.passwordHasher.upgradeEncoding("test1234!") >> true
+        this.jwtTokenProvider.createToken("test", Role.PRESIDENT, UserState.ACTIVE) >> "test token"
+
+        when:
+        def token = this.userService.signIn(userSignInRequestDto)
+
+        then:
+        1 * this.passwordHasher.encode("test1234!") >> "test encoded password"
+        1 * this.userPort.updatePasswordIfUnchanged("test", "test1234!", "test encoded password") >> true
+        token == "test token"
+    }
+
+    @Test
+    def "User sign-in invalid password case"() {
+        given:
+        def userSignInRequestDto = new UserSignInRequestDto(email: "test@cau.ac.kr", password: "test4321!")
+
+        this.userPort.findByEmail("test@cau.ac.kr") >> Optional.of(this.mockUserDomainModel)
+        this.passwordHasher.matches("test4321!", "test1234!") >> false
+        this.passwordHasher.upgradeEncoding("test1234!") >> true
+
+        when:
+        this.userService.signIn(userSignInRequestDto)
+
+        then:
+        thrown(UnauthorizedException)
+        0 * this.userPort.updatePasswordIfUnchanged(_, _, _)
+        0 * this.jwtTokenProvider.createToken(_, _, _)
+    }
+
     /**
      * Test cases for user password update
      */
@@ -783,26 +847,36 @@ class UserServiceTest extends Specification {
                 "test12345!"
         )
 
-        def mockUpdatedUserDomainModel = UserDomainModel.of(
-                (String) this.mockUserDomainModel.getId(),
-                (String) this.mockUserDomainModel.getEmail(),
-                (String) this.mockUserDomainModel.getName(),
-                "test12345!",
-                (String) this.mockUserDomainModel.getStudentId(),
-                (Integer) this.mockUserDomainModel.getAdmissionYear(),
-                Role.PRESIDENT,
-                null,
-                UserState.AWAIT
+        this.userPort.findById("test") >> Optional.of(this.mockUserDomainModel)
+        this.passwordHasher.matches("test1234!", "test1234!") >> true
+        this.passwordHasher.encode("test12345!") >> "test encoded password"
+
+        when:
+        def userResponseDto = this.userService.updatePassword("test", userPasswordUpdateRequestDto)
+
+        then: "The new password only replaces the one it was checked against"
+        1 * this.userPort.updatePasswordIfUnchanged("test", "test1234!", "test encoded password") >> true
+        userResponseDto instanceof UserResponseDto
+    }
+
+    @Test
+    def "User password update changed in the meantime case"() {
+        given:
+        def userPasswordUpdateRequestDto = new UserPasswordUpdateRequestDto(
+                "test1234!",
+                "test12345!"
         )
 
         this.userPort.findById("test") >> Optional.of(this.mockUserDomainModel)
-        this.userPort.updatePassword("test", "test12345!") >> Optional.of(mockUpdatedUserDomainModel)
+        this.passwordHasher.matches("test1234!", "test1234!") >> true
+        this.passwordHasher.encode("test12345!") >> "test encoded password"
+        this.userPort.updatePasswordIfUnchanged("test", "test1234!", "test encoded password") >> false
 
         when:
-        def userResponseDto = this.userService.updatePassword("test", userPasswordUpdateRequestDto)
+        this.userService.updatePassword("test", userPasswordUpdateRequestDto)
 
         then:
-        userResponseDto instanceof UserResponseDto
+        thrown(BadRequestException)
     }
 
     @Test
@@ -820,6 +894,7 @@ class UserServiceTest extends Specification {
 
         then:
         thrown(UnauthorizedException)
+        0 * this.userPort.updatePasswordIfUnchanged(_, _, _)
     }
 
     @Test
@@ -831,6 +906,7 @@ class UserServiceTest extends Specification {
         )
 
         this.userPort.findById("test") >> Optional.of(this.mockUserDomainModel)
+        this.passwordHasher.matches("test1234!", "test1234!") >> true
 
         when: "password with short length"
         userPasswordUpdateRequestDto.setUpdatedPassword("test12!")
@@ -1048,6 +1124,44 @@ class UserServiceTest extends Specification {
         thrown(UnauthorizedException)
     }
 
+    /**
+     * Test cases for search
+     */
+    @Test
+    def "User search normal case"() {
+        given:
+        def userSearchDomainModel = UserSearchDomainModel.of(
+                (UserDomainModel) this.mockUserDomainModel,
+                LocalDateTime.of(2021, 3, 1, 0, 0)
+        )
+
+        this.userPort.findById("test") >> Optional.of(this.mockUserDomainModel)
+        this.userPort.search("tes", null) >> new SliceImpl<UserSearchDomainModel>(List.of(userSearchDomainModel), PageRequest.of(0, 1), true)
+
+        when:
+        def userSearchAllResponseDto = this.userService.search("test", " tes ", null)
+
+        then:
+        userSearchAllResponseDto instanceof UserSearchAllResponseDto
+        with(userSearchAllResponseDto) {
+            getUser().get(0).getId() == "test"
+            getHasNext()
+            getNextCursor() == Cursor.of(LocalDateTime.of(2021, 3, 1, 0, 0), "test").encode()
+        }
+    }
+
+    @Test
+    def "User search blank keyword"() {
+        given:
+        this.userPort.findById("test") >> Optional.of(this.mockUserDomainModel)
+
+        when:
+        this.userService.search("test", " ", null)
+
+        then:
+        thrown(BadRequestException)
+    }
+
     /**
      * Test cases for find by role
      */
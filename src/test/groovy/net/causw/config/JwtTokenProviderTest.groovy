@@ -0,0 +1,172 @@
+package net.causw.config
+
+import net.causw.adapter.persistence.PageableFactory
+import net.causw.adapter.persistence.TokenWatermarkStore
+import net.causw.adapter.persistence.User
+import net.causw.adapter.persistence.UserCache
+import net.causw.adapter.persistence.UserRepository
+import net.causw.adapter.persistence.UserTokenWatermark
+import net.causw.adapter.persistence.port.UserPortImpl
+import net.causw.domain.exceptions.ErrorCode
+import net.causw.domain.model.Role
+import net.causw.domain.model.UserState
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class JwtTokenProviderTest extends Specification {
+    private UserRepository userRepository = Mock(UserRepository.class)
+    private TokenWatermarkStore tokenWatermarkStore = new TokenWatermarkStore(this.userRepository)
+    private UserPortImpl userPort = new UserPortImpl(
+            this.userRepository,
+            new UserCache(),
+            this.tokenWatermarkStore,
+            Mock(PasswordEncoder.class),
+            new PageableFactory(),
+            20
+    )
+    private JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(this.userPort)
+
+    def mockUser
+
+    def setup() {
+        this.jwtTokenProvider.@secretKey = "test secret key"
+        this.jwtTokenProvider.init()
+
+        this.mockUser = User.of(
+                "test user id",
+                "test@cau.ac.kr",
+                "test user name",
+                "test1234!",
+                "20210000",
+                2021,
+                Role.COMMON,
+                null,
+                UserState.ACTIVE
+        )
+
+        this.userRepository.findTokenWatermarksAfter(_) >> []
+        this.userRepository.findById("test user id") >> Optional.of((User) this.mockUser)
+        this.userRepository.save((User) this.mockUser) >> (User) this.mockUser
+        this.tokenWatermarkStore.load()
+    }
+
+    /**
+     * Test cases for token revocation
+     */
+    @Test "Token valid without revocation case"() {
+        given:
+        def request = new MockHttpServletRequest()
+        def token = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.ACTIVE)
+
+        expect:
+        this.jwtTokenProvider.validateClaims(this.jwtTokenProvider.getVerifiedClaims(token).get(), request)
+        request.getAttribute("exception") == null
+    }
+
+    @Test "Token revoked by role change case"() {
+        given:
+        def oldToken = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.ACTIVE)
+        Thread.sleep(5)
+
+        when:
+        this.userPort.updateRole("test user id", Role.PRESIDENT)
+        def newToken = this.jwtTokenProvider.createToken("test user id", Role.PRESIDENT, UserState.ACTIVE)
+
+        then:
+        1 * this.userRepository.updateTokensIssuedAfter("test user id", _) >> 1
+        this.isRejected(oldToken)
+        !this.isRejected(newToken)
+    }
+
+    @Test "Token revoked by drop case"() {
+        given:
+        def oldToken = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.ACTIVE)
+        Thread.sleep(5)
+
+        when: "The user is dropped and restored again"
+        this.userPort.updateState("test user id", UserState.DROP)
+        def droppedToken = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.DROP)
+        this.userPort.updateState("test user id", UserState.ACTIVE)
+        def restoredToken = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.ACTIVE)
+
+        then:
+        this.isRejected(oldToken)
+        this.isRejected(droppedToken)
+        !this.isRejected(restoredToken)
+    }
+
+    @Test "Token revoked by leave case"() {
+        given:
+        def oldToken = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.ACTIVE)
+        Thread.sleep(5)
+
+        when:
+        this.userPort.updateState("test user id", UserState.INACTIVE)
+
+        then:
+        this.isRejected(oldToken)
+    }
+
+    @Test "Token of another user not revoked case"() {
+        given:
+        def otherToken = this.jwtTokenProvider.createToken("test other user id", Role.COMMON, UserState.ACTIVE)
+        Thread.sleep(5)
+
+        when:
+        this.userPort.updateRole("test user id", Role.PRESIDENT)
+
+        then:
+        !this.isRejected(otherToken)
+    }
+
+    @Test "Token revoked by another instance case"() {
+        given:
+        def oldToken = this.jwtTokenProvider.createToken("test user id", Role.COMMON, UserState.ACTIVE)
+        Thread.sleep(5)
+        def watermark = System.currentTimeMillis()
+        Thread.sleep(5)
+        def newToken = this.jwtTokenProvider.createToken("test user id", Role.PRESIDENT, UserState.ACTIVE)
+
+        when: "The watermark written by another instance is polled"
+        this.tokenWatermarkStore.load()
+
+        then:
+        1 * this.userRepository.findTokenWatermarksAfter(0L) >> [this.tokenWatermark("test user id", watermark)]
+        this.isRejected(oldToken)
+        !this.isRejected(newToken)
+    }
+
+    @Test "Token watermark poll overlap case"() {
+        given:
+        this.userPort.updateRole("test user id", Role.PRESIDENT)
+
+        when:
+        this.tokenWatermarkStore.load()
+
+        then: "The poll looks back behind the latest watermark for the ones committed late"
+        1 * this.userRepository.findTokenWatermarksAfter({ it > 0L && it <= System.currentTimeMillis() - 60 * 1000L }) >> []
+    }
+
+    private UserTokenWatermark tokenWatermark(String id, Long tokensIssuedAfter) {
+        return [
+                getId               : { id },
+                getTokensIssuedAfter: { tokensIssuedAfter }
+        ] as UserTokenWatermark
+    }
+
+    private boolean isRejected(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest()
+        boolean isValid = this.jwtTokenProvider.validateClaims(this.jwtTokenProvider.getVerifiedClaims(token).get(), request)
+        return !isValid && request.getAttribute("exception") == ErrorCode.NEED_SIGN_IN
+    }
+}
@@ -0,0 +1,166 @@
+package net.causw.config
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.mock.web.MockFilterChain
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+import javax.servlet.ReadListener
+import java.nio.charset.StandardCharsets
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class RateLimitFilterTest extends Specification {
+    private RateLimiter rateLimiter = new RateLimiter()
+    private RateLimitFilter rateLimitFilter = new RateLimitFilter(
+            this.rateLimiter,
+            new ObjectMapper(),
+            List.of(RateLimitFilter.Rule.of("/api/**/users/sign-in", 3, 2))
+    )
+
+    /**
+     * Test cases for rate limit filter
+     */
+    @Test "Rate limit filter normal case"() {
+        given:
+        def request = this.signInRequest("1.1.1.1", "{\"email\" : \"test@cau.ac.kr\", \"password\" : \"test1234!\"}")
+        def response = new MockHttpServletResponse()
+        def chain = new MockFilterChain()
+
+        when:
+        this.rateLimitFilter.doFilter(request, response, chain)
+
+        then: "The controller still reads the whole body"
+        response.getStatus() == 200
+        chain.getRequest().getInputStream().readAllBytes() == request.getContentAsByteArray()
+        chain.getRequest().getReader().readLine() == "{\"email\" : \"test@cau.ac.kr\", \"password\" : \"test1234!\"}"
+    }
+
+    @Test "Rate limit filter other path case"() {
+        given:
+        def request = new MockHttpServletRequest("POST", "/api/v1/posts")
+        def chainList = (1..5).collect { new MockFilterChain() }
+
+        when:
+        chainList.each { this.rateLimitFilter.doFilter(request, new MockHttpServletResponse(), it) }
+
+        then:
+        chainList.every { it.getRequest().is(request) }
+    }
+
+    @Test "Rate limit filter per email case"() {
+        given: "The same email from different IPs"
+        ["1.1.1.1", "2.2.2.2"].each {
+            this.rateLimitFilter.doFilter(this.signInRequest(it, "{\"email\" : \"Test@cau.ac.kr \"}"), new MockHttpServletResponse(), new MockFilterChain())
+        }
+        def response = new MockHttpServletResponse()
+        def chain = new MockFilterChain()
+
+        when:
+        this.rateLimitFilter.doFilter(this.signInRequest("3.3.3.3", "{\"email\" : \"test@cau.ac.kr\"}"), response, chain)
+
+        then:
+        response.getStatus() == 429
+        Long.parseLong(response.getHeader("Retry-After")) > 0L
+        response.getContentAsString().contains("4900")
+        chain.getRequest() == null
+    }
+
+    @Test "Rate limit filter per IP case"() {
+        given: "Different emails from the same IP"
+        ["test1", "test2", "test3"].each {
+            this.rateLimitFilter.doFilter(this.signInRequest("1.1.1.1", "{\"email\" : \"" + it + "@cau.ac.kr\"}"), new MockHttpServletResponse(), new MockFilterChain())
+        }
+        def response = new MockHttpServletResponse()
+
+        when:
+        this.rateLimitFilter.doFilter(this.signInRequest("1.1.1.1", "{\"email\" : \"test4@cau.ac.kr\"}"), response, new MockFilterChain())
+
+        then: "A token comes back every 20 seconds"
+        response.getStatus() == 429
+        Long.parseLong(response.getHeader("Retry-After")) > 0L
+        Long.parseLong(response.getHeader("Retry-After")) <= 20L
+    }
+
+    @Test "Rate limit filter body without length case"() {
+        given: "A chunked body has no Content-Length"
+        def request = this.chunkedSignInRequest("1.1.1.1", "{\"email\" : \"test@cau.ac.kr\"}")
+        (1..2).each {
+            this.rateLimitFilter.doFilter(this.signInRequest("2.2.2.2", "{\"email\" : \"test@cau.ac.kr\"}"), new MockHttpServletResponse(), new MockFilterChain())
+        }
+        def response = new MockHttpServletResponse()
+
+        when:
+        this.rateLimitFilter.doFilter(request, response, new MockFilterChain())
+
+        then: "The email is still limited"
+        response.getStatus() == 429
+    }
+
+    @Test "Rate limit filter body too large case"() {
+        given: "A body larger than the limit, padded after the email"
+        def request = this.chunkedSignInRequest("1.1.1.1", "{\"email\" : \"test@cau.ac.kr\", \"padding\" : \"" + "a" * (16 * 1024) + "\"}")
+        def response = new MockHttpServletResponse()
+        def chain = new MockFilterChain()
+
+        when:
+        this.rateLimitFilter.doFilter(request, response, chain)
+
+        then:
+        response.getStatus() == 413
+        chain.getRequest() == null
+    }
+
+    @Test "Cached body read listener case"() {
+        given:
+        def request = new CachedBodyHttpServletRequest(
+                new MockHttpServletRequest("POST", "/api/v1/users/sign-in"),
+                "test body".getBytes(StandardCharsets.UTF_8)
+        )
+        def readListener = Mock(ReadListener.class)
+
+        when:
+        request.getInputStream().setReadListener(readListener)
+
+        then:
+        1 * readListener.onDataAvailable()
+
+        then:
+        1 * readListener.onAllDataRead()
+        0 * readListener.onError(_)
+    }
+
+    private MockHttpServletRequest signInRequest(String remoteAddr, String body) {
+        return this.initSignInRequest(new MockHttpServletRequest("POST", "/api/v1/users/sign-in"), remoteAddr, body)
+    }
+
+    private MockHttpServletRequest chunkedSignInRequest(String remoteAddr, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/sign-in") {
+            @Override
+            int getContentLength() {
+                return -1
+            }
+
+            @Override
+            long getContentLengthLong() {
+                return -1L
+            }
+        }
+        return this.initSignInRequest(request, remoteAddr, body)
+    }
+
+    private MockHttpServletRequest initSignInRequest(MockHttpServletRequest request, String remoteAddr, String body) {
+        request.setRemoteAddr(remoteAddr)
+        request.setContentType("application/json")
+        request.setContent(body.getBytes(StandardCharsets.UTF_8))
+        return request
+    }
+}
@@ -0,0 +1,84 @@
+package net.causw.config
+
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.powermock.modules.junit4.PowerMockRunner
+import org.powermock.modules.junit4.PowerMockRunnerDelegate
+import org.spockframework.runtime.Sputnik
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Specification
+
+@ActiveProfiles(value = "test")
+@RunWith(PowerMockRunner.class)
+@PowerMockRunnerDelegate(Sputnik.class)
+class RateLimiterTest extends Specification {
+    private RateLimiter rateLimiter = new RateLimiter()
+
+    /**
+     * Test cases for token bucket
+     */
+    @Test "Rate limit within permits case"() {
+        expect:
+        (1..3).every { this.rateLimiter.tryAcquire("test key", 3) == 0L }
+    }
+
+    @Test "Rate limit exceeded case"() {
+        given:
+        (1..3).each { this.rateLimiter.tryAcquire("test key", 3) }
+
+        when:
+        def retryAfter = this.rateLimiter.tryAcquire("test key", 3)
+
+        then: "A token comes back every 20 seconds"
+        retryAfter > 0L
+        retryAfter <= 20L
+    }
+
+    @Test "Rate limit separate keys case"() {
+        given:
+        this.rateLimiter.tryAcquire("test key 1", 1)
+
+        expect:
+        this.rateLimiter.tryAcquire("test key 1", 1) > 0L
+        this.rateLimiter.tryAcquire("test key 2", 1) == 0L
+    }
+
+    @Test "Rate limit idle bucket eviction case"() {
+        given:
+        this.rateLimiter.tryAcquire("test key", 1)
+
+        when: "The bucket was refilled long enough ago"
+        this.rateLimiter.@bucketMap.get("test key").@refilledAt -= 61 * 1000 * 1000 * 1000L
+        this.rateLimiter.evictIdleBuckets()
+
+        then:
+        this.rateLimiter.@bucketMap.isEmpty()
+        this.rateLimiter.tryAcquire("test key", 1) == 0L
+    }
+
+    /**
+     * Test cases for full bucket map
+     */
+    @Test "Rate limit full of buckets in use case"() {
+        given:
+        (1..100000).each { this.rateLimiter.tryAcquire("test key " + it, 3) }
+
+        expect: "A new key is rejected, and the keys with a bucket keep their limit"
+        this.rateLimiter.tryAcquire("test new key", 3) > 0L
+        this.rateLimiter.tryAcquire("test key 1", 3) == 0L
+        this.rateLimiter.@bucketMap.size() == 100000
+    }
+
+    @Test "Rate limit full of idle buckets case"() {
+        given:
+        (1..100000).each { this.rateLimiter.tryAcquire("test key " + it, 3) }
+
+        when: "The buckets were refilled long enough ago"
+        this.rateLimiter.@bucketMap.values().each { it.@refilledAt -= 61 * 1000 * 1000 * 1000L }
+        def retryAfter = this.rateLimiter.tryAcquire("test new key", 3)
+
+        then: "The idle buckets are evicted to make room for the new key"
+        retryAfter == 0L
+        this.rateLimiter.@bucketMap.keySet() == ["test new key"] as Set
+    }
+}